@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks scheduling a lesson into the {@code LessonList} of one person.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LessonListBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 6);
+    private static final LocalTime START = LocalTime.of(9, 0);
+
+    @Param({"10", "100", "1000"})
+    public int lessonCount;
+
+    private LessonList lessonList;
+    private Lesson newLesson;
+
+    /**
+     * Creates a list of {@code lessonCount} daily lessons, and a new lesson that falls in the middle of them.
+     */
+    @Setup
+    public void setUp() {
+        ArrayList<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i++) {
+            lessons.add(new Lesson(START, START.plusHours(1), FIRST_DATE.plusDays(i), "math"));
+        }
+        lessonList = new LessonList(lessons);
+        newLesson = new Lesson(START.plusHours(2), START.plusHours(3), FIRST_DATE.plusDays(lessonCount / 2), "math");
+    }
+
+    @Benchmark
+    public LessonList add() {
+        return lessonList.add(newLesson);
+    }
+
+    @Benchmark
+    public boolean hasOverlappingLesson() {
+        return lessonList.hasOverlappingLesson(newLesson);
+    }
+
+    @Benchmark
+    public boolean hasDuplicates() {
+        return lessonList.hasDuplicates(newLesson);
+    }
+}
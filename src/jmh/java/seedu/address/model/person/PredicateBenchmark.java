@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks the {@code search} and {@code filter} predicates over a whole roster, both by testing every person and
+ * through the indexes of {@code AddressBook}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private final PersonContainsKeywordPredicate keywordPredicate =
+            new PersonContainsKeywordPredicate(List.of("yeoh 12"));
+    private final AttributeContainsPredicate attributePredicate = new AttributeContainsPredicate(
+            Map.of("subject", Set.of("math", "physics"), "level", Set.of("sec3")));
+
+    private AddressBook addressBook;
+
+    /**
+     * Creates an address book of {@code rosterSize} persons.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(rosterSize);
+    }
+
+    @Benchmark
+    public long personContainsKeyword() {
+        return countMatches(keywordPredicate);
+    }
+
+    @Benchmark
+    public long personContainsKeywordIndexed() {
+        return countMatches(addressBook.getIndexedPredicate(keywordPredicate));
+    }
+
+    @Benchmark
+    public long attributeContains() {
+        return countMatches(attributePredicate);
+    }
+
+    @Benchmark
+    public long attributeContainsIndexed() {
+        return countMatches(addressBook.getIndexedPredicate(attributePredicate));
+    }
+
+    private long countMatches(Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).count();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks the duplicate checks of {@code UniquePersonList}, which run on every add and edit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private Person existingPerson;
+    private Person newPerson;
+
+    /**
+     * Fills the list with {@code rosterSize} persons.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = SyntheticDataUtil.getSyntheticPersons(rosterSize);
+        uniquePersonList.setPersons(persons);
+        existingPerson = persons.get(rosterSize / 2);
+        newPerson = SyntheticDataUtil.getSyntheticPerson(SampleDataUtil.getSamplePersons()[0], rosterSize);
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return uniquePersonList.contains(existingPerson);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return uniquePersonList.contains(newPerson);
+    }
+
+    /**
+     * Adds a person and removes it again, so that every invocation sees the same roster.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        uniquePersonList.add(newPerson);
+        uniquePersonList.remove(newPerson);
+        return uniquePersonList;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeList;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Contains utility methods for generating rosters of any size for benchmarks, by varying the persons of
+ * {@link SampleDataUtil}.
+ */
+public class SyntheticDataUtil {
+
+    public static final String[] SUBJECTS = {"math", "physics", "chemistry", "biology", "english", "history"};
+    public static final String[] LEVELS = {"sec1", "sec2", "sec3", "sec4"};
+    public static final int LESSONS_PER_PERSON = 4;
+
+    private static final LocalDate FIRST_LESSON_DATE = LocalDate.of(2025, 1, 6);
+
+    /**
+     * Returns {@code count} distinct persons with attributes, lessons and grades.
+     */
+    public static List<Person> getSyntheticPersons(int count) {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getSyntheticPerson(samplePersons[i % samplePersons.length], i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} distinct persons.
+     *
+     * @see #getSyntheticPersons(int)
+     */
+    public static AddressBook getSyntheticAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getSyntheticPersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns a variant of {@code samplePerson} that is distinct for every {@code seed}.
+     * The person takes a weekly lesson in one of {@link #SUBJECTS} and has a grade for it.
+     */
+    public static Person getSyntheticPerson(Person samplePerson, int seed) {
+        String subject = SUBJECTS[seed % SUBJECTS.length];
+        Set<Attribute> attributes = SampleDataUtil.getAttributeSet(new Attribute("subject", subject),
+                new Attribute("level", LEVELS[seed % LEVELS.length]));
+
+        ArrayList<Lesson> lessons = new ArrayList<>();
+        LocalDate date = FIRST_LESSON_DATE.plusDays(seed % 7);
+        LocalTime start = LocalTime.of(8 + seed % 10, 0);
+        for (int week = 0; week < LESSONS_PER_PERSON; week++) {
+            lessons.add(new Lesson(start, start.plusHours(1), date.plusWeeks(week), subject, week % 2 == 0));
+        }
+
+        GradeList grades = new GradeList().addGrade(new Grade(subject, "WA1", String.valueOf(50 + seed % 50)));
+
+        return new Person(new Name(samplePerson.getName().fullName + " " + seed),
+                new Phone(String.valueOf(80000000 + seed)), new Email("student" + seed + "@example.com"),
+                samplePerson.getAddress(), SampleDataUtil.EMPTY_REMARK, samplePerson.getTags(), attributes,
+                new LessonList(lessons), grades);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Benchmarks loading and saving the address book as JSON, which happen on startup and after every change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private Path tempFolder;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+    private List<JsonAdaptedPerson> jsonAdaptedPersons;
+
+    /**
+     * Saves an address book of {@code rosterSize} persons to a temporary data file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(rosterSize);
+        jsonAdaptedPersons = addressBook.getPersonList().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        tempFolder = Files.createTempDirectory("benchmark");
+        storage = new JsonAddressBookStorage(tempFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary data file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(tempFolder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Benchmark
+    public Path saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage.getAddressBookFilePath();
+    }
+
+    @Benchmark
+    public void toModelType(Blackhole blackhole) throws IllegalValueException {
+        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+            blackhole.consume(jsonAdaptedPerson.toModelType());
+        }
+    }
+}
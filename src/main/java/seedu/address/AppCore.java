@@ -0,0 +1,257 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandLatencyStats;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
+
+/**
+ * The components of the application other than the UI: the config, storage, model and logic.
+ * Shared by the GUI ({@link MainApp}) and the headless runner ({@link HeadlessMain}), so it must not use JavaFX
+ * classes that need the JavaFX toolkit.
+ */
+public class AppCore {
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Initializes the components using the config file at {@code configFilePath}, or the default config file if
+     * {@code configFilePath} is null.
+     */
+    public AppCore(Path configFilePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage, new WriteBehindAddressBookSaver(storage));
+
+        if (config.getStatsLogIntervalSeconds() > 0) {
+            logger.info("Logging command latencies every " + config.getStatsLogIntervalSeconds() + " seconds");
+            CommandLatencyStats.getInstance().startLogging(config.getStatsLogIntervalSeconds());
+        }
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Writes the changes that have not been saved yet and the user prefs, and stops logging command latencies.
+     * Failures are logged.
+     */
+    public void stop() {
+        CommandLatencyStats.getInstance().stopLogging();
+        try {
+            logic.flushPendingSaves();
+            storage.compactAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}.
+     * The storage format is chosen by the extension of the data file. JSON data files journal changes if
+     * {@code userPrefs} has a journal compaction interval.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        if (BinaryAddressBookStorage.isBinaryFile(userPrefs.getAddressBookFilePath())) {
+            logger.info("Using the binary storage format");
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+        if (userPrefs.getJournalCompactionInterval() > 0) {
+            logger.info("Journaling changes, compacting every " + userPrefs.getJournalCompactionInterval()
+                    + " changes");
+            return new JournalingAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getJournalCompactionInterval());
+        }
+        return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                addressBookOptional = convertAddressBookInOtherFormat(storage);
+            }
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Converts the address book in the data file next to {@code storage}'s data file that is stored in the other
+     * storage format, so that changing the format of the data file in the user prefs keeps the existing data.
+     * Returns {@code Optional.empty()} if there is no such data file.
+     */
+    private Optional<ReadOnlyAddressBook> convertAddressBookInOtherFormat(Storage storage)
+            throws DataLoadingException {
+        Path filePath = storage.getAddressBookFilePath();
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart < 0 ? fileName : fileName.substring(0, extensionStart);
+        boolean isBinary = BinaryAddressBookStorage.isBinaryFile(filePath);
+        String otherExtension = isBinary ? ".json" : BinaryAddressBookStorage.FILE_EXTENSION;
+        Path otherFilePath = filePath.resolveSibling(baseName + otherExtension);
+        AddressBookStorage otherStorage = isBinary
+                ? new JsonAddressBookStorage(otherFilePath)
+                : new BinaryAddressBookStorage(otherFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBookOptional = otherStorage.readAddressBook();
+        if (addressBookOptional.isPresent()) {
+            logger.info("Converting data file " + otherFilePath + " to " + filePath);
+            try {
+                storage.saveAddressBook(addressBookOptional.get());
+            } catch (IOException e) {
+                logger.warning("Failed to save converted data file : " + StringUtil.getDetails(e));
+            }
+        }
+        return addressBookOptional;
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
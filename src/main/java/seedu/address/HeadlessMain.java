@@ -0,0 +1,134 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without the GUI, executing the commands read from a script file or the standard input.
+ * The result of each command is written to the standard output and errors to the standard error, so that the
+ * application can be driven by scheduled jobs and pipelines on machines without a display.
+ *
+ * The JavaFX toolkit is never started, so this class must not refer to {@link MainApp} or the UI.
+ */
+public class HeadlessMain {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String CONFIG_OPTION = "--config=";
+    public static final String MESSAGE_USAGE = "Usage: " + HEADLESS_FLAG + " [" + CONFIG_OPTION + "CONFIG_FILE]"
+            + " [SCRIPT_FILE]\nReads commands from SCRIPT_FILE, or from the standard input if it is not given.";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_COMMAND_FAILED = 1;
+    private static final int EXIT_USAGE_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code HeadlessMain} that executes commands with {@code logic}.
+     */
+    public HeadlessMain(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes each line of {@code input} as a command until the input ends or a command exits the application,
+     * writing the result of each command to {@code output} and the error of each failed command to
+     * {@code errorOutput}. Blank lines and lines starting with {@code #} are ignored.
+     * Output is flushed whenever no more input is immediately available, so results are streamed to interactive users
+     * without flushing after every command when commands arrive faster than they are executed.
+     *
+     * @return the number of commands that failed.
+     */
+    public int run(BufferedReader input, PrintWriter output, PrintWriter errorOutput) throws IOException {
+        int lineNumber = 0;
+        int failedCommandCount = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith("#")) {
+                continue;
+            }
+
+            try {
+                CommandResult result = logic.execute(commandText);
+                output.println(result.getFeedbackToUser());
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCommandCount++;
+                errorOutput.println(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+                errorOutput.flush();
+            }
+
+            if (!input.ready()) {
+                output.flush();
+            }
+        }
+        output.flush();
+        return failedCommandCount;
+    }
+
+    /**
+     * Runs the commands given by {@code args}, which are the command-line arguments without {@link #HEADLESS_FLAG},
+     * and exits with status 0 if all of them succeeded, 1 if any failed, or 2 if {@code args} are invalid.
+     */
+    public static void main(String[] args) {
+        Path configPath = null;
+        Path scriptPath = null;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION) && FileUtil.isValidPath(arg.substring(CONFIG_OPTION.length()))) {
+                configPath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (scriptPath == null && !arg.startsWith("--") && FileUtil.isValidPath(arg)) {
+                scriptPath = Paths.get(arg);
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(EXIT_USAGE_ERROR);
+            }
+        }
+
+        logger.info("=========================[ Initializing ClassRosterPro (headless) ]=======================");
+        AppCore appCore = new AppCore(configPath);
+        PrintWriter output = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        PrintWriter errorOutput = new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8), true);
+        appCore.getLogic().setSaveErrorHandler(errorOutput::println);
+
+        int failedCommandCount;
+        try (BufferedReader input = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath)) {
+            failedCommandCount = new HeadlessMain(appCore.getLogic()).run(input, output, errorOutput);
+        } catch (IOException e) {
+            errorOutput.println("Could not read commands: " + e.getMessage());
+            failedCommandCount = 1;
+        } finally {
+            logger.info("========================[ Stopping ClassRosterPro (headless) ]=========================");
+            appCore.stop();
+        }
+        System.exit(failedCommandCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED);
+    }
+}
@@ -0,0 +1,459 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map that shares structure between versions (a hash array mapped trie).
+ * Guarantees: immutable; keys and values are non-null.
+ *
+ * {@link #put} and {@link #remove} return a new map, copying only the O(log n) trie nodes on the path to the
+ * changed key and sharing every other node with this map. Each trie node branches on 5 bits of the key's hash code,
+ * and keys whose whole hash codes collide share a single collision node.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ */
+public class HashTrieMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_BITS = 32;
+
+    private static final HashTrieMap<?, ?> EMPTY = new HashTrieMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+    private final Map<K, V> mapView = new MapView();
+
+    private HashTrieMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashTrieMap<K, V> empty() {
+        return (HashTrieMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of {@code map}.
+     */
+    public static <K, V> HashTrieMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        requireNonNull(map);
+        HashTrieMap<K, V> copy = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            copy = copy.put(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    public V get(Object key) {
+        if (root == null || key == null) {
+            return null;
+        }
+        Map.Entry<K, V> entry = root.find(key.hashCode(), 0, key);
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * Returns true if {@code key} is mapped to a value.
+     */
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map in which {@code key} is mapped to {@code value}, replacing any value mapped to it before.
+     */
+    public HashTrieMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(key, value);
+        int hash = key.hashCode();
+        if (root == null) {
+            return new HashTrieMap<>(new BitmapNode(bitFor(hash, 0), new Object[] {entry}), 1);
+        }
+
+        Node newRoot = root.put(hash, 0, entry);
+        if (newRoot == root) {
+            return this;
+        }
+        return new HashTrieMap<>(newRoot, containsKey(key) ? size : size + 1);
+    }
+
+    /**
+     * Returns a map without the mapping for {@code key}, or this map if {@code key} is not mapped.
+     */
+    public HashTrieMap<K, V> remove(Object key) {
+        requireNonNull(key);
+        if (root == null) {
+            return this;
+        }
+
+        Node newRoot = root.remove(key.hashCode(), 0, key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new HashTrieMap<>(newRoot, size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an unmodifiable {@code Map} view of this map, which does not copy any entries.
+     */
+    public Map<K, V> asMap() {
+        return mapView;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HashTrieMap)) {
+            return false;
+        }
+
+        HashTrieMap<?, ?> otherMap = (HashTrieMap<?, ?>) other;
+        return mapView.equals(otherMap.mapView);
+    }
+
+    @Override
+    public int hashCode() {
+        return mapView.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return mapView.toString();
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Returns a node holding both entries, which are known to have different keys.
+     */
+    private static Node mergeEntries(Map.Entry<?, ?> first, int firstHash,
+                                     Map.Entry<?, ?> second, int secondHash, int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(new Object[] {first, second});
+        }
+
+        int firstBit = bitFor(firstHash, shift);
+        int secondBit = bitFor(secondHash, shift);
+        if (firstBit == secondBit) {
+            Node child = mergeEntries(first, firstHash, second, secondHash, shift + BITS_PER_LEVEL);
+            return new BitmapNode(firstBit, new Object[] {child});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new BitmapNode(firstBit | secondBit, slots);
+    }
+
+    /**
+     * Returns a copy of {@code array} with {@code element} at {@code index}.
+     */
+    private static Object[] replaced(Object[] array, int index, Object element) {
+        Object[] copy = array.clone();
+        copy[index] = element;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of {@code array} with {@code element} inserted at {@code index}.
+     */
+    private static Object[] inserted(Object[] array, int index, Object element) {
+        Object[] copy = new Object[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = element;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of {@code array} without the element at {@code index}.
+     */
+    private static Object[] removed(Object[] array, int index) {
+        Object[] copy = new Object[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * A node of the trie. Its slots hold entries ({@code Map.Entry}) and child nodes.
+     * Nodes are never modified once created.
+     */
+    private abstract static class Node {
+        protected final Object[] slots;
+
+        Node(Object[] slots) {
+            this.slots = slots;
+        }
+
+        abstract <K, V> Map.Entry<K, V> find(int hash, int shift, Object key);
+
+        /**
+         * Returns a node that also maps the key of {@code entry}, or this node if it already maps it to the same value.
+         */
+        abstract Node put(int hash, int shift, Map.Entry<?, ?> entry);
+
+        /**
+         * Returns a node without {@code key}, this node if it does not contain {@code key}, or null if left empty.
+         */
+        abstract Node remove(int hash, int shift, Object key);
+
+        /**
+         * Returns the only entry of this node if it holds exactly one entry and no child nodes, or null otherwise.
+         */
+        Object getSingleEntry() {
+            return slots.length == 1 && !(slots[0] instanceof Node) ? slots[0] : null;
+        }
+    }
+
+    /**
+     * A node whose slots are the occupied positions of a 32-way branch, in order of the bits set in its bitmap.
+     */
+    private static class BitmapNode extends Node {
+        private final int bitmap;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            super(slots);
+            this.bitmap = bitmap;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, V> Map.Entry<K, V> find(int hash, int shift, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[indexOf(bit)];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(hash, shift + BITS_PER_LEVEL, key);
+            }
+            Map.Entry<K, V> entry = (Map.Entry<K, V>) slot;
+            return entry.getKey().equals(key) ? entry : null;
+        }
+
+        @Override
+        Node put(int hash, int shift, Map.Entry<?, ?> entry) {
+            int bit = bitFor(hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                return new BitmapNode(bitmap | bit, inserted(slots, index, entry));
+            }
+
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.put(hash, shift + BITS_PER_LEVEL, entry);
+                return newChild == child ? this : new BitmapNode(bitmap, replaced(slots, index, newChild));
+            }
+
+            Map.Entry<?, ?> existing = (Map.Entry<?, ?>) slot;
+            if (existing.getKey().equals(entry.getKey())) {
+                return existing.getValue() == entry.getValue()
+                        ? this
+                        : new BitmapNode(bitmap, replaced(slots, index, entry));
+            }
+            Node child = mergeEntries(existing, existing.getKey().hashCode(), entry, hash, shift + BITS_PER_LEVEL);
+            return new BitmapNode(bitmap, replaced(slots, index, child));
+        }
+
+        @Override
+        Node remove(int hash, int shift, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int index = indexOf(bit);
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.remove(hash, shift + BITS_PER_LEVEL, key);
+                if (newChild == child) {
+                    return this;
+                }
+                // keep the trie compact by pulling a lone entry up into this node
+                Object singleEntry = newChild == null ? null : newChild.getSingleEntry();
+                newSlot = singleEntry != null ? singleEntry : newChild;
+            } else if (((Map.Entry<?, ?>) slot).getKey().equals(key)) {
+                newSlot = null;
+            } else {
+                return this;
+            }
+
+            if (newSlot != null) {
+                return new BitmapNode(bitmap, replaced(slots, index, newSlot));
+            }
+            return bitmap == bit ? null : new BitmapNode(bitmap & ~bit, removed(slots, index));
+        }
+    }
+
+    /**
+     * A node holding entries whose keys have the same hash code.
+     */
+    private static class CollisionNode extends Node {
+
+        CollisionNode(Object[] slots) {
+            super(slots);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < slots.length; i++) {
+                if (((Map.Entry<?, ?>) slots[i]).getKey().equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, V> Map.Entry<K, V> find(int hash, int shift, Object key) {
+            int index = indexOf(key);
+            return index < 0 ? null : (Map.Entry<K, V>) slots[index];
+        }
+
+        @Override
+        Node put(int hash, int shift, Map.Entry<?, ?> entry) {
+            int index = indexOf(entry.getKey());
+            if (index < 0) {
+                return new CollisionNode(inserted(slots, slots.length, entry));
+            }
+            return ((Map.Entry<?, ?>) slots[index]).getValue() == entry.getValue()
+                    ? this
+                    : new CollisionNode(replaced(slots, index, entry));
+        }
+
+        @Override
+        Node remove(int hash, int shift, Object key) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            return slots.length == 1 ? null : new CollisionNode(removed(slots, index));
+        }
+    }
+
+    /**
+     * Iterates over the entries of the trie depth-first, keeping one iterator per level of the trie.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Iterator<Object>> levels = new ArrayDeque<>();
+        private Map.Entry<K, V> next;
+
+        EntryIterator() {
+            if (root != null) {
+                levels.push(Arrays.asList(root.slots).iterator());
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (next == null && !levels.isEmpty()) {
+                Iterator<Object> level = levels.peek();
+                if (!level.hasNext()) {
+                    levels.pop();
+                    continue;
+                }
+                Object slot = level.next();
+                if (slot instanceof Node) {
+                    levels.push(Arrays.asList(((Node) slot).slots).iterator());
+                } else {
+                    next = (Map.Entry<K, V>) slot;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> current = next;
+            advance();
+            return current;
+        }
+    }
+
+    /**
+     * An unmodifiable {@code Map} backed by the trie.
+     */
+    private class MapView extends AbstractMap<K, V> {
+        private final Set<Map.Entry<K, V>> entrySet = new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public V get(Object key) {
+            return HashTrieMap.this.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return HashTrieMap.this.containsKey(key);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +13,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +27,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -77,6 +83,56 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayFieldName} of the JSON object in the given file one at a time,
+     * passing each to {@code elementHandler} as soon as it is read, instead of reading the whole file at once.
+     * Other fields of the object are skipped.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if reading of the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayElements(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                JsonParser parser = objectMapper.getFactory().createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + fieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected a JSON object in field " + fieldName);
+                    }
+                    elementHandler.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -111,6 +167,29 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read by {@link #readJsonArrayElements(Path, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Handles {@code element}.
+         *
+         * @throws IllegalValueException if {@code element} is not acceptable.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Measures how many times per second an event happens, e.g. how often the UI redraws a list cell.
+ * Events are counted in windows of about one second, and the rate of the last complete window is kept.
+ */
+public class RateMeter {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final LongSupplier nanoClock;
+    private long windowStart;
+    private int eventsInWindow;
+    private double lastRate;
+
+    public RateMeter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a {@code RateMeter} that reads the time in nanoseconds from {@code nanoClock}.
+     */
+    public RateMeter(LongSupplier nanoClock) {
+        requireNonNull(nanoClock);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records one event.
+     *
+     * @return true if this event completed a window, in which case {@link #getRate()} has just been updated.
+     */
+    public boolean record() {
+        long now = nanoClock.getAsLong();
+        if (eventsInWindow == 0) {
+            windowStart = now;
+        }
+        eventsInWindow++;
+
+        long elapsed = now - windowStart;
+        if (elapsed < WINDOW_NANOS) {
+            return false;
+        }
+        lastRate = eventsInWindow * (double) WINDOW_NANOS / elapsed;
+        eventsInWindow = 0;
+        return true;
+    }
+
+    /**
+     * Returns the number of events per second in the last complete window, or 0 if no window has completed yet.
+     */
+    public double getRate() {
+        return lastRate;
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.LatencyHistogram;
+
+/**
+ * Records how long the stages of executing commands take, per command word.
+ * Recording does not lock, so it adds little to the time of the commands it measures.
+ */
+public class CommandLatencyStats {
+
+    /**
+     * The stages of executing a command that are timed.
+     * {@code SAVE} is the time a command waits for its changes to be saved, which is only the time to queue them
+     * when the address book is saved in the background.
+     * {@code RENDER} is the time from the last keystroke to the redrawn list, and is only timed for live searches.
+     */
+    public enum Stage {
+        PARSE, EXECUTE, SAVE, RENDER
+    }
+
+    public static final String MESSAGE_HEADER = "Command latencies in ms (p50 / p99 / max):";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet.";
+
+    private static final CommandLatencyStats INSTANCE = new CommandLatencyStats();
+    private static final Logger logger = LogsCenter.getLogger(CommandLatencyStats.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService logExecutor;
+
+    /**
+     * Creates empty stats, separate from the stats of the app returned by {@link #getInstance()}.
+     */
+    public CommandLatencyStats() {
+    }
+
+    /**
+     * Returns the stats of the commands executed by the app.
+     */
+    public static CommandLatencyStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that {@code stage} of a command with the given {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Stage stage, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(stage);
+        histograms.computeIfAbsent(commandWord, unused -> newStageHistograms())[stage.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns the histogram of the durations of {@code stage} of the commands with the given {@code commandWord},
+     * which is empty if no such command was timed.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Stage stage) {
+        LatencyHistogram[] stageHistograms = histograms.get(commandWord);
+        return stageHistograms == null ? new LatencyHistogram() : stageHistograms[stage.ordinal()];
+    }
+
+    /**
+     * Returns a summary of the latencies of each stage, one line per command word in alphabetical order.
+     * The count on each line is that of its most often timed stage.
+     */
+    public String getSummary() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram[] stageHistograms = entry.getValue();
+            long count = 0;
+            for (LatencyHistogram histogram : stageHistograms) {
+                count = Math.max(count, histogram.getCount());
+            }
+            summary.append('\n').append(entry.getKey()).append(" (").append(count).append("x)");
+            for (Stage stage : Stage.values()) {
+                if (stage == Stage.RENDER && stageHistograms[stage.ordinal()].getCount() == 0) {
+                    continue;
+                }
+                summary.append(" | ").append(stage.name().toLowerCase()).append(' ')
+                        .append(formatHistogram(stageHistograms[stage.ordinal()]));
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Logs the summary every {@code intervalSeconds} seconds on a background thread, until {@link #stopLogging()}.
+     * Replaces any earlier periodic logging.
+     */
+    public synchronized void startLogging(long intervalSeconds) {
+        stopLogging();
+        logExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-latency-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logExecutor.scheduleAtFixedRate(() -> logger.info(getSummary()), intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic logging started by {@link #startLogging(long)}, if any.
+     */
+    public synchronized void stopLogging() {
+        if (logExecutor != null) {
+            logExecutor.shutdownNow();
+            logExecutor = null;
+        }
+    }
+
+    private static LatencyHistogram[] newStageHistograms() {
+        LatencyHistogram[] stageHistograms = new LatencyHistogram[Stage.values().length];
+        for (int i = 0; i < stageHistograms.length; i++) {
+            stageHistograms[i] = new LatencyHistogram();
+        }
+        return stageHistograms;
+    }
+
+    private static String formatHistogram(LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return "-";
+        }
+        return String.format("%.3f / %.3f / %.3f", histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI, histogram.getMax() / NANOS_PER_MILLI);
+    }
+}
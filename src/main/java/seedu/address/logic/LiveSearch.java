@@ -0,0 +1,211 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.CommandLatencyStats.Stage;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+
+/**
+ * Shows the persons matching search keywords while they are being typed, without blocking the thread that owns the
+ * filtered person list (the JavaFX application thread).
+ *
+ * Each search is evaluated on a background thread against a snapshot of the persons. A new search cancels the
+ * evaluation of the previous one, and only the result of the latest search is published to the filtered person list.
+ * When the new keywords narrow the published ones (e.g. a keyword is typed further), only the persons matched before
+ * are evaluated, and the list is refined instead of filtered again.
+ *
+ * Apart from the constructors, the methods must be called on the thread that owns the filtered person list.
+ */
+public class LiveSearch {
+
+    /** The name under which the latencies of live searches are recorded. */
+    public static final String STATS_KEY = SearchCommand.COMMAND_WORD + " (live)";
+
+    /** Number of persons evaluated between checks for cancellation. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    private final Logic logic;
+    private final ExecutorService evaluator;
+    private final Executor publisher;
+    private final CommandLatencyStats stats;
+
+    private Future<?> pendingEvaluation;
+    private long generation;
+    private long personListVersion;
+    private Result published;
+
+    /**
+     * Creates a {@code LiveSearch} that evaluates searches on its own background thread and publishes them through
+     * {@code publisher}, which must run tasks on the thread that owns the filtered person list.
+     */
+    public LiveSearch(Logic logic, Executor publisher) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        }), publisher, CommandLatencyStats.getInstance());
+    }
+
+    /**
+     * Creates a {@code LiveSearch} that evaluates searches with {@code evaluator}, publishes them through
+     * {@code publisher} and records their latencies in {@code stats}.
+     */
+    public LiveSearch(Logic logic, ExecutorService evaluator, Executor publisher, CommandLatencyStats stats) {
+        requireAllNonNull(logic, evaluator, publisher, stats);
+        this.logic = logic;
+        this.evaluator = evaluator;
+        this.publisher = publisher;
+        this.stats = stats;
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) unused -> {
+            // Results evaluated against the previous persons can neither be published nor refined
+            personListVersion++;
+            published = null;
+        });
+    }
+
+    /**
+     * Starts showing the persons matching any of the whitespace-separated {@code keywordText}, in place of any search
+     * still being evaluated. {@code onPublished} is run on this thread once the matches are in the filtered list.
+     */
+    public void search(String keywordText, Runnable onPublished) {
+        requireAllNonNull(keywordText, onPublished);
+        cancelPendingEvaluation();
+
+        List<String> keywords = keywordText.isBlank() ? List.of() : Arrays.asList(keywordText.trim().split("\\s+"));
+        PersonContainsKeywordPredicate predicate = new PersonContainsKeywordPredicate(keywords);
+        boolean isRefinement = published != null && predicate.refines(published.predicate);
+        List<Person> candidates = isRefinement
+                ? published.matches
+                : List.copyOf(logic.getAddressBook().getPersonList());
+        long searchGeneration = generation;
+        long searchPersonListVersion = personListVersion;
+
+        pendingEvaluation = evaluator.submit(() -> {
+            long evaluationStart = System.nanoTime();
+            Result result = evaluate(predicate, candidates);
+            if (result == null) {
+                return;
+            }
+            stats.record(STATS_KEY, Stage.EXECUTE, System.nanoTime() - evaluationStart);
+            publisher.execute(() -> {
+                if (searchGeneration != generation) {
+                    // superseded by a later search, or cancelled
+                    return;
+                }
+                pendingEvaluation = null;
+                if (searchPersonListVersion != personListVersion) {
+                    search(keywordText, onPublished);
+                    return;
+                }
+                publish(result, isRefinement);
+                onPublished.run();
+            });
+        });
+    }
+
+    /**
+     * Cancels the search being evaluated, if any, and leaves the filtered list as it is, e.g. before a command
+     * replaces its contents.
+     */
+    public void cancel() {
+        cancelPendingEvaluation();
+        published = null;
+    }
+
+    /**
+     * Cancels the search being evaluated, if any, and shows all persons again if search results are shown.
+     */
+    public void clear() {
+        cancelPendingEvaluation();
+        if (published != null) {
+            published = null;
+            logic.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    private void cancelPendingEvaluation() {
+        generation++;
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(true);
+            pendingEvaluation = null;
+        }
+    }
+
+    /**
+     * Returns the candidates matching {@code predicate}, or null if the evaluation was cancelled.
+     */
+    private static Result evaluate(PersonContainsKeywordPredicate predicate, List<Person> candidates) {
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            Person candidate = candidates.get(i);
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return new Result(predicate, matches);
+    }
+
+    private void publish(Result result, boolean isRefinement) {
+        ResultPredicate resultPredicate = new ResultPredicate(result);
+        if (isRefinement) {
+            // The new keywords narrow the published ones, so this result only accepts persons the published one does
+            logic.refineFilteredPersonList(resultPredicate);
+        } else {
+            logic.updateFilteredPersonList(resultPredicate);
+        }
+        resultPredicate.isPublished = true;
+        published = result;
+    }
+
+    /**
+     * The persons matched by an evaluated search, in the order of the address book.
+     */
+    private static class Result {
+        private final PersonContainsKeywordPredicate predicate;
+        private final List<Person> matches;
+        private final Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Result(PersonContainsKeywordPredicate predicate, List<Person> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+            matchSet.addAll(matches);
+        }
+    }
+
+    /**
+     * Accepts the persons matched by a search without testing them again. Once the result is published, persons that
+     * were not evaluated (e.g. persons edited afterwards) are tested against the keywords instead.
+     */
+    private static class ResultPredicate implements Predicate<Person> {
+        private final Result result;
+        private boolean isPublished;
+
+        private ResultPredicate(Result result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return result.matchSet.contains(person) || (isPublished && result.predicate.test(person));
+        }
+    }
+}
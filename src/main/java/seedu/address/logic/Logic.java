@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -24,6 +27,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order as one change to the address book, which is saved once after all of them.
+     * If any command fails, none of the changes made by the commands are kept.
+     * Blank lines and lines starting with {@code #} are ignored.
+     * @param commandTexts The commands, one per element, as they would be entered by the user.
+     * @return the result of the batch, with the result of each command and the number of commands run per second.
+     * @throws CommandException If an error occurs during the execution of any of the commands.
+     * @throws ParseException If an error occurs during parsing of any of the commands.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -42,6 +56,14 @@ public interface Logic {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Narrows the filtered person list to the persons in it that match the given predicate.
+     * Only the persons currently in the list are tested.
+     *
+     * @param predicate Predicate that only accepts persons that the current predicate accepts.
+     */
+    void refineFilteredPersonList(Predicate<Person> predicate);
+
     /** Returns the user prefs' address book file path. */
     Path getAddressBookFilePath();
 
@@ -50,5 +72,18 @@ public interface Logic {
 
     /** Sets the user prefs' GUI settings. */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given an error message whenever saving the address book in the background fails.
+     * The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Saves any changes that are still waiting to be saved in the background.
+     *
+     * @throws IOException if the changes could not be saved.
+     */
+    void flushPendingSaves() throws IOException;
 }
 
@@ -1,16 +1,22 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandLatencyStats.Stage;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -18,6 +24,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main {@code LogicManager} of the app.
@@ -28,38 +35,119 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or folder.";
 
+    /** The name under which the parse times of input that is not a valid command are recorded. */
+    public static final String PARSE_FAILURE_STATS_KEY = "(invalid)";
+
+    /** The name under which the times of background writes of the address book are recorded. */
+    public static final String DISK_WRITE_STATS_KEY = "(disk write)";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindAddressBookSaver saver;
+    private final CommandLatencyStats stats = CommandLatencyStats.getInstance();
+    private volatile Consumer<String> saveErrorHandler = unused -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before {@link #execute(String)} returns, and save errors are thrown from it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address book
+     * through {@code saver} in the background.
+     * Save errors are reported to the handler set with {@link #setSaveErrorHandler(Consumer)}.
+     * The save time of each command is then only the time taken to queue the save; the writes themselves are timed
+     * under {@link #DISK_WRITE_STATS_KEY}.
+     * If {@code saver} is null, the address book is saved before {@link #execute(String)} returns instead.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindAddressBookSaver saver) {
         this.model = model;
         this.storage = storage;
         this.addressBookParser = new AddressBookParser();
+        this.saver = saver;
+        if (saver != null) {
+            saver.setFailureHandler(e -> saveErrorHandler.accept(getSaveErrorMessage(e)));
+            saver.setWriteTimeHandler(nanos -> stats.record(DISK_WRITE_STATS_KEY, Stage.SAVE, nanos));
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        Command command = addressBookParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
+        long parseStart = System.nanoTime();
+        Command command = null;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } finally {
+            // input that cannot be parsed shares one entry, however many different words are typed
+            String commandWord = command == null ? PARSE_FAILURE_STATS_KEY : command.getCommandWord();
+            stats.record(commandWord, Stage.PARSE, System.nanoTime() - parseStart);
+        }
+        return executeCommand(command.getCommandWord(), command);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " LINES]");
 
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseBatch(commandTexts);
+        } finally {
+            stats.record(RunCommand.COMMAND_WORD, Stage.PARSE, System.nanoTime() - parseStart);
+        }
+        return executeCommand(RunCommand.COMMAND_WORD, command);
+    }
+
+    /**
+     * Executes {@code command}, makes its changes one step of the undo history, and saves them.
+     * The time taken by each stage is recorded under {@code commandWord}.
+     */
+    private CommandResult executeCommand(String commandWord, Command command) throws CommandException {
+        CommandResult commandResult;
+        long executeStart = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            commandResult = command.execute(model);
+        } finally {
+            // even a failed command may have changed the address book before failing
+            model.commitAddressBook();
+            stats.record(commandWord, Stage.EXECUTE, System.nanoTime() - executeStart);
+        }
+
+        if (!command.isMutating()) {
+            return commandResult;
+        }
+
+        long saveStart = System.nanoTime();
+        try {
+            if (saver != null) {
+                saver.requestSave(model.getAddressBook());
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        } finally {
+            stats.record(commandWord, Stage.SAVE, System.nanoTime() - saveStart);
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -75,6 +163,11 @@ public class LogicManager implements Logic {
         model.updateFilteredPersonList(predicate);
     }
 
+    @Override
+    public void refineFilteredPersonList(Predicate<Person> predicate) {
+        model.refineFilteredPersonList(predicate);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -89,5 +182,18 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        if (saver != null) {
+            saver.flush();
+        }
+    }
 }
 
@@ -50,6 +50,11 @@ public class AddCommand extends Command {
         toAdd = person;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
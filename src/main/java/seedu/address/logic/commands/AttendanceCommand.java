@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AttendanceCount;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the number of lessons attended out of the lessons scheduled, per subject, per week or per student.
+ */
+public class AttendanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of lessons attended out of the lessons scheduled for all students, "
+            + "per subject (default), per ISO week or per student.\n"
+            + "Parameters: [view/subject|week|student]\n"
+            + "Example: " + COMMAND_WORD + " view/week";
+
+    public static final String MESSAGE_SUCCESS = "Attendance per %1$s (overall %2$s):\n%3$s";
+    public static final String MESSAGE_NO_LESSONS = "No lessons have been scheduled.";
+
+    /**
+     * The ways of grouping the lessons of all students.
+     */
+    public enum View {
+        SUBJECT, WEEK, STUDENT
+    }
+
+    private final View view;
+
+    /**
+     * Creates an AttendanceCommand to show the attendance grouped by {@code view}.
+     */
+    public AttendanceCommand(View view) {
+        requireNonNull(view);
+        this.view = view;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SortedMap<String, AttendanceCount> subjectAttendance = model.getSubjectAttendance();
+        if (subjectAttendance.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_LESSONS);
+        }
+
+        AttendanceCount overall = AttendanceCount.NONE;
+        for (AttendanceCount count : subjectAttendance.values()) {
+            overall = overall.plus(count);
+        }
+
+        List<String> lines = new ArrayList<>();
+        switch (view) {
+        case WEEK:
+            for (Map.Entry<LocalDate, AttendanceCount> entry : model.getWeeklyAttendance().entrySet()) {
+                lines.add(formatWeek(entry.getKey()) + ": " + entry.getValue().getDetails());
+            }
+            break;
+        case STUDENT:
+            for (Person person : model.getAddressBook().getPersonList()) {
+                LessonList lessonList = person.getLessonList();
+                if (!lessonList.isEmpty()) {
+                    AttendanceCount count = new AttendanceCount(lessonList.getAttendedLessonCount(),
+                            lessonList.size());
+                    lines.add(person.getName() + ": " + count.getDetails());
+                }
+            }
+            break;
+        default:
+            subjectAttendance.forEach((subject, count) -> lines.add(subject + ": " + count.getDetails()));
+            break;
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, view.name().toLowerCase(), overall.getDetails(),
+                String.join("\n", lines)));
+    }
+
+    /**
+     * Returns the ISO week starting on {@code weekStart}, e.g. "2025-W39 (from 2025-09-22)".
+     */
+    private static String formatWeek(LocalDate weekStart) {
+        return String.format("%d-W%02d (from %s)", weekStart.get(IsoFields.WEEK_BASED_YEAR),
+                weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), weekStart);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceCommand)) {
+            return false;
+        }
+
+        AttendanceCommand otherCommand = (AttendanceCommand) other;
+        return view == otherCommand.view;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("view", view)
+                .toString();
+    }
+}
@@ -31,6 +31,11 @@ public class CloseCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -50,6 +55,11 @@ public class CloseCommand extends Command {
         return new CommandResult(String.format(MESSAGE_CLOSE_PERSON_SUCCESS, personToClose.getName()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
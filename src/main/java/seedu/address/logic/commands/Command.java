@@ -8,6 +8,11 @@ import seedu.address.model.Model;
  */
 public abstract class Command {
 
+    /**
+     * Returns the word that invokes this command, such as {@code add}.
+     */
+    public abstract String getCommandWord();
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +22,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book data, so that it has to be saved afterwards.
+     * Commands that only change what is displayed should override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -49,6 +49,11 @@ public class DeleteAttributeCommand extends Command {
                 .collect(Collectors.toCollection(HashSet::new));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     /**
      * Executes the delete attribute command.
      * Removes the specified attributes from the target person in the model.
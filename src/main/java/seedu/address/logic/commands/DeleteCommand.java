@@ -31,6 +31,11 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
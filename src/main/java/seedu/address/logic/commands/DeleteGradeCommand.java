@@ -36,6 +36,11 @@ public class DeleteGradeCommand extends Command {
         this.assessment = assessment;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
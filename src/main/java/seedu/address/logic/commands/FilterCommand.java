@@ -27,14 +27,24 @@ public class FilterCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.getIndexedPredicate(predicate));
         return new CommandResult(
                 String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.FreeSlot;
+import seedu.address.model.person.FreeSlotFinder;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableEntry;
+
+/**
+ * Lists the periods within a range of days in which none of the students, or none of the students matching an
+ * attribute filter, has a lesson.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final LocalTime DEFAULT_DAY_START = LocalTime.of(8, 0);
+    public static final LocalTime DEFAULT_DAY_END = LocalTime.of(22, 0);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the free slots of at least the given length, in minutes, from the start date to the end date "
+            + "(inclusive) in which no student has a lesson. Only the hours from start/ to end/ of each day are "
+            + "searched (default " + DEFAULT_DAY_START + " to " + DEFAULT_DAY_END + "). "
+            + "With attr/, only the lessons of students with matching attributes are considered.\n"
+            + "Parameters: date/ START DATE [date2/ END DATE] len/ MINUTES [start/ DAY START] [end/ DAY END] "
+            + "[attr/KEY=VALUE]...\n"
+            + "Example: " + COMMAND_WORD + " date/ 2025-09-22 date2/ 2025-09-26 len/ 90 attr/subject=math";
+
+    public static final String MESSAGE_SUCCESS = "%1$d free slot(s) of at least %2$d min from %3$s to %4$s:\n%5$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free slots of at least %1$d min from %2$s to %3$s.";
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final Duration minLength;
+    private final AttributeContainsPredicate attributeFilter;
+
+    /**
+     * Creates a FreeSlotsCommand to list the free slots of at least {@code minLength} from {@code dayStart} to
+     * {@code dayEnd} of each day from {@code firstDay} to {@code lastDay}, both inclusive, considering only the
+     * lessons of students that match {@code attributeFilter}. An empty filter matches every student.
+     */
+    public FreeSlotsCommand(LocalDate firstDay, LocalDate lastDay, LocalTime dayStart, LocalTime dayEnd,
+            Duration minLength, AttributeContainsPredicate attributeFilter) {
+        requireAllNonNull(firstDay, lastDay, dayStart, dayEnd, minLength, attributeFilter);
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.minLength = minLength;
+        this.attributeFilter = attributeFilter;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireAllNonNull(model);
+        List<TimetableEntry> entries = model.getTimetable(firstDay, lastDay);
+        Predicate<Person> isIncluded = attributeFilter.getAttributeFilters().isEmpty()
+                ? person -> true
+                : model.getIndexedPredicate(attributeFilter);
+
+        List<Lesson> lessons = new ArrayList<>(entries.size());
+        for (TimetableEntry entry : entries) {
+            if (isIncluded.test(entry.getPerson())) {
+                lessons.add(entry.getLesson());
+            }
+        }
+
+        List<FreeSlot> freeSlots = new FreeSlotFinder(dayStart, dayEnd, minLength)
+                .findFreeSlots(lessons, firstDay, lastDay);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, minLength.toMinutes(), firstDay, lastDay));
+        }
+
+        String details = freeSlots.stream().map(FreeSlot::getDetails).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, freeSlots.size(), minLength.toMinutes(), firstDay,
+                lastDay, details));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotsCommand)) {
+            return false;
+        }
+
+        FreeSlotsCommand otherCommand = (FreeSlotsCommand) other;
+        return firstDay.equals(otherCommand.firstDay)
+                && lastDay.equals(otherCommand.lastDay)
+                && dayStart.equals(otherCommand.dayStart)
+                && dayEnd.equals(otherCommand.dayEnd)
+                && minLength.equals(otherCommand.minLength)
+                && attributeFilter.equals(otherCommand.attributeFilter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .add("dayStart", dayStart)
+                .add("dayEnd", dayEnd)
+                .add("minLength", minLength)
+                .add("attributeFilter", attributeFilter)
+                .toString();
+    }
+}
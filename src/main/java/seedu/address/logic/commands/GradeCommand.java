@@ -42,6 +42,11 @@ public class GradeCommand extends Command {
         this.gradesToAdd = gradesToAdd;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
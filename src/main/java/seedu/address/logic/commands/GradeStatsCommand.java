@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.GradeStatistics;
+
+/**
+ * Shows the count, mean, minimum, maximum and variance of the numeric grade scores of every subject, or of every
+ * assessment of one subject.
+ */
+public class GradeStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "gradestats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the count, mean, minimum, maximum and variance of the numeric scores of every subject. "
+            + "With sub/, shows them for the subject and each of its assessments instead. "
+            + "Fractions (e.g. 17/20) and percentages (e.g. 85%) are counted as percentages, and scores that are "
+            + "not numbers (e.g. A-) are left out.\n"
+            + "Parameters: [sub/SUBJECT]\n"
+            + "Example: " + COMMAND_WORD + " sub/MATH";
+
+    public static final String MESSAGE_SUCCESS = "Grade statistics for %1$d subject(s):\n%2$s";
+    public static final String MESSAGE_SUBJECT_SUCCESS = "Grade statistics for %1$s: %2$s\n%3$s";
+    public static final String MESSAGE_NO_GRADES = "No numeric grades have been recorded.";
+    public static final String MESSAGE_NO_SUBJECT_GRADES = "No numeric grades have been recorded for %1$s.";
+
+    private final Optional<String> subject;
+
+    /**
+     * Creates a GradeStatsCommand to show the statistics of every subject.
+     */
+    public GradeStatsCommand() {
+        this.subject = Optional.empty();
+    }
+
+    /**
+     * Creates a GradeStatsCommand to show the statistics of {@code subject} and each of its assessments.
+     */
+    public GradeStatsCommand(String subject) {
+        requireNonNull(subject);
+        this.subject = Optional.of(subject);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SortedMap<String, GradeStatistics> subjectStatistics = model.getSubjectGradeStatistics();
+
+        if (subject.isEmpty()) {
+            if (subjectStatistics.isEmpty()) {
+                return new CommandResult(MESSAGE_NO_GRADES);
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, subjectStatistics.size(),
+                    formatStatistics(subjectStatistics)));
+        }
+
+        String subjectName = subject.get();
+        GradeStatistics statistics = subjectStatistics.get(subjectName);
+        if (statistics == null) {
+            return new CommandResult(String.format(MESSAGE_NO_SUBJECT_GRADES, subjectName));
+        }
+        return new CommandResult(String.format(MESSAGE_SUBJECT_SUCCESS, subjectName, statistics.getDetails(),
+                formatStatistics(model.getAssessmentGradeStatistics(subjectName))));
+    }
+
+    private static String formatStatistics(SortedMap<String, GradeStatistics> statistics) {
+        return statistics.entrySet().stream()
+                .map(GradeStatsCommand::formatEntry)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String formatEntry(Map.Entry<String, GradeStatistics> entry) {
+        return entry.getKey() + ": " + entry.getValue().getDetails();
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradeStatsCommand)) {
+            return false;
+        }
+
+        GradeStatsCommand otherCommand = (GradeStatsCommand) other;
+        return subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("subject", subject)
+                .toString();
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.GradebookEntry;
+import seedu.address.model.person.GradebookIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the ranking of scores, the distribution of scores or the students without a grade for one assessment,
+ * across all students.
+ */
+public class GradebookCommand extends Command {
+
+    public static final String COMMAND_WORD = "gradebook";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows, for one assessment across all students, the ranking of numeric scores (rank, default), "
+            + "the number of scores in each range of " + (int) GradebookIndex.HISTOGRAM_BUCKET_WIDTH
+            + " (histogram) or the students without a grade (missing).\n"
+            + "Parameters: sub/SUBJECT/ASSESSMENT [view/rank|histogram|missing]\n"
+            + "Example: " + COMMAND_WORD + " sub/MATH/WA1 view/histogram";
+
+    public static final String MESSAGE_RANKING = "Ranking for %1$s/%2$s (%3$d score(s)):\n%4$s";
+    public static final String MESSAGE_HISTOGRAM = "Distribution of scores for %1$s/%2$s (%3$d score(s)):\n%4$s";
+    public static final String MESSAGE_MISSING = "%1$d student(s) without a grade for %2$s/%3$s:\n%4$s";
+    public static final String MESSAGE_NONE_MISSING = "Every student has a grade for %1$s/%2$s.";
+    public static final String MESSAGE_NO_SCORES = "No numeric scores have been recorded for %1$s/%2$s.";
+
+    /**
+     * The ways of viewing an assessment across all students.
+     */
+    public enum View {
+        RANK, HISTOGRAM, MISSING
+    }
+
+    private final String subject;
+    private final String assessment;
+    private final View view;
+
+    /**
+     * Creates a GradebookCommand to show {@code view} of {@code assessment} of {@code subject}.
+     */
+    public GradebookCommand(String subject, String assessment, View view) {
+        requireAllNonNull(subject, assessment, view);
+        this.subject = subject;
+        this.assessment = assessment;
+        this.view = view;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireAllNonNull(model);
+        switch (view) {
+        case HISTOGRAM:
+            return showHistogram(model);
+        case MISSING:
+            return showMissing(model);
+        default:
+            return showRanking(model);
+        }
+    }
+
+    private CommandResult showRanking(Model model) {
+        List<GradebookEntry> ranking = model.getGradeRanking(subject, assessment);
+        if (ranking.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SCORES, subject, assessment));
+        }
+
+        StringBuilder details = new StringBuilder();
+        int rank = 0;
+        for (int i = 0; i < ranking.size(); i++) {
+            // Students with equal scores share the rank of the first of them
+            if (i == 0 || ranking.get(i).getScore() != ranking.get(i - 1).getScore()) {
+                rank = i + 1;
+            }
+            if (i > 0) {
+                details.append('\n');
+            }
+            details.append(rank).append(". ").append(ranking.get(i).getDetails());
+        }
+        return new CommandResult(String.format(MESSAGE_RANKING, subject, assessment, ranking.size(), details));
+    }
+
+    private CommandResult showHistogram(Model model) {
+        int[] histogram = model.getGradeHistogram(subject, assessment);
+        int scoreCount = 0;
+        StringBuilder details = new StringBuilder();
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            int bucketStart = (int) (bucket * GradebookIndex.HISTOGRAM_BUCKET_WIDTH);
+            String range = bucket == histogram.length - 1
+                    ? bucketStart + "+"
+                    : bucketStart + "-" + (int) ((bucket + 1) * GradebookIndex.HISTOGRAM_BUCKET_WIDTH);
+            if (bucket > 0) {
+                details.append('\n');
+            }
+            details.append(range).append(": ").append(histogram[bucket]);
+            scoreCount += histogram[bucket];
+        }
+
+        if (scoreCount == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_SCORES, subject, assessment));
+        }
+        return new CommandResult(String.format(MESSAGE_HISTOGRAM, subject, assessment, scoreCount, details));
+    }
+
+    private CommandResult showMissing(Model model) {
+        List<Person> missing = model.getPersonsMissingGrade(subject, assessment);
+        if (missing.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_MISSING, subject, assessment));
+        }
+
+        String names = missing.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_MISSING, missing.size(), subject, assessment, names));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradebookCommand)) {
+            return false;
+        }
+
+        GradebookCommand otherCommand = (GradebookCommand) other;
+        return subject.equals(otherCommand.subject)
+                && assessment.equals(otherCommand.assessment)
+                && view == otherCommand.view;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("subject", subject)
+                .add("assessment", assessment)
+                .add("view", view)
+                .toString();
+    }
+}
@@ -20,6 +20,10 @@ public class HelpCommand extends Command {
             " - help (Shows this help message)",
             " - list (Lists all students)",
             " - clear (Clears all students)",
+            " - undo (Undoes the latest change)",
+            " - redo (Redoes the latest undone change)",
+            " - run <FILE_PATH> (Runs the commands in a script file as one change)",
+            " - stats (Shows how long each type of command takes)",
             " - exit (Exits the program)",
             "",
             "STUDENT COMMANDS:",
@@ -27,6 +31,7 @@ public class HelpCommand extends Command {
             " - edit <INDEX> [n/NAME] [p/PHONE] [e/EMAIL] [a/ADDRESS] [t/TAG]...",
             " - delete <INDEX>",
             " - search <KEYWORD>",
+            " - query <CONDITION> [AND|OR|NOT <CONDITION>]... (e.g. tag=sec4 grade.math<50 OR lesson=<DATE>)",
             "",
             "ATTRIBUTE COMMANDS:",
             " - addattr <INDEX> attr/<KEY>=<VALUE>[,<VALUE2>]... [attr/<KEY2>=<VALUE2>]...",
@@ -38,10 +43,16 @@ public class HelpCommand extends Command {
             " - unschedule <INDEX> lesson/<LESSON_INDEX>",
             " - mark <INDEX> lesson/<LESSON_INDEX>",
             " - unmark <INDEX> lesson/<LESSON_INDEX>",
+            " - timetable date/<START_DATE> [date2/<END_DATE>]",
+            " - freeslots date/<START_DATE> [date2/<END_DATE>] len/<MINUTES> [start/<DAY_START>] [end/<DAY_END>]"
+                    + " [attr/<KEY>=<VALUE>]...",
+            " - attendance [view/subject|week|student]",
             "",
             "GRADE COMMANDS:",
             " - grade <INDEX> sub/<SUBJECT>/<ASSESSMENT>/<SCORE> [sub/<SUBJECT2>/<ASSESSMENT2>/<SCORE2>]...",
             " - delgrade <INDEX> sub/<SUBJECT>/<ASSESSMENT>",
+            " - gradestats [sub/<SUBJECT>]",
+            " - gradebook sub/<SUBJECT>/<ASSESSMENT> [view/rank|histogram|missing]",
             "",
             "OTHER STUDENT COMMANDS:",
             " - remark <INDEX> r/<REMARK1> [r/<REMARK2>]...",
@@ -53,8 +64,18 @@ public class HelpCommand extends Command {
             "https://ay2526s1-cs2103t-w13-4.github.io/tp/UserGuide.html"
     );
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         return new CommandResult("Help window opened", true, false);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -47,6 +46,11 @@ public class MarkCommand extends Command {
         this.lessonIndex = lessonIndex;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -76,9 +80,7 @@ public class MarkCommand extends Command {
         Lesson markedLesson = new Lesson(lessonToMark.getStart(), lessonToMark.getEnd(),
                 lessonToMark.getDate(), lessonToMark.getEndDate(), lessonToMark.getSub(), true);
 
-        ArrayList<Lesson> newLessons = new ArrayList<>(lessonList.getLessons());
-        newLessons.set(lessonIndex.getZeroBased(), markedLesson);
-        LessonList updatedLessonList = new LessonList(newLessons);
+        LessonList updatedLessonList = lessonList.set(lessonIndex.getZeroBased(), markedLesson);
 
         Person markedPerson = new Person(
                 personToMark.getName(), personToMark.getPhone(), personToMark.getEmail(),
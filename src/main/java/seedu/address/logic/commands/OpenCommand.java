@@ -31,6 +31,11 @@ public class OpenCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -51,6 +56,11 @@ public class OpenCommand extends Command {
         return new CommandResult(String.format(MESSAGE_OPEN_PERSON_SUCCESS, personToOpen.getName()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
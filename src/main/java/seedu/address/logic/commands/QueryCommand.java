@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.query.QueryCompiler;
+import seedu.address.model.query.QueryExpression;
+
+/**
+ * Lists the persons matching a query that combines conditions on their fields, tags, attributes, grades and
+ * lessons with AND, OR and NOT.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching a query and displays "
+            + "them as a list.\n"
+            + "A query combines conditions FIELD OPERATOR VALUE with AND, OR, NOT and parentheses; "
+            + "adjacent conditions must all match.\n"
+            + "Fields: name, phone, email, address, remark, tag (: contains, = or != equals), search (:), "
+            + "attr.KEY (= or !=), grade.SUBJECT[/ASSESSMENT] (=, !=, <, <=, >, >=), "
+            + "lesson (=DATE or =FIRST_DATE..LAST_DATE, <, <=, >, >=).\n"
+            + "Example: " + COMMAND_WORD + " (tag=sec4 OR attr.level=jc1) grade.math<50 "
+            + "NOT lesson=2025-09-22..2025-09-28";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d contact(s) matching %2$s";
+    public static final String MESSAGE_EMPTY = "No contacts match %1$s";
+
+    private final QueryExpression expression;
+
+    /**
+     * Creates a QueryCommand to list the persons matching {@code expression}.
+     */
+    public QueryCommand(QueryExpression expression) {
+        requireNonNull(expression);
+        this.expression = expression;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(new QueryCompiler(model).compile(expression));
+
+        int size = model.getFilteredPersonList().size();
+        String message = (size == 0)
+                ? String.format(MESSAGE_EMPTY, expression)
+                : String.format(MESSAGE_SUCCESS, size, expression);
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherCommand = (QueryCommand) other;
+        return expression.equals(otherCommand.expression);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .toString();
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs a batch of commands, such as the commands of a script file, as one change to the address book.
+ * If any of the commands fails, the changes made by the commands before it are rolled back.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line, as one change to the address book. "
+            + "Blank lines and lines starting with '#' are ignored. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/cohort.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands in %2$d ms (%3$.1f commands/s).";
+    public static final String MESSAGE_COMMAND_RESULT = "%1$d. %2$s\n%3$s";
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Command %1$d (%2$s) failed, so no changes were made: %3$s";
+
+    private final List<String> commandTexts;
+    private final List<Command> commands;
+
+    /**
+     * Creates a RunCommand that runs {@code commands}, which were parsed from {@code commandTexts} in the same order.
+     */
+    public RunCommand(List<String> commandTexts, List<Command> commands) {
+        requireNonNull(commandTexts);
+        requireNonNull(commands);
+        assert commandTexts.size() == commands.size();
+        this.commandTexts = List.copyOf(commandTexts);
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        StringBuilder results = new StringBuilder();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < commands.size(); i++) {
+            CommandResult result;
+            try {
+                result = commands.get(i).execute(model);
+            } catch (CommandException e) {
+                model.rollbackAddressBook();
+                throw new CommandException(
+                        String.format(MESSAGE_COMMAND_FAILED, i + 1, commandTexts.get(i), e.getMessage()), e);
+            } catch (RuntimeException e) {
+                model.rollbackAddressBook();
+                throw e;
+            }
+            results.append('\n').append(String.format(MESSAGE_COMMAND_RESULT, i + 1, commandTexts.get(i),
+                    result.getFeedbackToUser()));
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        double commandsPerSecond = commands.size() * 1e9 / Math.max(elapsedNanos, 1);
+        String summary = String.format(MESSAGE_SUCCESS, commands.size(), elapsedNanos / 1_000_000,
+                commandsPerSecond);
+        return new CommandResult(summary + results);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return commands.stream().anyMatch(Command::isMutating);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return commandTexts.equals(otherRunCommand.commandTexts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandTexts", commandTexts)
+                .toString();
+    }
+}
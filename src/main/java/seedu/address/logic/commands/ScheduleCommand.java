@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -12,7 +13,10 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableEntry;
 
 /**
  * Changes the lesson of an existing person in the address book.
@@ -27,20 +31,29 @@ public class ScheduleCommand extends Command {
             + "Existing student will have new lesson stated in input added.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + "start/ START TIME end/ END TIME "
-            + "date/ START DATE [date2/ END DATE] sub/ SUBJECT\n"
+            + "date/ START DATE [date2/ END DATE] sub/ SUBJECT "
+            + "[repeat/ weekly|biweekly until/ LAST DATE [skip/ DATE]...]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + "start/ 09:30 end/ 11:30 "
-            + "date/ 2025-09-20 sub/ Maths";
+            + "date/ 2025-09-20 sub/ Maths\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + "start/ 09:30 end/ 11:30 "
+            + "date/ 2025-09-20 sub/ Maths repeat/ weekly until/ 2025-11-29 skip/ 2025-10-04";
 
     public static final String MESSAGE_DUPLICATE_LESSON = "The student already has the existing lesson!";
+    public static final String MESSAGE_DUPLICATE_SERIES = "The student already has the existing repeating lesson!";
     public static final String MESSAGE_ADD_LESSON_SUCCESS = "Scheduled Lesson to Person: %1$s";
+    public static final String MESSAGE_ADD_SERIES_SUCCESS = "Scheduled %1$d repeating lessons to Person: %2$s";
     public static final String MESSAGE_OVERLAPPING_LESSON =
             "The student already has a lesson that overlaps with the provided timeslot!";
+    public static final String MESSAGE_CLASHING_LESSON =
+            "The provided timeslot clashes with another student's lesson!\n%1$s";
 
     private static final Logger logger = LogsCenter.getLogger(ScheduleCommand.class);
 
     private final Index index;
     private final Lesson lesson;
+    private final LessonSeries series;
 
     /**
      * @param index of the person in the filtered person list to edit the remark
@@ -51,13 +64,31 @@ public class ScheduleCommand extends Command {
 
         this.index = index;
         this.lesson = lesson;
+        this.series = null;
+    }
+
+    /**
+     * @param index of the person in the filtered person list to add the repeating lessons to
+     * @param series of repeating lessons to be added
+     */
+    public ScheduleCommand(Index index, LessonSeries series) {
+        requireAllNonNull(index, series);
+
+        this.index = index;
+        this.lesson = null;
+        this.series = series;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        requireAllNonNull(model, index, lesson);
+        requireAllNonNull(model, index);
         logger.fine(() -> String.format("Executing ScheduleCommand for person index %s with lesson %s",
-                index.getOneBased(), lesson));
+                index.getOneBased(), lesson != null ? lesson : series));
 
         List<Person> lastShownList = model.getFilteredPersonList();
 
@@ -69,6 +100,10 @@ public class ScheduleCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         assert personToEdit != null : "Person to edit should not be null";
 
+        if (series != null) {
+            return scheduleSeries(model, personToEdit);
+        }
+
         if (personToEdit.getLessonList().hasDuplicates(lesson)) {
             logger.fine("ScheduleCommand detected duplicate lesson; aborting.");
             throw new CommandException(MESSAGE_DUPLICATE_LESSON);
@@ -79,6 +114,14 @@ public class ScheduleCommand extends Command {
             throw new CommandException(MESSAGE_OVERLAPPING_LESSON);
         }
 
+        if (model.getUserPrefs().isGlobalClashCheckEnabled()) {
+            List<TimetableEntry> clashes = model.getClashingLessons(personToEdit, lesson);
+            if (!clashes.isEmpty()) {
+                logger.fine("ScheduleCommand detected a clash with another student's lesson; aborting.");
+                throw new CommandException(String.format(MESSAGE_CLASHING_LESSON, clashes.get(0).getDetails()));
+            }
+        }
+
         int originalLessonCount = personToEdit.getLessonList().size();
 
         Person editedPerson = new Person(
@@ -97,6 +140,43 @@ public class ScheduleCommand extends Command {
         return new CommandResult(generateSuccessMessage(editedPerson));
     }
 
+    /**
+     * Adds the repeating lessons to {@code personToEdit} as a single series, without expanding them into lessons.
+     */
+    private CommandResult scheduleSeries(Model model, Person personToEdit) throws CommandException {
+        LessonList lessonList = personToEdit.getLessonList();
+        if (lessonList.hasDuplicates(series)) {
+            logger.fine("ScheduleCommand detected duplicate lesson series; aborting.");
+            throw new CommandException(MESSAGE_DUPLICATE_SERIES);
+        }
+
+        if (lessonList.hasOverlappingLesson(series)) {
+            logger.fine("ScheduleCommand detected overlapping lesson series; aborting.");
+            throw new CommandException(MESSAGE_OVERLAPPING_LESSON);
+        }
+
+        if (model.getUserPrefs().isGlobalClashCheckEnabled()) {
+            List<TimetableEntry> clashes = model.getClashingLessons(personToEdit, series);
+            if (!clashes.isEmpty()) {
+                logger.fine("ScheduleCommand detected a clash with another student's lesson; aborting.");
+                throw new CommandException(String.format(MESSAGE_CLASHING_LESSON, clashes.get(0).getDetails()));
+            }
+        }
+
+        Person editedPerson = new Person(
+                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+                personToEdit.getAddress(), personToEdit.getRemark(),
+                personToEdit.getTags(), personToEdit.getAttributes(),
+                lessonList.addSeries(series), personToEdit.getGradeList());
+
+        model.setPerson(personToEdit, editedPerson);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        logger.fine(() -> String.format("ScheduleCommand succeeded for person %s", index.getOneBased()));
+        return new CommandResult(String.format(MESSAGE_ADD_SERIES_SUCCESS, series.size(),
+                Messages.format(editedPerson)));
+    }
+
     /**
      * Generates a command execution success message for
      * the lesson being added to {@code personToEdit}.
@@ -119,6 +199,7 @@ public class ScheduleCommand extends Command {
 
         ScheduleCommand e = (ScheduleCommand) other;
         return index.equals(e.index)
-                && lesson.equals(e.lesson);
+                && Objects.equals(lesson, e.lesson)
+                && Objects.equals(series, e.series);
     }
 }
@@ -28,10 +28,15 @@ public class SearchCommand extends Command {
         this.predicate = predicate;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.getIndexedPredicate(predicate));
 
         int size = model.getFilteredPersonList().size();
         String message = (size == 0)
@@ -41,6 +46,11 @@ public class SearchCommand extends Command {
         return new CommandResult(message);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandLatencyStats;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each type of command has taken to parse, execute and save since the app started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the median, 99th percentile and maximum time taken to parse, execute and save "
+            + "each type of command since the app started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandLatencyStats stats;
+
+    public StatsCommand() {
+        this(CommandLatencyStats.getInstance());
+    }
+
+    /**
+     * Creates a StatsCommand that shows {@code stats}.
+     */
+    public StatsCommand(CommandLatencyStats stats) {
+        requireNonNull(stats);
+        this.stats = stats;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(stats.getSummary());
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return stats == otherStatsCommand.stats;
+    }
+}
@@ -48,6 +48,11 @@ public class TagCommand extends Command {
         this.attributesToAdd = attributesToAdd;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
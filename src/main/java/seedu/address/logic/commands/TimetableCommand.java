@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.TimetableEntry;
+
+/**
+ * Lists the lessons of all students that take place within a range of days.
+ */
+public class TimetableCommand extends Command {
+
+    public static final String COMMAND_WORD = "timetable";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the lessons of all students from the start date to the end date (inclusive), "
+            + "in chronological order. The end date defaults to the start date.\n"
+            + "Parameters: date/ START DATE [date2/ END DATE]\n"
+            + "Example: " + COMMAND_WORD + " date/ 2025-09-22 date2/ 2025-09-28";
+
+    public static final String MESSAGE_SUCCESS = "%1$d lesson(s) from %2$s to %3$s:\n%4$s";
+    public static final String MESSAGE_NO_LESSONS = "No lessons from %1$s to %2$s.";
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+
+    /**
+     * Creates a TimetableCommand to list the lessons from {@code firstDay} to {@code lastDay}, both inclusive.
+     */
+    public TimetableCommand(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireAllNonNull(model);
+        List<TimetableEntry> entries = model.getTimetable(firstDay, lastDay);
+        if (entries.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_LESSONS, firstDay, lastDay));
+        }
+
+        String details = entries.stream().map(TimetableEntry::getDetails).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entries.size(), firstDay, lastDay, details));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimetableCommand)) {
+            return false;
+        }
+
+        TimetableCommand otherCommand = (TimetableCommand) other;
+        return firstDay.equals(otherCommand.firstDay)
+                && lastDay.equals(otherCommand.lastDay);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .toString();
+    }
+}
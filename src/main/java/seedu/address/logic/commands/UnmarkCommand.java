@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -44,6 +43,11 @@ public class UnmarkCommand extends Command {
         this.lessonIndex = lessonIndex;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -69,9 +73,7 @@ public class UnmarkCommand extends Command {
         Lesson unmarkedLesson = new Lesson(lessonToUnmark.getStart(), lessonToUnmark.getEnd(),
                 lessonToUnmark.getDate(), lessonToUnmark.getEndDate(), lessonToUnmark.getSub(), false);
 
-        ArrayList<Lesson> newLessons = new ArrayList<>(lessonList.getLessons());
-        newLessons.set(lessonIndex.getZeroBased(), unmarkedLesson);
-        LessonList updatedLessonList = new LessonList(newLessons);
+        LessonList updatedLessonList = lessonList.set(lessonIndex.getZeroBased(), unmarkedLesson);
 
         Person unmarkedPerson = new Person(
                 personToUnmark.getName(), personToUnmark.getPhone(), personToUnmark.getEmail(),
@@ -47,6 +47,11 @@ public class UnscheduleCommand extends Command {
         this.lessonIndex = lessonIndex;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireAllNonNull(model, personIndex, lessonIndex);
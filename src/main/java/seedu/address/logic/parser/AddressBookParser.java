@@ -3,12 +3,15 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CloseCommand;
 import seedu.address.logic.commands.Command;
@@ -18,15 +21,24 @@ import seedu.address.logic.commands.DeleteGradeCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.GradeCommand;
+import seedu.address.logic.commands.GradeStatsCommand;
+import seedu.address.logic.commands.GradebookCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkCommand;
 import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.TimetableCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.commands.UnscheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -36,6 +48,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    public static final String MESSAGE_BATCH_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_ALLOWED_IN_BATCH = "The %1$s command cannot be run in a batch of commands";
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -110,6 +125,12 @@ public class AddressBookParser {
         case DeleteGradeCommand.COMMAND_WORD:
             return new DeleteGradeCommandParser().parse(arguments);
 
+        case GradeStatsCommand.COMMAND_WORD:
+            return new GradeStatsCommandParser().parse(arguments);
+
+        case GradebookCommand.COMMAND_WORD:
+            return new GradebookCommandParser().parse(arguments);
+
         case UnmarkCommand.COMMAND_WORD:
             return new UnmarkCommandParser().parse(arguments);
 
@@ -125,10 +146,69 @@ public class AddressBookParser {
         case SearchCommand.COMMAND_WORD:
             return new SearchCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
+        case TimetableCommand.COMMAND_WORD:
+            return new TimetableCommandParser().parse(arguments);
+
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
+        case AttendanceCommand.COMMAND_WORD:
+            return new AttendanceCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
+
+    /**
+     * Parses lines of user input, such as the lines of a script file, into one command that runs them in order.
+     * Blank lines and lines starting with {@code #} are ignored.
+     *
+     * @throws ParseException if any of the lines does not conform the expected format, or is a command that cannot
+     *     be run in a batch. The message gives the number of the offending line.
+     */
+    public RunCommand parseBatch(List<String> lines) throws ParseException {
+        List<String> commandTexts = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            Command command;
+            try {
+                command = parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_BATCH_LINE_ERROR, i + 1, pe.getMessage()), pe);
+            }
+            // exit and help only act through the result of a command typed by the user, which a batch replaces
+            if (command instanceof RunCommand || command instanceof UndoCommand || command instanceof RedoCommand
+                    || command instanceof ExitCommand || command instanceof HelpCommand) {
+                String commandWord = line.split("\\s+", 2)[0];
+                throw new ParseException(String.format(MESSAGE_BATCH_LINE_ERROR, i + 1,
+                        String.format(MESSAGE_NOT_ALLOWED_IN_BATCH, commandWord)));
+            }
+            commandTexts.add(line);
+            commands.add(command);
+        }
+        return new RunCommand(commandTexts, commands);
+    }
 }
 
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VIEW;
+
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.AttendanceCommand.View;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code AttendanceCommand} object
+ */
+public class AttendanceCommandParser implements Parser<AttendanceCommand> {
+
+    public static final String MESSAGE_INVALID_VIEW = "View must be one of subject, week or student.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code AttendanceCommand}
+     * and returns an {@code AttendanceCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AttendanceCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_VIEW);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_VIEW);
+
+        if (!argMultimap.getValue(PREFIX_VIEW).isPresent()) {
+            return new AttendanceCommand(View.SUBJECT);
+        }
+        return new AttendanceCommand(parseView(argMultimap.getValue(PREFIX_VIEW).get()));
+    }
+
+    private static View parseView(String view) throws ParseException {
+        switch (view.trim().toLowerCase()) {
+        case "subject":
+            return View.SUBJECT;
+        case "week":
+            return View.WEEK;
+        case "student":
+            return View.STUDENT;
+        default:
+            throw new ParseException(MESSAGE_INVALID_VIEW);
+        }
+    }
+}
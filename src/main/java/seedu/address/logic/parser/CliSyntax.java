@@ -19,4 +19,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE_END = new Prefix("date2/");
     public static final Prefix PREFIX_SUB = new Prefix("sub/");
     public static final Prefix PREFIX_LESSON = new Prefix("lesson/");
+    public static final Prefix PREFIX_REPEAT = new Prefix("repeat/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("until/");
+    public static final Prefix PREFIX_SKIP = new Prefix("skip/");
+    public static final Prefix PREFIX_LENGTH = new Prefix("len/");
+    public static final Prefix PREFIX_VIEW = new Prefix("view/");
 }
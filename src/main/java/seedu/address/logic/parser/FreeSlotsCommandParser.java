@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTRIBUTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.AttributeContainsPredicate;
+
+/**
+ * Parses input arguments and creates a new {@code FreeSlotsCommand} object
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    public static final int MAX_LENGTH_MINUTES = 24 * 60;
+
+    public static final String MESSAGE_INVALID_LENGTH =
+            "Length must be a whole number of minutes from 1 to " + MAX_LENGTH_MINUTES + ".";
+    public static final String MESSAGE_DAY_END_BEFORE_START = "The end of the day must be after its start.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FreeSlotsCommand}
+     * and returns a {@code FreeSlotsCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_DATE_END, PREFIX_LENGTH,
+                PREFIX_START, PREFIX_END, PREFIX_ATTRIBUTE);
+
+        if (!argMultimap.getValue(PREFIX_DATE).isPresent() || !argMultimap.getValue(PREFIX_LENGTH).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_DATE_END, PREFIX_LENGTH, PREFIX_START,
+                PREFIX_END);
+
+        LocalDate firstDay = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDate lastDay = firstDay;
+        if (argMultimap.getValue(PREFIX_DATE_END).isPresent()) {
+            lastDay = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE_END).get());
+        }
+        if (lastDay.isBefore(firstDay)) {
+            throw new ParseException(TimetableCommandParser.MESSAGE_END_BEFORE_START);
+        }
+
+        String length = argMultimap.getValue(PREFIX_LENGTH).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(length) || Integer.parseInt(length) > MAX_LENGTH_MINUTES) {
+            throw new ParseException(MESSAGE_INVALID_LENGTH);
+        }
+        Duration minLength = Duration.ofMinutes(Integer.parseInt(length));
+
+        LocalTime dayStart = FreeSlotsCommand.DEFAULT_DAY_START;
+        if (argMultimap.getValue(PREFIX_START).isPresent()) {
+            dayStart = ParserUtil.parseTime(argMultimap.getValue(PREFIX_START).get());
+        }
+        LocalTime dayEnd = FreeSlotsCommand.DEFAULT_DAY_END;
+        if (argMultimap.getValue(PREFIX_END).isPresent()) {
+            dayEnd = ParserUtil.parseTime(argMultimap.getValue(PREFIX_END).get());
+        }
+        if (!dayEnd.isAfter(dayStart)) {
+            throw new ParseException(MESSAGE_DAY_END_BEFORE_START);
+        }
+
+        Map<String, Set<String>> attributeFilters = new HashMap<>();
+        for (String attribute : argMultimap.getAllValues(PREFIX_ATTRIBUTE)) {
+            Attribute parsedAttribute = ParserUtil.parseAttribute(attribute);
+            attributeFilters.put(parsedAttribute.getKey(), new HashSet<>(parsedAttribute.getValues()));
+        }
+
+        return new FreeSlotsCommand(firstDay, lastDay, dayStart, dayEnd, minLength,
+                new AttributeContainsPredicate(attributeFilters));
+    }
+}
@@ -44,15 +44,17 @@ public class GradeCommandParser implements Parser<GradeCommand> {
                 }
             }
 
-            // Handle too many parts
-            if (parts.length > 3) {
-                throw new ParseException("Too many parts. Use sub/SUBJECT/ASSESSMENT/SCORE");
-            }
-
             String subject = parts[0].trim();
             String assessment = parts[1].trim();
             String score = parts[2].trim();
 
+            // A fractional score such as 17/20 is split across two parts
+            if (parts.length == 4 && Grade.parseNumericScore(parts[2] + "/" + parts[3]).isPresent()) {
+                score = parts[2].trim() + "/" + parts[3].trim();
+            } else if (parts.length > 3) {
+                throw new ParseException("Too many parts. Use sub/SUBJECT/ASSESSMENT/SCORE");
+            }
+
             if (subject.isEmpty()) {
                 throw new ParseException("Subject cannot be empty.");
             }
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUB;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.GradeStatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Grade;
+
+/**
+ * Parses input arguments and creates a new {@code GradeStatsCommand} object
+ */
+public class GradeStatsCommandParser implements Parser<GradeStatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code GradeStatsCommand}
+     * and returns a {@code GradeStatsCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GradeStatsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SUB);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradeStatsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUB);
+
+        Optional<String> subject = argMultimap.getValue(PREFIX_SUB);
+        if (subject.isEmpty()) {
+            return new GradeStatsCommand();
+        }
+        if (!Grade.isValidSubject(subject.get())) {
+            throw new ParseException("Subject cannot be empty.");
+        }
+        return new GradeStatsCommand(subject.get().trim());
+    }
+}
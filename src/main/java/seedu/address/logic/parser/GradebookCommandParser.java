@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VIEW;
+
+import seedu.address.logic.commands.GradebookCommand;
+import seedu.address.logic.commands.GradebookCommand.View;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code GradebookCommand} object
+ */
+public class GradebookCommandParser implements Parser<GradebookCommand> {
+
+    public static final String MESSAGE_INVALID_VIEW = "View must be one of rank, histogram or missing.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code GradebookCommand}
+     * and returns a {@code GradebookCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GradebookCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SUB, PREFIX_VIEW);
+
+        if (!argMultimap.getValue(PREFIX_SUB).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradebookCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUB, PREFIX_VIEW);
+
+        String[] parts = argMultimap.getValue(PREFIX_SUB).get().split("/", -1);
+        if (parts.length != 2) {
+            throw new ParseException("Use sub/SUBJECT/ASSESSMENT");
+        }
+
+        String subject = parts[0].trim();
+        String assessment = parts[1].trim();
+        if (subject.isEmpty() || assessment.isEmpty()) {
+            throw new ParseException("Subject and assessment cannot be empty");
+        }
+
+        View view = View.RANK;
+        if (argMultimap.getValue(PREFIX_VIEW).isPresent()) {
+            view = parseView(argMultimap.getValue(PREFIX_VIEW).get());
+        }
+        return new GradebookCommand(subject, assessment, view);
+    }
+
+    private static View parseView(String view) throws ParseException {
+        switch (view.trim().toLowerCase()) {
+        case "rank":
+            return View.RANK;
+        case "histogram":
+            return View.HISTOGRAM;
+        case "missing":
+            return View.MISSING;
+        default:
+            throw new ParseException(MESSAGE_INVALID_VIEW);
+        }
+    }
+}
@@ -3,9 +3,15 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -26,6 +32,15 @@ public class ParserUtil {
             "The person index provided is invalid";
     public static final String MESSAGE_INVALID_LESSON_INDEX =
             "The lesson index provided is invalid";
+    public static final String MESSAGE_INVALID_TIME =
+            "Invalid time. Use HH:mm, with hours 00-23 and minutes 00-59 (e.g. 14:00).";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final Pattern DATE_PATTERN = Pattern.compile("^\\d{4}-\\d{2}-\\d{2}$");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final Pattern TIME_PATTERN = Pattern.compile("^\\d{2}:\\d{2}$");
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -54,6 +69,43 @@ public class ParserUtil {
         return trimmedValue;
     }
 
+    /**
+     * Parses a {@code String date} in YYYY-MM-DD format into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not in YYYY-MM-DD format or is not a valid date.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!DATE_PATTERN.matcher(trimmedDate).matches()) {
+            throw new ParseException(ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+        }
+        try {
+            return LocalDate.parse(trimmedDate, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(ScheduleCommandParser.MESSAGE_INVALID_DATE_VALUE);
+        }
+    }
+
+    /**
+     * Parses a {@code String time} in HH:mm format into a {@code LocalTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code time} is not in HH:mm format or is not a valid time.
+     */
+    public static LocalTime parseTime(String time) throws ParseException {
+        requireNonNull(time);
+        String trimmedTime = time.trim();
+        if (!TIME_PATTERN.matcher(trimmedTime).matches()) {
+            throw new ParseException(MESSAGE_INVALID_TIME);
+        }
+        try {
+            return LocalTime.parse(trimmedTime, TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_TIME);
+        }
+    }
 
     /**
      * Parses a {@code String name} into a {@code Name}.
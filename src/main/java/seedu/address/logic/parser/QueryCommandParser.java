@@ -0,0 +1,312 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Grade;
+import seedu.address.model.query.QueryCompiler;
+import seedu.address.model.query.QueryCondition;
+import seedu.address.model.query.QueryCondition.Field;
+import seedu.address.model.query.QueryCondition.Operator;
+import seedu.address.model.query.QueryExpression;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is a list of conditions such as {@code name:alex} combined with {@code AND}, {@code OR}, {@code NOT} and
+ * parentheses. {@code NOT} binds tightest and {@code OR} loosest, and adjacent conditions are joined by {@code AND}.
+ * Values containing spaces or parentheses are written in double quotes, as in {@code address:"clementi ave"}.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s. Fields are name, phone, email, "
+            + "address, remark, tag, search, attr.KEY, grade.SUBJECT[/ASSESSMENT] and lesson.";
+    public static final String MESSAGE_MISSING_OPERATOR = "Condition %1$s must compare a field with a value, "
+            + "e.g. name:alex or grade.math>=80.";
+    public static final String MESSAGE_UNSUPPORTED_OPERATOR = "Operator %1$s cannot be used with %2$s.";
+    public static final String MESSAGE_MISSING_QUALIFIER = "%1$s must be followed by a qualifier, "
+            + "e.g. attr.subject=math or grade.math/midterm>=50.";
+    public static final String MESSAGE_MISSING_VALUE = "Condition %1$s is missing a value.";
+    public static final String MESSAGE_INVALID_SCORE = "Grades can only be compared with a number, e.g. 80, 80% or "
+            + "40/50.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The first day of a lesson date range must not be after "
+            + "the last day.";
+    public static final String MESSAGE_MISSING_CONDITION = "Expected a condition after %1$s.";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "The parentheses in the query are not balanced.";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value in the query is missing its closing "
+            + "quote.";
+    public static final String MESSAGE_TOO_DEEPLY_NESTED = "NOT and parentheses can only be nested %1$d deep in "
+            + "a query.";
+
+    /** The deepest nesting of NOT and parentheses accepted, which keeps parsing and compiling off deep stacks. */
+    static final int MAX_NESTING_DEPTH = 64;
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String ATTRIBUTE_PREFIX = Field.ATTRIBUTE.getKeyword() + ".";
+    private static final String GRADE_PREFIX = Field.GRADE.getKeyword() + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        List<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        TokenReader reader = new TokenReader(tokens);
+        QueryExpression expression = parseOr(reader);
+        if (reader.hasNext()) {
+            // The only token that can stop a complete expression is an unmatched closing parenthesis
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        return new QueryCommand(expression);
+    }
+
+    /**
+     * Splits {@code args} into parentheses and words. Words are separated by whitespace and parentheses, except
+     * within double quotes, which are removed.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        boolean isInWord = false;
+        boolean isQuoted = false;
+        for (char c : args.toCharArray()) {
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                isInWord = true;
+            } else if (isQuoted || !(Character.isWhitespace(c) || c == '(' || c == ')')) {
+                word.append(c);
+                isInWord = true;
+            } else {
+                if (isInWord) {
+                    tokens.add(word.toString());
+                    word.setLength(0);
+                    isInWord = false;
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        if (isInWord) {
+            tokens.add(word.toString());
+        }
+        return tokens;
+    }
+
+    private static QueryExpression parseOr(TokenReader reader) throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseAnd(reader));
+        while (reader.isNextKeyword(OR)) {
+            reader.next();
+            operands.add(parseAnd(reader));
+        }
+        return QueryExpression.or(operands);
+    }
+
+    private static QueryExpression parseAnd(TokenReader reader) throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseNot(reader));
+        while (reader.hasNext() && !reader.isNextKeyword(OR) && !reader.isNext(CLOSE_PARENTHESIS)) {
+            if (reader.isNextKeyword(AND)) {
+                reader.next();
+            }
+            operands.add(parseNot(reader));
+        }
+        return QueryExpression.and(operands);
+    }
+
+    private static QueryExpression parseNot(TokenReader reader) throws ParseException {
+        if (reader.isNextKeyword(NOT)) {
+            reader.next();
+            reader.enterNesting();
+            QueryExpression operand = parseNot(reader);
+            reader.exitNesting();
+            return QueryExpression.not(operand);
+        }
+        return parsePrimary(reader);
+    }
+
+    private static QueryExpression parsePrimary(TokenReader reader) throws ParseException {
+        if (!reader.hasNext() || reader.isNext(CLOSE_PARENTHESIS) || reader.isNextKeyword(AND)
+                || reader.isNextKeyword(OR)) {
+            throw new ParseException(String.format(MESSAGE_MISSING_CONDITION, reader.previous()));
+        }
+
+        String token = reader.next();
+        if (!token.equals(OPEN_PARENTHESIS)) {
+            return parseCondition(token);
+        }
+        reader.enterNesting();
+        QueryExpression expression = parseOr(reader);
+        if (!reader.isNext(CLOSE_PARENTHESIS)) {
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        reader.next();
+        reader.exitNesting();
+        return expression;
+    }
+
+    /**
+     * Parses a condition such as {@code name:alex}, {@code attr.subject=math} or {@code grade.math/midterm>=50}.
+     */
+    static QueryCondition parseCondition(String condition) throws ParseException {
+        int operatorIndex = indexOfOperator(condition);
+        if (operatorIndex < 0) {
+            throw new ParseException(String.format(MESSAGE_MISSING_OPERATOR, condition));
+        }
+        Operator operator = parseOperator(condition.substring(operatorIndex));
+        String qualifiedField = condition.substring(0, operatorIndex).trim();
+        String value = condition.substring(operatorIndex + operator.getSymbol().length()).trim();
+
+        Field field;
+        String qualifier = "";
+        String lowerField = qualifiedField.toLowerCase();
+        if (lowerField.startsWith(ATTRIBUTE_PREFIX) || lowerField.equals(Field.ATTRIBUTE.getKeyword())) {
+            field = Field.ATTRIBUTE;
+        } else if (lowerField.startsWith(GRADE_PREFIX) || lowerField.equals(Field.GRADE.getKeyword())) {
+            field = Field.GRADE;
+        } else {
+            field = Field.fromKeyword(qualifiedField).orElseThrow(() ->
+                    new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, qualifiedField)));
+        }
+        if (field.isQualified()) {
+            int dot = qualifiedField.indexOf('.');
+            qualifier = dot < 0 ? "" : qualifiedField.substring(dot + 1).trim();
+            if (qualifier.isEmpty() || qualifier.startsWith("/") || qualifier.endsWith("/")) {
+                throw new ParseException(String.format(MESSAGE_MISSING_QUALIFIER, field.getKeyword()));
+            }
+        }
+
+        if (!field.supports(operator)) {
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_OPERATOR, operator.getSymbol(),
+                    field.getKeyword()));
+        }
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, condition));
+        }
+        if (field == Field.GRADE && Grade.parseNumericScore(value).isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_SCORE);
+        }
+        if (field == Field.LESSON) {
+            value = parseLessonDays(operator, value);
+        }
+        return new QueryCondition(field, qualifier, operator, value);
+    }
+
+    /**
+     * Returns the index of the first operator character in {@code condition}, or -1 if there is none.
+     */
+    private static int indexOfOperator(String condition) {
+        for (int i = 0; i < condition.length(); i++) {
+            if (":=!<>".indexOf(condition.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the longest operator at the start of {@code text}.
+     */
+    private static Operator parseOperator(String text) throws ParseException {
+        Operator longestMatch = null;
+        for (Operator operator : Operator.values()) {
+            if (text.startsWith(operator.getSymbol())
+                    && (longestMatch == null || operator.getSymbol().length() > longestMatch.getSymbol().length())) {
+                longestMatch = operator;
+            }
+        }
+        if (longestMatch == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_OPERATOR, text));
+        }
+        return longestMatch;
+    }
+
+    /**
+     * Checks that {@code value} is a date, or a date range {@code FIRST..LAST} when compared for equality, and
+     * returns it with the dates normalised.
+     */
+    private static String parseLessonDays(Operator operator, String value) throws ParseException {
+        int separator = value.indexOf(QueryCompiler.DATE_RANGE_SEPARATOR);
+        if (operator != Operator.EQUALS || separator < 0) {
+            return ParserUtil.parseDate(value).toString();
+        }
+        LocalDate firstDay = ParserUtil.parseDate(value.substring(0, separator));
+        LocalDate lastDay = ParserUtil.parseDate(
+                value.substring(separator + QueryCompiler.DATE_RANGE_SEPARATOR.length()));
+        if (lastDay.isBefore(firstDay)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return firstDay + QueryCompiler.DATE_RANGE_SEPARATOR + lastDay;
+    }
+
+    /**
+     * Reads the tokens of a query one at a time, and keeps track of how deeply the token being read is nested.
+     */
+    private static class TokenReader {
+        private final List<String> tokens;
+        private int position;
+        private int depth;
+
+        private TokenReader(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private boolean isNext(String token) {
+            return hasNext() && tokens.get(position).equals(token);
+        }
+
+        private boolean isNextKeyword(String keyword) {
+            return hasNext() && tokens.get(position).equalsIgnoreCase(keyword);
+        }
+
+        private String next() {
+            return tokens.get(position++);
+        }
+
+        /**
+         * Enters a NOT or parenthesized expression.
+         *
+         * @throws ParseException if it is nested more than {@link #MAX_NESTING_DEPTH} deep.
+         */
+        private void enterNesting() throws ParseException {
+            if (++depth > MAX_NESTING_DEPTH) {
+                throw new ParseException(String.format(MESSAGE_TOO_DEEPLY_NESTED, MAX_NESTING_DEPTH));
+            }
+        }
+
+        private void exitNesting() {
+            depth--;
+        }
+
+        /**
+         * Returns the token before the next one, or the start of the query if there is none.
+         */
+        private String previous() {
+            return position == 0 ? "the start of the query" : tokens.get(position - 1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read script file %1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object that runs the commands of the script file they name.
+     * @throws ParseException if the user input does not conform the expected format, the script file cannot be read,
+     *     or any of its lines is not a valid command
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path scriptPath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(scriptPath);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs), e);
+        }
+        return new AddressBookParser().parseBatch(lines);
+    }
+}
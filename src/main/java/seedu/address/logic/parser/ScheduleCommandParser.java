@@ -5,20 +5,26 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonSeries;
 
 
 /**
@@ -40,6 +46,20 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             "Invalid date. Ensure the day is valid for the given month and year.";
     public static final String MESSAGE_END_BEFORE_START =
             "End date/time must be after start date/time.";
+    public static final String MESSAGE_INVALID_REPEAT =
+            "Invalid repeat. Use weekly or biweekly.";
+    public static final String MESSAGE_UNTIL_BEFORE_DATE =
+            "The until date of a repeating lesson must not be before its first date.";
+    public static final String MESSAGE_SERIES_TOO_LONG =
+            "A repeating lesson can have at most " + LessonSeries.MAX_DATE_COUNT + " dates. "
+            + "Use an earlier until date.";
+    public static final String MESSAGE_SKIP_NOT_LESSON_DATE =
+            "Skipped date %1$s is not a date of the repeating lesson.";
+    public static final String MESSAGE_REPEATING_LESSON_END_DATE =
+            "A repeating lesson must end on the day it starts, so date2/ cannot be used with repeat/.";
+
+    private static final String REPEAT_WEEKLY = "weekly";
+    private static final String REPEAT_BIWEEKLY = "biweekly";
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm")
             .withResolverStyle(ResolverStyle.STRICT);
@@ -56,8 +76,8 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
      */
     public ScheduleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_START, PREFIX_END, PREFIX_DATE, PREFIX_DATE_END, PREFIX_SUB);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START, PREFIX_END, PREFIX_DATE,
+                PREFIX_DATE_END, PREFIX_SUB, PREFIX_REPEAT, PREFIX_UNTIL, PREFIX_SKIP);
 
         String preamble = ParserUtil.requireSingleIndex(argMultimap.getPreamble(), ScheduleCommand.MESSAGE_USAGE);
 
@@ -70,7 +90,19 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
                     ScheduleCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START, PREFIX_END, PREFIX_DATE, PREFIX_DATE_END, PREFIX_SUB);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START, PREFIX_END, PREFIX_DATE, PREFIX_DATE_END, PREFIX_SUB,
+                PREFIX_REPEAT, PREFIX_UNTIL);
+
+        // until/ and skip/ only make sense for repeating lessons, and a repeating lesson needs an until date
+        boolean isRepeating = argMultimap.getValue(PREFIX_REPEAT).isPresent();
+        if (isRepeating != argMultimap.getValue(PREFIX_UNTIL).isPresent()
+                || !isRepeating && !argMultimap.getAllValues(PREFIX_SKIP).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScheduleCommand.MESSAGE_USAGE));
+        }
+        if (isRepeating && argMultimap.getValue(PREFIX_DATE_END).isPresent()) {
+            throw new ParseException(MESSAGE_REPEATING_LESSON_END_DATE);
+        }
 
         String start = argMultimap.getValue(PREFIX_START).get().trim();
         String end = argMultimap.getValue(PREFIX_END).get().trim();
@@ -110,34 +142,69 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             throw new ParseException(MESSAGE_INVALID_END_TIME_VALUE);
         }
 
-        // Validate date format first, then value
-        if (!DATE_PATTERN.matcher(date).matches()) {
-            throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
-        }
-        LocalDate startDate;
-        try {
-            startDate = LocalDate.parse(date, DATE_FORMATTER);
-        } catch (DateTimeParseException e) {
-            throw new ParseException(MESSAGE_INVALID_DATE_VALUE);
-        }
-
-        LocalDate endDate = startDate;
-        if (!date2.isEmpty()) {
-            if (!DATE_PATTERN.matcher(date2).matches()) {
-                throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
-            }
-            try {
-                endDate = LocalDate.parse(date2, DATE_FORMATTER);
-            } catch (DateTimeParseException e) {
-                throw new ParseException(MESSAGE_INVALID_DATE_VALUE);
-            }
-        }
+        LocalDate startDate = parseDate(date);
+        LocalDate endDate = date2.isEmpty() ? startDate : parseDate(date2);
 
         if (!endDate.atTime(endTime).isAfter(startDate.atTime(startTime))) {
             throw new ParseException(MESSAGE_END_BEFORE_START);
         }
 
+        if (isRepeating) {
+            LessonSeries series = parseSeries(argMultimap, startTime, endTime, startDate, sub);
+            return new ScheduleCommand(index, series);
+        }
+
         Lesson lesson = new Lesson(start, end, date, endDate.toString(), sub, false);
         return new ScheduleCommand(index, lesson);
     }
+
+    /**
+     * Parses the repeat/, until/ and skip/ values of a repeating lesson into a {@code LessonSeries}.
+     */
+    private static LessonSeries parseSeries(ArgumentMultimap argMultimap, LocalTime startTime, LocalTime endTime,
+            LocalDate firstDate, String sub) throws ParseException {
+        String repeat = argMultimap.getValue(PREFIX_REPEAT).get().trim();
+        int intervalWeeks;
+        if (repeat.equalsIgnoreCase(REPEAT_WEEKLY)) {
+            intervalWeeks = 1;
+        } else if (repeat.equalsIgnoreCase(REPEAT_BIWEEKLY)) {
+            intervalWeeks = 2;
+        } else {
+            throw new ParseException(MESSAGE_INVALID_REPEAT);
+        }
+
+        LocalDate untilDate = parseDate(argMultimap.getValue(PREFIX_UNTIL).get().trim());
+        if (untilDate.isBefore(firstDate)) {
+            throw new ParseException(MESSAGE_UNTIL_BEFORE_DATE);
+        }
+        if (!LessonSeries.isValidSeries(startTime, endTime, firstDate, untilDate, intervalWeeks)) {
+            throw new ParseException(MESSAGE_SERIES_TOO_LONG);
+        }
+        LessonSeries series = new LessonSeries(startTime, endTime, firstDate, untilDate, intervalWeeks, sub);
+
+        List<LocalDate> skippedDates = new ArrayList<>();
+        for (String skip : argMultimap.getAllValues(PREFIX_SKIP)) {
+            LocalDate skippedDate = parseDate(skip.trim());
+            if (!series.isSeriesDate(skippedDate)) {
+                throw new ParseException(String.format(MESSAGE_SKIP_NOT_LESSON_DATE, skippedDate));
+            }
+            skippedDates.add(skippedDate);
+        }
+        return new LessonSeries(startTime, endTime, firstDate, untilDate, intervalWeeks, sub, skippedDates,
+                List.of());
+    }
+
+    /**
+     * Validates the format of {@code date} first, then its value.
+     */
+    private static LocalDate parseDate(String date) throws ParseException {
+        if (!DATE_PATTERN.matcher(date).matches()) {
+            throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
+        }
+        try {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE_VALUE);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_END;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.TimetableCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code TimetableCommand} object
+ */
+public class TimetableCommandParser implements Parser<TimetableCommand> {
+
+    public static final String MESSAGE_END_BEFORE_START = "End date must not be before start date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code TimetableCommand}
+     * and returns a {@code TimetableCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TimetableCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_DATE_END);
+
+        if (!argMultimap.getValue(PREFIX_DATE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TimetableCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_DATE_END);
+
+        LocalDate firstDay = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDate lastDay = firstDay;
+        if (argMultimap.getValue(PREFIX_DATE_END).isPresent()) {
+            lastDay = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE_END).get());
+        }
+
+        if (lastDay.isBefore(firstDay)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+
+        return new TimetableCommand(firstDay, lastDay);
+    }
+}
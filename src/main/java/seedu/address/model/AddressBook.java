@@ -2,20 +2,50 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SortedMap;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AttendanceCount;
+import seedu.address.model.person.AttendanceIndex;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.GradeStatistics;
+import seedu.address.model.person.GradeStatisticsIndex;
+import seedu.address.model.person.GradebookEntry;
+import seedu.address.model.person.GradebookIndex;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonOnDaysPredicate;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TimetableEntry;
+import seedu.address.model.person.TimetableIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Each index is only built when it is first queried, and kept up to date from then on, so address books that are
+ * only read from or written to storage are never indexed.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final List<PersonIndex> builtIndexes = new ArrayList<>();
+    private PersonSearchIndex searchIndex;
+    private AttributeIndex attributeIndex;
+    private TimetableIndex timetableIndex;
+    private GradeStatisticsIndex gradeStatisticsIndex;
+    private GradebookIndex gradebookIndex;
+    private AttendanceIndex attendanceIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +76,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        for (PersonIndex index : builtIndexes) {
+            index.setPersons(persons);
+        }
     }
 
     /**
@@ -73,6 +106,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexPerson(p);
+    }
+
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        indexPerson(p);
     }
 
     /**
@@ -84,6 +127,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        reindexPerson(target, editedPerson);
     }
 
     /**
@@ -92,6 +136,179 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexPerson(key);
+    }
+
+    //// index operations
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that resolves its matches from the search index
+     * instead of testing every person.
+     */
+    public Predicate<Person> getIndexedPredicate(PersonContainsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        return getSearchIndex().toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that resolves its matches from the attribute index
+     * instead of testing every person.
+     */
+    public Predicate<Person> getIndexedPredicate(AttributeContainsPredicate predicate) {
+        requireNonNull(predicate);
+        return getAttributeIndex().toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that resolves its matches from the timetable index
+     * instead of testing every person.
+     */
+    public Predicate<Person> getIndexedPredicate(LessonOnDaysPredicate predicate) {
+        requireNonNull(predicate);
+        return getTimetableIndex().toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns the lessons of all persons that take place on any of the days from {@code firstDay} to
+     * {@code lastDay}, both inclusive, in chronological order.
+     */
+    public List<TimetableEntry> getTimetable(LocalDate firstDay, LocalDate lastDay) {
+        return getTimetableIndex().getEntriesOnDays(firstDay, lastDay);
+    }
+
+    /**
+     * Returns the lessons of persons other than {@code person} that overlap {@code lesson}, in chronological order.
+     */
+    public List<TimetableEntry> getClashingLessons(Person person, Lesson lesson) {
+        return getTimetableIndex().getClashes(person, lesson);
+    }
+
+    /**
+     * Returns the lessons of persons other than {@code person} that overlap a lesson of {@code series}, in
+     * chronological order.
+     */
+    public List<TimetableEntry> getClashingLessons(Person person, LessonSeries series) {
+        return getTimetableIndex().getClashes(person, series);
+    }
+
+    /**
+     * Returns the statistics of the numeric grade scores of every subject, sorted by subject.
+     */
+    public SortedMap<String, GradeStatistics> getSubjectGradeStatistics() {
+        return getGradeStatisticsIndex().getSubjectStatistics();
+    }
+
+    /**
+     * Returns the statistics of the numeric grade scores of every assessment of {@code subject}, sorted by assessment.
+     */
+    public SortedMap<String, GradeStatistics> getAssessmentGradeStatistics(String subject) {
+        return getGradeStatisticsIndex().getAssessmentStatistics(subject);
+    }
+
+    /**
+     * Returns the numeric scores of all persons for {@code assessment} of {@code subject}, from highest to lowest.
+     */
+    public List<GradebookEntry> getGradeRanking(String subject, String assessment) {
+        return getGradebookIndex().getRanking(subject, assessment);
+    }
+
+    /**
+     * Returns the number of numeric scores for {@code assessment} of {@code subject} in each bucket of
+     * {@link GradebookIndex#HISTOGRAM_BUCKET_WIDTH}, starting from 0.
+     */
+    public int[] getGradeHistogram(String subject, String assessment) {
+        return getGradebookIndex().getHistogram(subject, assessment);
+    }
+
+    /**
+     * Returns the persons without a grade for {@code assessment} of {@code subject}, ordered by name.
+     */
+    public List<Person> getPersonsMissingGrade(String subject, String assessment) {
+        return getGradebookIndex().getMissing(subject, assessment);
+    }
+
+    /**
+     * Returns the attended and scheduled lessons of every subject, sorted by subject.
+     */
+    public SortedMap<String, AttendanceCount> getSubjectAttendance() {
+        return getAttendanceIndex().getSubjectAttendance();
+    }
+
+    /**
+     * Returns the attended and scheduled lessons of every ISO week, keyed and sorted by the Monday that starts the
+     * week.
+     */
+    public SortedMap<LocalDate, AttendanceCount> getWeeklyAttendance() {
+        return getAttendanceIndex().getWeeklyAttendance();
+    }
+
+    private void indexPerson(Person person) {
+        for (PersonIndex index : builtIndexes) {
+            index.add(person);
+        }
+    }
+
+    private void unindexPerson(Person person) {
+        for (PersonIndex index : builtIndexes) {
+            index.remove(person);
+        }
+    }
+
+    private void reindexPerson(Person target, Person editedPerson) {
+        for (PersonIndex index : builtIndexes) {
+            index.replace(target, editedPerson);
+        }
+    }
+
+    /**
+     * Indexes the current persons in {@code index}, and keeps it up to date with later changes.
+     */
+    private <T extends PersonIndex> T build(T index) {
+        index.setPersons(persons.asUnmodifiableObservableList());
+        builtIndexes.add(index);
+        return index;
+    }
+
+    private PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = build(new PersonSearchIndex());
+        }
+        return searchIndex;
+    }
+
+    private AttributeIndex getAttributeIndex() {
+        if (attributeIndex == null) {
+            attributeIndex = build(new AttributeIndex());
+        }
+        return attributeIndex;
+    }
+
+    private TimetableIndex getTimetableIndex() {
+        if (timetableIndex == null) {
+            timetableIndex = build(new TimetableIndex());
+        }
+        return timetableIndex;
+    }
+
+    private GradeStatisticsIndex getGradeStatisticsIndex() {
+        if (gradeStatisticsIndex == null) {
+            gradeStatisticsIndex = build(new GradeStatisticsIndex());
+        }
+        return gradeStatisticsIndex;
+    }
+
+    private GradebookIndex getGradebookIndex() {
+        if (gradebookIndex == null) {
+            gradebookIndex = build(new GradebookIndex());
+        }
+        return gradebookIndex;
+    }
+
+    private AttendanceIndex getAttendanceIndex() {
+        if (attendanceIndex == null) {
+            attendanceIndex = build(new AttendanceIndex());
+        }
+        return attendanceIndex;
     }
 
     //// util methods
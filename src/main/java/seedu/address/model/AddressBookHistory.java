@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A bounded history of the states of an {@code AddressBook}, for undoing and redoing changes to it.
+ *
+ * Instead of copying the whole address book, each state is stored as the changes that lead to it from the previous
+ * state. As persons are immutable, a change only refers to the persons it replaced and the persons that replaced them,
+ * so the memory used by the history grows with the size of the changes, not with the size of the address book.
+ *
+ * Changes are recorded with {@link #recordChange} as they are made, and grouped into one step of the history by
+ * {@link #commit}.
+ */
+class AddressBookHistory {
+
+    private final Deque<List<Change>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+
+    /**
+     * Records that the persons {@code removed}, starting at position {@code index} of the person list, have been
+     * replaced by the persons {@code added}.
+     */
+    public void recordChange(int index, List<Person> removed, List<Person> added) {
+        pendingChanges.add(new Change(index, List.copyOf(removed), List.copyOf(added)));
+    }
+
+    /**
+     * Makes the changes recorded since the last commit one step of the history, which can then be undone.
+     * Does nothing if no changes were recorded. Steps beyond the latest {@code maxDepth} steps are forgotten,
+     * as are the steps that were undone.
+     */
+    public void commit(int maxDepth) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        undoSteps.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoSteps.clear();
+        while (undoSteps.size() > maxDepth) {
+            undoSteps.removeLast();
+        }
+    }
+
+    /**
+     * Restores {@code addressBook} to its state at the last commit, and forgets the changes recorded since then.
+     * {@code addressBook} must be in the state after those changes.
+     */
+    public void rollback(AddressBook addressBook) {
+        for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+            pendingChanges.get(i).reverse().applyTo(addressBook);
+        }
+        pendingChanges = new ArrayList<>();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Restores {@code addressBook} to the state before the latest step.
+     * {@code addressBook} must be in the state after that step, with no uncommitted changes.
+     */
+    public void undo(AddressBook addressBook) {
+        assert canUndo() && pendingChanges.isEmpty();
+        List<Change> step = undoSteps.pop();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).reverse().applyTo(addressBook);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Restores {@code addressBook} to the state after the latest undone step.
+     * {@code addressBook} must be in the state before that step, with no uncommitted changes.
+     */
+    public void redo(AddressBook addressBook) {
+        assert canRedo() && pendingChanges.isEmpty();
+        List<Change> step = redoSteps.pop();
+        for (Change change : step) {
+            change.applyTo(addressBook);
+        }
+        undoSteps.push(step);
+    }
+
+    /**
+     * A replacement of the persons {@code removed}, starting at position {@code index} of the person list,
+     * by the persons {@code added}.
+     */
+    private static class Change {
+        private final int index;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        Change(int index, List<Person> removed, List<Person> added) {
+            this.index = index;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        Change reverse() {
+            return new Change(index, added, removed);
+        }
+
+        void applyTo(AddressBook addressBook) {
+            if (index == 0 && removed.size() == addressBook.getPersonList().size()) {
+                addressBook.setPersons(added);
+                return;
+            }
+            if (removed.size() == 1 && added.size() == 1) {
+                addressBook.setPerson(removed.get(0), added.get(0));
+                return;
+            }
+            for (Person person : removed) {
+                addressBook.removePerson(person);
+            }
+            for (int i = 0; i < added.size(); i++) {
+                addressBook.addPerson(index + i, added.get(i));
+            }
+        }
+    }
+}
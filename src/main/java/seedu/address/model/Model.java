@@ -1,11 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.AttendanceCount;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.GradeStatistics;
+import seedu.address.model.person.GradebookEntry;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonOnDaysPredicate;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.TimetableEntry;
 
 /**
  * The API of the Model component.
@@ -76,6 +88,109 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Saves the changes to the address book since the last commit as one step that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Discards the changes to the address book since the last commit, restoring it to its state at that commit.
+     */
+    void rollbackAddressBook();
+
+    /**
+     * Returns true if there is a committed step of the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step of the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest step.
+     * There must be a step that can be undone, and no uncommitted changes.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state after the latest undone step.
+     * There must be a step that can be redone, and no uncommitted changes.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the address book's search index.
+     */
+    Predicate<Person> getIndexedPredicate(PersonContainsKeywordPredicate predicate);
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the address book's attribute index.
+     */
+    Predicate<Person> getIndexedPredicate(AttributeContainsPredicate predicate);
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the address book's timetable index.
+     */
+    Predicate<Person> getIndexedPredicate(LessonOnDaysPredicate predicate);
+
+    /**
+     * Returns the lessons of all persons that take place on any of the days from {@code firstDay} to
+     * {@code lastDay}, both inclusive, in chronological order.
+     */
+    List<TimetableEntry> getTimetable(LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Returns the lessons of persons other than {@code person} that overlap {@code lesson}, in chronological order.
+     */
+    List<TimetableEntry> getClashingLessons(Person person, Lesson lesson);
+
+    /**
+     * Returns the lessons of persons other than {@code person} that overlap a lesson of {@code series}, in
+     * chronological order.
+     */
+    List<TimetableEntry> getClashingLessons(Person person, LessonSeries series);
+
+    /**
+     * Returns the statistics of the numeric grade scores of every subject in the address book, sorted by subject.
+     */
+    SortedMap<String, GradeStatistics> getSubjectGradeStatistics();
+
+    /**
+     * Returns the statistics of the numeric grade scores of every assessment of {@code subject} in the address book,
+     * sorted by assessment.
+     */
+    SortedMap<String, GradeStatistics> getAssessmentGradeStatistics(String subject);
+
+    /**
+     * Returns the numeric scores of all persons for {@code assessment} of {@code subject}, from highest to lowest.
+     * Persons with equal scores are ordered by name.
+     */
+    List<GradebookEntry> getGradeRanking(String subject, String assessment);
+
+    /**
+     * Returns the number of numeric scores for {@code assessment} of {@code subject} in each of the buckets of
+     * {@link seedu.address.model.person.GradebookIndex#HISTOGRAM_BUCKET_WIDTH}, starting from 0.
+     */
+    int[] getGradeHistogram(String subject, String assessment);
+
+    /**
+     * Returns the persons without a grade for {@code assessment} of {@code subject}, ordered by name.
+     */
+    List<Person> getPersonsMissingGrade(String subject, String assessment);
+
+    /**
+     * Returns the attended and scheduled lessons of every subject in the address book, sorted by subject.
+     */
+    SortedMap<String, AttendanceCount> getSubjectAttendance();
+
+    /**
+     * Returns the attended and scheduled lessons of every ISO week in the address book, keyed and sorted by the
+     * Monday that starts the week.
+     */
+    SortedMap<LocalDate, AttendanceCount> getWeeklyAttendance();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +199,11 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Narrows the filtered person list to the persons in it that match the given {@code predicate}, which must only
+     * accept persons that the current predicate accepts. Only the persons currently in the list are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredPersonList(Predicate<Person> predicate);
 }
@@ -4,14 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.AttendanceCount;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.FilteredPersonList;
+import seedu.address.model.person.GradeStatistics;
+import seedu.address.model.person.GradebookEntry;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonOnDaysPredicate;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.TimetableEntry;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +33,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final AddressBookHistory history = new AddressBookHistory();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +46,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
     }
 
     public ModelManager() {
@@ -79,6 +92,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        history.recordChange(0, this.addressBook.getPersonList(), addressBook.getPersonList());
         this.addressBook.resetData(addressBook);
     }
 
@@ -95,12 +109,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.getPersonList().indexOf(target);
         addressBook.removePerson(target);
+        history.recordChange(index, List.of(target), List.of());
     }
 
     @Override
     public void addPerson(Person person) {
+        int index = addressBook.getPersonList().size();
         addressBook.addPerson(person);
+        history.recordChange(index, List.of(), List.of(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -111,7 +129,114 @@ public class ModelManager implements Model {
         // Preserve the UI expanded state across updates
         editedPerson.setExpanded(target.isExpanded());
 
+        int index = addressBook.getPersonList().indexOf(target);
         addressBook.setPerson(target, editedPerson);
+        history.recordChange(index, List.of(target), List.of(editedPerson));
+    }
+
+    @Override
+    public void commitAddressBook() {
+        history.commit(userPrefs.getUndoHistoryDepth());
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        history.rollback(addressBook);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+    }
+
+    @Override
+    public Predicate<Person> getIndexedPredicate(PersonContainsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getIndexedPredicate(AttributeContainsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getIndexedPredicate(LessonOnDaysPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedPredicate(predicate);
+    }
+
+    @Override
+    public List<TimetableEntry> getTimetable(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        return addressBook.getTimetable(firstDay, lastDay);
+    }
+
+    @Override
+    public List<TimetableEntry> getClashingLessons(Person person, Lesson lesson) {
+        requireAllNonNull(person, lesson);
+        return addressBook.getClashingLessons(person, lesson);
+    }
+
+    @Override
+    public List<TimetableEntry> getClashingLessons(Person person, LessonSeries series) {
+        requireAllNonNull(person, series);
+        return addressBook.getClashingLessons(person, series);
+    }
+
+    @Override
+    public SortedMap<String, GradeStatistics> getSubjectGradeStatistics() {
+        return addressBook.getSubjectGradeStatistics();
+    }
+
+    @Override
+    public SortedMap<String, GradeStatistics> getAssessmentGradeStatistics(String subject) {
+        requireNonNull(subject);
+        return addressBook.getAssessmentGradeStatistics(subject);
+    }
+
+    @Override
+    public List<GradebookEntry> getGradeRanking(String subject, String assessment) {
+        requireAllNonNull(subject, assessment);
+        return addressBook.getGradeRanking(subject, assessment);
+    }
+
+    @Override
+    public int[] getGradeHistogram(String subject, String assessment) {
+        requireAllNonNull(subject, assessment);
+        return addressBook.getGradeHistogram(subject, assessment);
+    }
+
+    @Override
+    public List<Person> getPersonsMissingGrade(String subject, String assessment) {
+        requireAllNonNull(subject, assessment);
+        return addressBook.getPersonsMissingGrade(subject, assessment);
+    }
+
+    @Override
+    public SortedMap<String, AttendanceCount> getSubjectAttendance() {
+        return addressBook.getSubjectAttendance();
+    }
+
+    @Override
+    public SortedMap<LocalDate, AttendanceCount> getWeeklyAttendance() {
+        return addressBook.getWeeklyAttendance();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -131,6 +256,12 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void refineFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredPersons.refinePredicate(predicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
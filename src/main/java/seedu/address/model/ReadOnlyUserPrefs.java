@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isGlobalClashCheckEnabled();
+
+    int getJournalCompactionInterval();
+
+    int getUndoHistoryDepth();
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean isGlobalClashCheckEnabled = false;
+    private int journalCompactionInterval = 0;
+    private int undoHistoryDepth = 100;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setGlobalClashCheckEnabled(newUserPrefs.isGlobalClashCheckEnabled());
+        setJournalCompactionInterval(newUserPrefs.getJournalCompactionInterval());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,42 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns true if scheduling a lesson that overlaps another student's lesson should be rejected.
+     */
+    public boolean isGlobalClashCheckEnabled() {
+        return isGlobalClashCheckEnabled;
+    }
+
+    public void setGlobalClashCheckEnabled(boolean isGlobalClashCheckEnabled) {
+        this.isGlobalClashCheckEnabled = isGlobalClashCheckEnabled;
+    }
+
+    /**
+     * Returns the number of changes journaled after the address book data file before they are compacted into it,
+     * or 0 if every change rewrites the whole data file.
+     */
+    public int getJournalCompactionInterval() {
+        return journalCompactionInterval;
+    }
+
+    public void setJournalCompactionInterval(int journalCompactionInterval) {
+        checkArgument(journalCompactionInterval >= 0, "Journal compaction interval cannot be negative.");
+        this.journalCompactionInterval = journalCompactionInterval;
+    }
+
+    /**
+     * Returns the number of changes to the address book that can be undone, or 0 if undo is disabled.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth cannot be negative.");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +112,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isGlobalClashCheckEnabled == otherUserPrefs.isGlobalClashCheckEnabled
+                && journalCompactionInterval == otherUserPrefs.journalCompactionInterval
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isGlobalClashCheckEnabled,
+                journalCompactionInterval, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +129,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nGlobal clash check enabled : " + isGlobalClashCheckEnabled);
+        sb.append("\nJournal compaction interval : " + journalCompactionInterval);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the number of lessons attended out of the number of lessons scheduled.
+ * Guarantees: immutable; attended lessons are at most the scheduled lessons
+ */
+public class AttendanceCount {
+
+    public static final AttendanceCount NONE = new AttendanceCount(0, 0);
+
+    private final long attended;
+    private final long total;
+
+    /**
+     * Constructs an {@code AttendanceCount} of {@code attended} out of {@code total} lessons.
+     */
+    public AttendanceCount(long attended, long total) {
+        checkArgument(attended >= 0 && attended <= total, "Attended lessons must be between 0 and the total.");
+        this.attended = attended;
+        this.total = total;
+    }
+
+    public long getAttended() {
+        return attended;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the percentage of lessons attended, or 0 if no lessons are scheduled.
+     */
+    public double getRate() {
+        return total == 0 ? 0 : attended * 100.0 / total;
+    }
+
+    /**
+     * Returns the sum of this count and {@code other}.
+     */
+    public AttendanceCount plus(AttendanceCount other) {
+        return new AttendanceCount(attended + other.attended, total + other.total);
+    }
+
+    /**
+     * Returns a string with the count and the percentage attended, rounded to one decimal place.
+     */
+    public String getDetails() {
+        return String.format("%d/%d attended (%.1f%%)", attended, total, getRate());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceCount)) {
+            return false;
+        }
+
+        AttendanceCount otherCount = (AttendanceCount) other;
+        return attended == otherCount.attended
+                && total == otherCount.total;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(attended) * 31 + Long.hashCode(total);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("attended", attended)
+                .add("total", total)
+                .toString();
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model.person;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Counts of attended and scheduled lessons of all indexed persons, per subject and per ISO week.
+ * The lessons of a person are counted when the person is indexed and taken back out when the person is unindexed,
+ * and editing a person only recounts the lessons that changed, so a report only reads one counter per subject or week
+ * instead of every lesson.
+ */
+public class AttendanceIndex extends PersonIndex {
+
+    private final Map<String, Counter> subjectCounters = new HashMap<>();
+    private final Map<LocalDate, Counter> weekCounters = new HashMap<>();
+
+    @Override
+    protected void index(Person person) {
+        update(person, 1);
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        update(person, -1);
+    }
+
+    @Override
+    protected void clear() {
+        subjectCounters.clear();
+        weekCounters.clear();
+    }
+
+    /**
+     * Updates the counters for the lessons that differ between {@code oldPerson} and {@code newPerson}.
+     * Marking or unmarking a lesson of a series only touches the counters of its week and subject.
+     */
+    @Override
+    protected void reindex(Person oldPerson, Person newPerson) {
+        LessonList oldLessons = oldPerson.getLessonList();
+        LessonList newLessons = newPerson.getLessonList();
+        if (oldLessons == newLessons) {
+            return;
+        }
+        if (!oldLessons.hasSameOneOffLessons(newLessons)) {
+            updateOneOffLessons(oldLessons, -1);
+            updateOneOffLessons(newLessons, 1);
+        }
+
+        // Series keep their positions when their lessons are skipped or marked, and new series are added at the end
+        List<LessonSeries> oldSeries = oldLessons.getSeries();
+        List<LessonSeries> newSeries = newLessons.getSeries();
+        for (int i = 0; i < Math.max(oldSeries.size(), newSeries.size()); i++) {
+            LessonSeries oldOne = i < oldSeries.size() ? oldSeries.get(i) : null;
+            LessonSeries newOne = i < newSeries.size() ? newSeries.get(i) : null;
+            if (oldOne == newOne) {
+                continue;
+            }
+            if (oldOne != null && newOne != null && oldOne.hasSameDates(newOne)) {
+                updateChangedDates(oldOne, newOne);
+                continue;
+            }
+            if (oldOne != null) {
+                updateSeries(oldOne, -1);
+            }
+            if (newOne != null) {
+                updateSeries(newOne, 1);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code sign} times the lessons of {@code person} to the counters.
+     */
+    private void update(Person person, int sign) {
+        LessonList lessonList = person.getLessonList();
+        updateOneOffLessons(lessonList, sign);
+        for (LessonSeries series : lessonList.getSeries()) {
+            updateSeries(series, sign);
+        }
+    }
+
+    private void updateOneOffLessons(LessonList lessonList, int sign) {
+        for (Lesson lesson : lessonList.getOneOffLessons()) {
+            int attended = lesson.isPresent() ? sign : 0;
+            addTo(subjectCounters, lesson.getSub(), attended, sign);
+            addTo(weekCounters, getWeekStart(lesson.getDate()), attended, sign);
+        }
+    }
+
+    /**
+     * Adds {@code sign} times the lessons of {@code series} to the counters, without creating its lessons.
+     */
+    private void updateSeries(LessonSeries series, int sign) {
+        // Every date of a series falls in a different week, but all of them count towards the same subject
+        addTo(subjectCounters, series.getSub(), (long) sign * series.getAttendedCount(), (long) sign * series.size());
+        LocalDate lastDate = series.getLastDate();
+        for (LocalDate date = series.getFirstDate(); !date.isAfter(lastDate);
+                date = date.plusWeeks(series.getIntervalWeeks())) {
+            if (series.hasLessonOn(date)) {
+                addTo(weekCounters, getWeekStart(date), series.isAttendedOn(date) ? sign : 0, sign);
+            }
+        }
+    }
+
+    /**
+     * Replaces the counts of {@code oldSeries} with those of {@code newSeries}, which has the same dates, by only
+     * recounting the dates on which they differ.
+     */
+    private void updateChangedDates(LessonSeries oldSeries, LessonSeries newSeries) {
+        addTo(subjectCounters, newSeries.getSub(), newSeries.getAttendedCount() - oldSeries.getAttendedCount(),
+                newSeries.size() - oldSeries.size());
+        for (LocalDate date : oldSeries.getChangedDates(newSeries)) {
+            addTo(weekCounters, getWeekStart(date),
+                    toCount(newSeries.isAttendedOn(date)) - toCount(oldSeries.isAttendedOn(date)),
+                    toCount(newSeries.hasLessonOn(date)) - toCount(oldSeries.hasLessonOn(date)));
+        }
+    }
+
+    private static int toCount(boolean isCounted) {
+        return isCounted ? 1 : 0;
+    }
+
+    private static <K> void addTo(Map<K, Counter> counters, K key, long attended, long total) {
+        Counter counter = counters.computeIfAbsent(key, unused -> new Counter());
+        counter.attended += attended;
+        counter.total += total;
+        if (counter.total == 0) {
+            counters.remove(key);
+        }
+    }
+
+    /**
+     * Returns the Monday that starts the ISO week of {@code date}.
+     */
+    public static LocalDate getWeekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Returns the attendance of every subject with at least one lesson, sorted by subject.
+     */
+    public SortedMap<String, AttendanceCount> getSubjectAttendance() {
+        return toAttendance(subjectCounters);
+    }
+
+    /**
+     * Returns the attendance of every ISO week with at least one lesson, keyed and sorted by the Monday that starts
+     * the week.
+     */
+    public SortedMap<LocalDate, AttendanceCount> getWeeklyAttendance() {
+        return toAttendance(weekCounters);
+    }
+
+    private static <K> SortedMap<K, AttendanceCount> toAttendance(Map<K, Counter> counters) {
+        SortedMap<K, AttendanceCount> attendance = new TreeMap<>();
+        counters.forEach((key, counter) -> attendance.put(key, new AttendanceCount(counter.attended, counter.total)));
+        return Collections.unmodifiableSortedMap(attendance);
+    }
+
+    /**
+     * A mutable pair of attended and scheduled lesson counts.
+     */
+    private static class Counter {
+        private long attended;
+        private long total;
+    }
+}
@@ -17,6 +17,13 @@ public class AttributeContainsPredicate implements Predicate<Person> {
         this.attributeFilters = attributeFilters;
     }
 
+    /**
+     * Returns the attribute filters, as a map from attribute key to the accepted values for that key.
+     */
+    public Map<String, Set<String>> getAttributeFilters() {
+        return attributeFilters;
+    }
+
     @Override
     public boolean test(Person person) {
         // If no filters specified, show all persons
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An index from each attribute {@code (key, value)} pair to the persons having that attribute value.
+ * A filter over several attribute keys is resolved as the intersection of one posting list per key,
+ * starting from the smallest, instead of streaming the attributes of every person.
+ *
+ * @see AttributeContainsPredicate
+ */
+public class AttributeIndex extends PersonIndex {
+
+    private final Map<String, Map<String, Set<Person>>> postings = new HashMap<>();
+
+    @Override
+    protected void index(Person person) {
+        for (Attribute attribute : person.getAttributes()) {
+            Map<String, Set<Person>> valuePostings = postings.computeIfAbsent(attribute.key, unused -> new HashMap<>());
+            for (String value : attribute.values) {
+                valuePostings.computeIfAbsent(value, unused -> newIdentitySet()).add(person);
+            }
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (Attribute attribute : person.getAttributes()) {
+            Map<String, Set<Person>> valuePostings = postings.get(attribute.key);
+            if (valuePostings == null) {
+                continue;
+            }
+            for (String value : attribute.values) {
+                Set<Person> posting = valuePostings.get(value);
+                if (posting == null) {
+                    continue;
+                }
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    valuePostings.remove(value);
+                }
+            }
+            if (valuePostings.isEmpty()) {
+                postings.remove(attribute.key);
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the indexed persons that, for every key in {@code attributeFilters}, have an attribute with that key
+     * holding at least one of the accepted values. Follows the matching rules of {@link AttributeContainsPredicate}.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findMatches(Map<String, Set<String>> attributeFilters) {
+        requireNonNull(attributeFilters);
+        if (attributeFilters.isEmpty()) {
+            return allPersons();
+        }
+
+        List<Set<Person>> filterMatches = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> filter : attributeFilters.entrySet()) {
+            Set<Person> persons = findMatchesForKey(filter.getKey(), filter.getValue());
+            if (persons.isEmpty()) {
+                return newIdentitySet();
+            }
+            filterMatches.add(persons);
+        }
+        filterMatches.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> matches = filterMatches.get(0);
+        for (int i = 1; i < filterMatches.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(filterMatches.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from a snapshot of this index
+     * (see {@link #snapshotPredicate(Set, Predicate)}).
+     */
+    public Predicate<Person> toIndexedPredicate(AttributeContainsPredicate predicate) {
+        requireNonNull(predicate);
+        return snapshotPredicate(findMatches(predicate.getAttributeFilters()), predicate);
+    }
+
+    /**
+     * Returns a new set of the persons with an attribute {@code key} holding any of {@code values}.
+     */
+    private Set<Person> findMatchesForKey(String key, Set<String> values) {
+        Map<String, Set<Person>> valuePostings = postings.getOrDefault(key, Collections.emptyMap());
+        Set<Person> persons = newIdentitySet();
+        for (String value : values) {
+            persons.addAll(valuePostings.getOrDefault(value.trim().toLowerCase(), Collections.emptySet()));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of the persons in a source list that match a predicate, kept up to date incrementally.
+ *
+ * Unlike {@code FilteredList}, setting the same predicate again does nothing, and a predicate that only narrows the
+ * current one (see {@link #refinePredicate(Predicate)}) is tested on the persons currently in view instead of on
+ * every person. Changes to the source list only test the persons added or replaced. Every change is reported to
+ * listeners as the individual additions and removals, so views of this list only redraw the affected rows.
+ */
+public class FilteredPersonList extends TransformationList<Person, Person> {
+
+    /** Source indices of the persons in view, in increasing order. Only the first {@code size} are used. */
+    private int[] filtered;
+    private int size;
+    private Predicate<? super Person> predicate;
+
+    /**
+     * Creates a view of the persons in {@code source} that match {@code predicate}.
+     */
+    public FilteredPersonList(ObservableList<Person> source, Predicate<? super Person> predicate) {
+        super(source);
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        filtered = new int[source.size()];
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                filtered[size++] = i;
+            }
+        }
+    }
+
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons in the source list that match {@code predicate}.
+     * Does nothing if {@code predicate} is the current predicate.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate == this.predicate) {
+            return;
+        }
+        this.predicate = predicate;
+
+        int[] oldFiltered = filtered;
+        int oldSize = size;
+        filtered = new int[getSource().size()];
+        size = 0;
+        beginChange();
+        // Walk the source once, reporting each person entering or leaving the view at its position in the new view
+        int oldPosition = 0;
+        for (int i = 0; i < getSource().size(); i++) {
+            Person person = getSource().get(i);
+            boolean wasInView = oldPosition < oldSize && oldFiltered[oldPosition] == i;
+            if (wasInView) {
+                oldPosition++;
+            }
+            boolean isInView = predicate.test(person);
+            if (isInView) {
+                filtered[size++] = i;
+                if (!wasInView) {
+                    nextAdd(size - 1, size);
+                }
+            } else if (wasInView) {
+                nextRemove(size, person);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Narrows the view to the persons in it that match {@code refinement}, which becomes the predicate.
+     * {@code refinement} must only accept persons that the current predicate accepts (e.g. a search for a longer
+     * keyword than the current search), so that only the persons currently in view need to be tested. Persons added to
+     * the source list afterwards are tested against {@code refinement} alone.
+     */
+    public void refinePredicate(Predicate<? super Person> refinement) {
+        requireNonNull(refinement);
+        // Replacing rather than combining the predicates keeps repeated refinements from piling up
+        predicate = refinement;
+
+        beginChange();
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            Person person = getSource().get(filtered[i]);
+            if (refinement.test(person)) {
+                filtered[newSize++] = filtered[i];
+            } else {
+                nextRemove(newSize, person);
+            }
+        }
+        size = newSize;
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the removed persons of {@code c} with the added persons that match the predicate.
+     * Only the added persons are tested; the source indices of the persons after them are shifted.
+     */
+    private void addRemove(Change<? extends Person> c) {
+        int from = c.getFrom();
+        int removedSize = c.getRemovedSize();
+        int addedSize = c.getAddedSize();
+        int lowPosition = findPosition(from);
+        int highPosition = findPosition(from + removedSize);
+
+        List<Person> removed = new ArrayList<>(highPosition - lowPosition);
+        for (int i = lowPosition; i < highPosition; i++) {
+            removed.add(c.getRemoved().get(filtered[i] - from));
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+
+        int newSize = size - removed.size() + addedCount;
+        int[] result = newSize > filtered.length ? new int[Math.max(newSize, filtered.length * 2)] : filtered;
+        int tailSize = size - highPosition;
+        int shift = addedSize - removedSize;
+        // The tail moves first, as the added persons may overwrite where it was
+        System.arraycopy(filtered, highPosition, result, lowPosition + addedCount, tailSize);
+        for (int i = lowPosition + addedCount; i < newSize; i++) {
+            result[i] += shift;
+        }
+        if (result != filtered) {
+            System.arraycopy(filtered, 0, result, 0, lowPosition);
+        }
+        System.arraycopy(added, 0, result, lowPosition, addedCount);
+        filtered = result;
+        size = newSize;
+
+        if (!removed.isEmpty()) {
+            nextRemove(lowPosition, removed);
+        }
+        if (addedCount > 0) {
+            nextAdd(lowPosition, lowPosition + addedCount);
+        }
+    }
+
+    /**
+     * Re-tests the persons updated in place by {@code c}.
+     */
+    private void update(Change<? extends Person> c) {
+        for (int i = c.getFrom(); i < c.getTo(); i++) {
+            int position = findPosition(i);
+            boolean wasInView = position < size && filtered[position] == i;
+            boolean isInView = predicate.test(getSource().get(i));
+            if (wasInView && isInView) {
+                nextUpdate(position);
+            } else if (wasInView) {
+                Person person = getSource().get(i);
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+                nextRemove(position, person);
+            } else if (isInView) {
+                if (size == filtered.length) {
+                    filtered = Arrays.copyOf(filtered, Math.max(1, size * 2));
+                }
+                System.arraycopy(filtered, position, filtered, position + 1, size - position);
+                filtered[position] = i;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    /**
+     * Reorders the view to follow the reordering of the source list by {@code c}. No person is tested.
+     */
+    private void permute(Change<? extends Person> c) {
+        Integer[] order = new Integer[size];
+        int[] newSourceIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            newSourceIndices[i] = c.getPermutation(filtered[i]);
+        }
+        Arrays.sort(order, Comparator.comparingInt(oldPosition -> newSourceIndices[oldPosition]));
+
+        int[] permutation = new int[size];
+        for (int newPosition = 0; newPosition < size; newPosition++) {
+            permutation[order[newPosition]] = newPosition;
+            filtered[newPosition] = newSourceIndices[order[newPosition]];
+        }
+        nextPermutation(0, size, permutation);
+    }
+
+    /**
+     * Returns the position in the view of the first person at or after {@code sourceIndex} in the source list.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position < 0 ? -1 : position;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a period of time in which no lesson takes place.
+ * Guarantees: immutable; end is after start.
+ */
+public class FreeSlot {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Every field must be present and not null, and {@code end} must be after {@code start}.
+     */
+    public FreeSlot(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(end.isAfter(start), "A free slot must end after it starts");
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+
+    /**
+     * Returns a one-line description of this slot for display to the user.
+     */
+    public String getDetails() {
+        String endPart = end.toLocalDate().equals(start.toLocalDate())
+                ? end.toLocalTime().toString()
+                : end.toLocalDate() + " " + end.toLocalTime();
+        return start.toLocalDate() + " from " + start.toLocalTime() + " to " + endPart
+                + " (" + getDuration().toMinutes() + " min)";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlot)) {
+            return false;
+        }
+
+        FreeSlot otherSlot = (FreeSlot) other;
+        return start.equals(otherSlot.start)
+                && end.equals(otherSlot.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
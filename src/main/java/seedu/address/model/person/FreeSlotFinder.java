@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the periods of a range of days in which no lesson takes place, using a sweep line over the lessons.
+ *
+ * Only the hours from {@code dayStart} to {@code dayEnd} of each day are searched, so that the nights between
+ * working days are not reported as free. The lessons are visited once in order of start time, keeping track of the
+ * latest time any lesson seen so far ends; a gap between that time and the start of the next lesson is free. Times
+ * are compared as {@link Lesson#getStartKey() keys}, so the sweep allocates nothing but the slots it returns.
+ */
+public class FreeSlotFinder {
+
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final long minLengthSeconds;
+
+    /**
+     * Creates a {@code FreeSlotFinder} for free slots of at least {@code minLength} from {@code dayStart} to
+     * {@code dayEnd} of each day. {@code dayEnd} must be after {@code dayStart}, and {@code minLength} must be
+     * positive.
+     */
+    public FreeSlotFinder(LocalTime dayStart, LocalTime dayEnd, Duration minLength) {
+        requireAllNonNull(dayStart, dayEnd, minLength);
+        checkArgument(dayEnd.isAfter(dayStart), "The end of the day must be after its start");
+        checkArgument(!minLength.isNegative() && !minLength.isZero(), "The length of a free slot must be positive");
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.minLengthSeconds = minLength.getSeconds();
+    }
+
+    /**
+     * Returns the free slots from {@code firstDay} to {@code lastDay}, both inclusive, in chronological order.
+     * {@code lessons} must be sorted by start time, and include every lesson still running at the start of
+     * {@code firstDay}. Lessons may span several days.
+     */
+    public List<FreeSlot> findFreeSlots(List<Lesson> lessons, LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(lessons, firstDay, lastDay);
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        int next = 0;
+        long busyUntil = Long.MIN_VALUE;
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            long windowStart = Lesson.toKey(day, dayStart);
+            long windowEnd = Lesson.toKey(day, dayEnd);
+            long freeFrom = Math.max(windowStart, busyUntil);
+            while (next < lessons.size() && lessons.get(next).getStartKey() < windowEnd) {
+                Lesson lesson = lessons.get(next++);
+                addIfLongEnough(freeSlots, freeFrom, Math.min(lesson.getStartKey(), windowEnd));
+                busyUntil = Math.max(busyUntil, lesson.getEndKey());
+                freeFrom = Math.max(freeFrom, busyUntil);
+            }
+            addIfLongEnough(freeSlots, freeFrom, windowEnd);
+        }
+        return freeSlots;
+    }
+
+    private void addIfLongEnough(List<FreeSlot> freeSlots, long fromKey, long toKey) {
+        if (toKey - fromKey >= minLengthSeconds) {
+            freeSlots.add(new FreeSlot(toDateTime(fromKey), toDateTime(toKey)));
+        }
+    }
+
+    private static LocalDateTime toDateTime(long key) {
+        return LocalDateTime.ofEpochSecond(key, 0, ZoneOffset.UTC);
+    }
+}
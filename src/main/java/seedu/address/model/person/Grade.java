@@ -3,15 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's grade for a specific subject and assessment in the address book.
  * Guarantees: immutable; is always valid
  */
 public class Grade {
+
+    private static final String NUMBER_REGEX = "\\d+(?:\\.\\d+)?";
+    private static final Pattern PLAIN_SCORE_PATTERN = Pattern.compile(NUMBER_REGEX);
+    private static final Pattern PERCENTAGE_SCORE_PATTERN = Pattern.compile("(" + NUMBER_REGEX + ")\\s*%");
+    private static final Pattern FRACTION_SCORE_PATTERN =
+            Pattern.compile("(" + NUMBER_REGEX + ")\\s*/\\s*(" + NUMBER_REGEX + ")");
+
     public final String subject;
     public final String assessment;
     public final String score;
+    private final double numericScore;
 
     /**
      * Constructs a {@code Grade}.
@@ -27,6 +38,7 @@ public class Grade {
         this.subject = subject.trim();
         this.assessment = assessment.trim();
         this.score = score.trim();
+        this.numericScore = parseNumericScore(this.score).orElse(Double.NaN);
     }
 
     public String getSubject() {
@@ -41,6 +53,40 @@ public class Grade {
         return score;
     }
 
+    /**
+     * Returns the score as a number, or an empty {@code OptionalDouble} if the score is not numeric (e.g. "A-").
+     */
+    public OptionalDouble getNumericScore() {
+        return Double.isNaN(numericScore) ? OptionalDouble.empty() : OptionalDouble.of(numericScore);
+    }
+
+    /**
+     * Parses {@code score} into a number, or returns an empty {@code OptionalDouble} if it is not numeric.
+     * Plain numbers ("89", "95.5") are taken as they are, while fractions ("17/20") and percentages ("85%") are
+     * converted to percentages, so that scores written in any of these forms can be aggregated together.
+     */
+    public static OptionalDouble parseNumericScore(String score) {
+        requireNonNull(score);
+        String trimmedScore = score.trim();
+        if (PLAIN_SCORE_PATTERN.matcher(trimmedScore).matches()) {
+            return OptionalDouble.of(Double.parseDouble(trimmedScore));
+        }
+
+        Matcher percentageMatcher = PERCENTAGE_SCORE_PATTERN.matcher(trimmedScore);
+        if (percentageMatcher.matches()) {
+            return OptionalDouble.of(Double.parseDouble(percentageMatcher.group(1)));
+        }
+
+        Matcher fractionMatcher = FRACTION_SCORE_PATTERN.matcher(trimmedScore);
+        if (fractionMatcher.matches()) {
+            double outOf = Double.parseDouble(fractionMatcher.group(2));
+            if (outOf > 0) {
+                return OptionalDouble.of(Double.parseDouble(fractionMatcher.group(1)) * 100 / outOf);
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
     /**
      * Returns true if a given string is a valid subject name.
      */
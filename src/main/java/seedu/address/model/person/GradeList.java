@@ -2,22 +2,25 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+
+import seedu.address.commons.util.HashTrieMap;
 
 /**
  * Represents a collection of grades for a person.
  * Guarantees: immutable; grades are always valid
+ *
+ * Grades are kept in a {@link HashTrieMap}, so adding or removing a grade shares all other grades with the original
+ * list instead of copying them.
  */
 public class GradeList {
-    private final Map<String, Grade> grades;
+    private final HashTrieMap<String, Grade> grades;
 
     /**
      * Constructs an empty GradeList.
      */
     public GradeList() {
-        this.grades = new HashMap<>();
+        this.grades = HashTrieMap.empty();
     }
 
     /**
@@ -25,7 +28,11 @@ public class GradeList {
      */
     public GradeList(Map<String, Grade> grades) {
         requireNonNull(grades);
-        this.grades = new HashMap<>(grades);
+        this.grades = HashTrieMap.copyOf(grades);
+    }
+
+    private GradeList(HashTrieMap<String, Grade> grades) {
+        this.grades = grades;
     }
 
     /**
@@ -34,10 +41,8 @@ public class GradeList {
      */
     public GradeList addGrade(Grade grade) {
         requireNonNull(grade);
-        Map<String, Grade> newGrades = new HashMap<>(this.grades);
         String key = grade.getSubject() + "/" + grade.getAssessment();
-        newGrades.put(key, grade);
-        return new GradeList(newGrades);
+        return new GradeList(grades.put(key, grade));
     }
 
     /**
@@ -46,9 +51,7 @@ public class GradeList {
     public GradeList removeGrade(String subject, String assessment) {
         requireNonNull(subject);
         requireNonNull(assessment);
-        Map<String, Grade> newGrades = new HashMap<>(this.grades);
-        newGrades.remove(subject + "/" + assessment);
-        return new GradeList(newGrades);
+        return new GradeList(grades.remove(subject + "/" + assessment));
     }
 
     /**
@@ -68,10 +71,10 @@ public class GradeList {
     }
 
     /**
-     * Returns all grades as a map.
+     * Returns an unmodifiable view of all grades as a map.
      */
     public Map<String, Grade> getGrades() {
-        return new HashMap<>(grades);
+        return grades.asMap();
     }
 
     /**
@@ -93,7 +96,7 @@ public class GradeList {
         if (grades.isEmpty()) {
             return "No grades recorded";
         }
-        return grades.values().toString();
+        return grades.asMap().values().toString();
     }
 
     @Override
@@ -110,6 +113,6 @@ public class GradeList {
 
     @Override
     public int hashCode() {
-        return Objects.hash(grades);
+        return grades.hashCode();
     }
 }
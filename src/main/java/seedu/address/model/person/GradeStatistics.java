@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Summarises the numeric scores of a group of grades, such as all grades of a subject.
+ * Guarantees: immutable; describes at least one score
+ */
+public class GradeStatistics {
+
+    private final int count;
+    private final double mean;
+    private final double min;
+    private final double max;
+    private final double variance;
+
+    /**
+     * Constructs a {@code GradeStatistics} of {@code count} scores.
+     *
+     * @param count The number of scores, which must be positive.
+     * @param mean The mean of the scores.
+     * @param min The lowest score.
+     * @param max The highest score.
+     * @param variance The population variance of the scores.
+     */
+    public GradeStatistics(int count, double mean, double min, double max, double variance) {
+        checkArgument(count > 0, "Grade statistics must describe at least one score.");
+        checkArgument(min <= max && variance >= 0, "Grade statistics are inconsistent.");
+        this.count = count;
+        this.mean = mean;
+        this.min = min;
+        this.max = max;
+        this.variance = variance;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getVariance() {
+        return variance;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    /**
+     * Returns a string with the statistics, with scores rounded to two decimal places.
+     */
+    public String getDetails() {
+        return String.format("%d score(s), mean %.2f, min %.2f, max %.2f, variance %.2f",
+                count, mean, min, max, variance);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradeStatistics)) {
+            return false;
+        }
+
+        GradeStatistics otherStatistics = (GradeStatistics) other;
+        return count == otherStatistics.count
+                && Double.compare(mean, otherStatistics.mean) == 0
+                && Double.compare(min, otherStatistics.min) == 0
+                && Double.compare(max, otherStatistics.max) == 0
+                && Double.compare(variance, otherStatistics.variance) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, mean, min, max, variance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("mean", mean)
+                .add("min", min)
+                .add("max", max)
+                .add("variance", variance)
+                .toString();
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Running statistics of the numeric grade scores of all indexed persons, per subject and per assessment of a subject.
+ * Each grade is folded into its aggregates when its person is indexed and taken back out when its person is unindexed,
+ * so recording or deleting a grade only touches the aggregates of that grade instead of rescanning every grade list.
+ * Grades whose score is not numeric are not counted.
+ *
+ * @see Grade#getNumericScore()
+ */
+public class GradeStatisticsIndex extends PersonIndex {
+
+    private final Map<String, Aggregate> subjectAggregates = new HashMap<>();
+    private final Map<String, Map<String, Aggregate>> assessmentAggregates = new HashMap<>();
+
+    @Override
+    protected void index(Person person) {
+        for (Grade grade : person.getGradeList().getGrades().values()) {
+            OptionalDouble score = grade.getNumericScore();
+            if (score.isEmpty()) {
+                continue;
+            }
+            subjectAggregates.computeIfAbsent(grade.getSubject(), unused -> new Aggregate())
+                    .add(score.getAsDouble());
+            assessmentAggregates.computeIfAbsent(grade.getSubject(), unused -> new HashMap<>())
+                    .computeIfAbsent(grade.getAssessment(), unused -> new Aggregate())
+                    .add(score.getAsDouble());
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (Grade grade : person.getGradeList().getGrades().values()) {
+            OptionalDouble score = grade.getNumericScore();
+            if (score.isEmpty()) {
+                continue;
+            }
+            removeScore(subjectAggregates, grade.getSubject(), score.getAsDouble());
+            Map<String, Aggregate> aggregates = assessmentAggregates.get(grade.getSubject());
+            if (aggregates == null) {
+                continue;
+            }
+            removeScore(aggregates, grade.getAssessment(), score.getAsDouble());
+            if (aggregates.isEmpty()) {
+                assessmentAggregates.remove(grade.getSubject());
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        subjectAggregates.clear();
+        assessmentAggregates.clear();
+    }
+
+    /**
+     * Returns the statistics of every subject with at least one numeric score, sorted by subject.
+     */
+    public SortedMap<String, GradeStatistics> getSubjectStatistics() {
+        return toStatistics(subjectAggregates);
+    }
+
+    /**
+     * Returns the statistics of every assessment of {@code subject} with at least one numeric score, sorted by
+     * assessment. The map is empty if {@code subject} has no numeric scores.
+     */
+    public SortedMap<String, GradeStatistics> getAssessmentStatistics(String subject) {
+        requireNonNull(subject);
+        return toStatistics(assessmentAggregates.getOrDefault(subject, Collections.emptyMap()));
+    }
+
+    private static void removeScore(Map<String, Aggregate> aggregates, String key, double score) {
+        Aggregate aggregate = aggregates.get(key);
+        if (aggregate == null) {
+            return;
+        }
+        aggregate.remove(score);
+        if (aggregate.count == 0) {
+            aggregates.remove(key);
+        }
+    }
+
+    private static SortedMap<String, GradeStatistics> toStatistics(Map<String, Aggregate> aggregates) {
+        SortedMap<String, GradeStatistics> statistics = new TreeMap<>();
+        aggregates.forEach((key, aggregate) -> statistics.put(key, aggregate.toStatistics()));
+        return Collections.unmodifiableSortedMap(statistics);
+    }
+
+    /**
+     * A mutable aggregate of scores. The mean and variance are maintained with Welford's update, which can also be
+     * run in reverse to remove a score. The scores are kept in a sorted multiset so that the minimum and maximum
+     * remain available after the current extreme is removed.
+     */
+    private static class Aggregate {
+        private final TreeMap<Double, Integer> scoreCounts = new TreeMap<>();
+        private int count;
+        private double mean;
+        private double sumOfSquaredDeviations;
+
+        void add(double score) {
+            count++;
+            double delta = score - mean;
+            mean += delta / count;
+            sumOfSquaredDeviations += delta * (score - mean);
+            scoreCounts.merge(score, 1, Integer::sum);
+        }
+
+        void remove(double score) {
+            Integer scoreCount = scoreCounts.get(score);
+            if (scoreCount == null) {
+                return;
+            }
+            if (scoreCount == 1) {
+                scoreCounts.remove(score);
+            } else {
+                scoreCounts.put(score, scoreCount - 1);
+            }
+
+            count--;
+            if (count == 0) {
+                mean = 0;
+                sumOfSquaredDeviations = 0;
+                return;
+            }
+            double delta = score - mean;
+            mean -= delta / count;
+            sumOfSquaredDeviations -= delta * (score - mean);
+        }
+
+        GradeStatistics toStatistics() {
+            double variance = Math.max(0, sumOfSquaredDeviations / count);
+            return new GradeStatistics(count, mean, scoreCounts.firstKey(), scoreCounts.lastKey(), variance);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the numeric score of one person for an assessment in the gradebook.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class GradebookEntry {
+
+    private final Person person;
+    private final double score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public GradebookEntry(Person person, double score) {
+        requireNonNull(person);
+        this.person = person;
+        this.score = score;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Returns a one-line description of this entry for display to the user.
+     */
+    public String getDetails() {
+        return String.format("%s: %.2f", person.getName(), score);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradebookEntry)) {
+            return false;
+        }
+
+        GradebookEntry otherEntry = (GradebookEntry) other;
+        return person.equals(otherEntry.person)
+                && Double.compare(score, otherEntry.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("score", score)
+                .toString();
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * A columnar store of the grades of all indexed persons, for queries over a whole cohort.
+ * Each indexed person is given a small ordinal, and each (subject, assessment) pair has a column holding one dense
+ * array of numeric scores indexed by ordinal, so a query over an assessment scans one array instead of looking up the
+ * grade list of every person. Ordinals of removed persons are reused, so the arrays stay as long as the cohort.
+ *
+ * @see Grade#getNumericScore()
+ */
+public class GradebookIndex extends PersonIndex {
+
+    /** Number of buckets returned by {@link #getHistogram}. */
+    public static final int HISTOGRAM_BUCKET_COUNT = 10;
+    /** Range of scores covered by each bucket returned by {@link #getHistogram}. */
+    public static final double HISTOGRAM_BUCKET_WIDTH = 10;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final BitSet occupiedOrdinals = new BitSet();
+    private Person[] personsByOrdinal = new Person[INITIAL_CAPACITY];
+    private final Map<String, Map<String, Column>> columns = new HashMap<>();
+
+    @Override
+    protected void index(Person person) {
+        int ordinal = occupiedOrdinals.nextClearBit(0);
+        if (ordinal >= personsByOrdinal.length) {
+            personsByOrdinal = Arrays.copyOf(personsByOrdinal, personsByOrdinal.length * 2);
+        }
+        occupiedOrdinals.set(ordinal);
+        personsByOrdinal[ordinal] = person;
+        ordinals.put(person, ordinal);
+
+        for (Grade grade : person.getGradeList().getGrades().values()) {
+            columns.computeIfAbsent(grade.getSubject(), unused -> new HashMap<>())
+                    .computeIfAbsent(grade.getAssessment(), unused -> new Column())
+                    .set(ordinal, grade.getNumericScore());
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        occupiedOrdinals.clear(ordinal);
+        personsByOrdinal[ordinal] = null;
+
+        for (Grade grade : person.getGradeList().getGrades().values()) {
+            Map<String, Column> subjectColumns = columns.get(grade.getSubject());
+            if (subjectColumns == null) {
+                continue;
+            }
+            Column column = subjectColumns.get(grade.getAssessment());
+            if (column == null) {
+                continue;
+            }
+            column.clear(ordinal);
+            if (column.gradedCount == 0) {
+                subjectColumns.remove(grade.getAssessment());
+            }
+            if (subjectColumns.isEmpty()) {
+                columns.remove(grade.getSubject());
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        ordinals.clear();
+        occupiedOrdinals.clear();
+        personsByOrdinal = new Person[INITIAL_CAPACITY];
+        columns.clear();
+    }
+
+    /**
+     * Returns the numeric scores for {@code assessment} of {@code subject}, from highest to lowest.
+     * Persons with equal scores are ordered by name. Grades that are not numeric are left out.
+     */
+    public List<GradebookEntry> getRanking(String subject, String assessment) {
+        Column column = getColumn(subject, assessment);
+        if (column == null) {
+            return Collections.emptyList();
+        }
+
+        List<GradebookEntry> ranking = new ArrayList<>(column.gradedCount);
+        double[] scores = column.scores;
+        for (int ordinal = column.graded.nextSetBit(0); ordinal >= 0;
+                ordinal = column.graded.nextSetBit(ordinal + 1)) {
+            if (!Double.isNaN(scores[ordinal])) {
+                ranking.add(new GradebookEntry(personsByOrdinal[ordinal], scores[ordinal]));
+            }
+        }
+        ranking.sort(Comparator.comparingDouble(GradebookEntry::getScore).reversed()
+                .thenComparing(entry -> entry.getPerson().getName().fullName));
+        return ranking;
+    }
+
+    /**
+     * Returns the number of numeric scores for {@code assessment} of {@code subject} in each of
+     * {@link #HISTOGRAM_BUCKET_COUNT} buckets of {@link #HISTOGRAM_BUCKET_WIDTH}, starting from 0.
+     * Scores beyond the last bucket are counted in the last bucket.
+     */
+    public int[] getHistogram(String subject, String assessment) {
+        int[] histogram = new int[HISTOGRAM_BUCKET_COUNT];
+        Column column = getColumn(subject, assessment);
+        if (column == null) {
+            return histogram;
+        }
+
+        double[] scores = column.scores;
+        for (int ordinal = column.graded.nextSetBit(0); ordinal >= 0;
+                ordinal = column.graded.nextSetBit(ordinal + 1)) {
+            if (!Double.isNaN(scores[ordinal])) {
+                int bucket = (int) (scores[ordinal] / HISTOGRAM_BUCKET_WIDTH);
+                histogram[Math.min(bucket, HISTOGRAM_BUCKET_COUNT - 1)]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the indexed persons without a grade for {@code assessment} of {@code subject}, ordered by name.
+     */
+    public List<Person> getMissing(String subject, String assessment) {
+        Column column = getColumn(subject, assessment);
+        BitSet missing = (BitSet) occupiedOrdinals.clone();
+        if (column != null) {
+            missing.andNot(column.graded);
+        }
+
+        List<Person> persons = new ArrayList<>(missing.cardinality());
+        for (int ordinal = missing.nextSetBit(0); ordinal >= 0; ordinal = missing.nextSetBit(ordinal + 1)) {
+            persons.add(personsByOrdinal[ordinal]);
+        }
+        persons.sort(Comparator.comparing(person -> person.getName().fullName));
+        return persons;
+    }
+
+    private Column getColumn(String subject, String assessment) {
+        requireNonNull(subject);
+        requireNonNull(assessment);
+        Map<String, Column> subjectColumns = columns.get(subject);
+        return subjectColumns == null ? null : subjectColumns.get(assessment);
+    }
+
+    /**
+     * The scores of one assessment, indexed by person ordinal. A person with a grade that is not numeric is marked
+     * as graded with a score of {@code NaN}.
+     */
+    private static class Column {
+        private final BitSet graded = new BitSet();
+        private double[] scores = new double[INITIAL_CAPACITY];
+        private int gradedCount;
+
+        void set(int ordinal, OptionalDouble score) {
+            if (ordinal >= scores.length) {
+                scores = Arrays.copyOf(scores, Math.max(scores.length * 2, ordinal + 1));
+            }
+            scores[ordinal] = score.orElse(Double.NaN);
+            if (!graded.get(ordinal)) {
+                graded.set(ordinal);
+                gradedCount++;
+            }
+        }
+
+        void clear(int ordinal) {
+            if (graded.get(ordinal)) {
+                graded.clear(ordinal);
+                gradedCount--;
+            }
+        }
+    }
+}
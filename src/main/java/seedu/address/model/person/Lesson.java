@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Objects;
 
@@ -13,13 +12,16 @@ import java.util.Objects;
  */
 public class Lesson implements Comparable<Lesson> {
 
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
     private final LocalTime start;
     private final LocalTime end;
     private final LocalDate date;
     private final LocalDate endDate;
     private final String sub;
     private final boolean isPresent;
-
+    private final long startKey;
+    private final long endKey;
 
     /**
      * Constructs a {@code Lesson} with isPresent set to false.
@@ -37,6 +39,8 @@ public class Lesson implements Comparable<Lesson> {
         this.sub = sub;
         this.endDate = this.date;
         this.isPresent = false;
+        this.startKey = toKey(this.date, this.start);
+        this.endKey = toKey(this.endDate, this.end);
     }
 
     /**
@@ -55,6 +59,8 @@ public class Lesson implements Comparable<Lesson> {
         this.sub = sub;
         this.endDate = date;
         this.isPresent = false;
+        this.startKey = toKey(this.date, this.start);
+        this.endKey = toKey(this.endDate, this.end);
     }
 
     /**
@@ -74,6 +80,8 @@ public class Lesson implements Comparable<Lesson> {
         this.sub = sub;
         this.endDate = LocalDate.parse(date);
         this.isPresent = isPresent;
+        this.startKey = toKey(this.date, this.start);
+        this.endKey = toKey(this.endDate, this.end);
     }
 
     /**
@@ -93,6 +101,8 @@ public class Lesson implements Comparable<Lesson> {
         this.sub = sub;
         this.endDate = date;
         this.isPresent = isPresent;
+        this.startKey = toKey(this.date, this.start);
+        this.endKey = toKey(this.endDate, this.end);
     }
 
     /**
@@ -128,6 +138,8 @@ public class Lesson implements Comparable<Lesson> {
         this.endDate = endDate;
         this.sub = sub;
         this.isPresent = isPresent;
+        this.startKey = toKey(this.date, this.start);
+        this.endKey = toKey(this.endDate, this.end);
     }
 
     public LocalTime getStart() {
@@ -154,17 +166,31 @@ public class Lesson implements Comparable<Lesson> {
         return this.isPresent;
     }
 
+    /**
+     * Returns the start of this lesson as seconds since the epoch (in local time), for allocation-free comparisons.
+     */
+    public long getStartKey() {
+        return startKey;
+    }
+
+    /**
+     * Returns the end of this lesson as seconds since the epoch (in local time), for allocation-free comparisons.
+     */
+    public long getEndKey() {
+        return endKey;
+    }
+
+    static long toKey(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+
     /**
      * Returns true if this lesson overlaps in time with {@code other} on the same date.
      * Lessons that end exactly when another begins are not considered overlapping.
      */
     public boolean overlapsWith(Lesson other) {
         requireAllNonNull(other);
-        LocalDateTime startDateTime = date.atTime(start);
-        LocalDateTime endDateTime = endDate.atTime(end);
-        LocalDateTime otherStart = other.date.atTime(other.start);
-        LocalDateTime otherEnd = other.endDate.atTime(other.end);
-        return startDateTime.isBefore(otherEnd) && endDateTime.isAfter(otherStart);
+        return startKey < other.endKey && endKey > other.startKey;
     }
 
     /**
@@ -184,13 +210,13 @@ public class Lesson implements Comparable<Lesson> {
      */
     @Override
     public int compareTo(Lesson other) {
-        // First compare by date
-        int dateComparison = this.date.atTime(start).compareTo(other.date.atTime(other.start));
-        if (dateComparison != 0) {
-            return dateComparison;
+        // First compare by start date and time
+        int startComparison = Long.compare(startKey, other.startKey);
+        if (startComparison != 0) {
+            return startComparison;
         }
-        // If same date, compare by start time
-        return this.endDate.atTime(end).compareTo(other.endDate.atTime(other.end));
+        // If same start, compare by end date and time
+        return Long.compare(endKey, other.endKey);
     }
 
     @Override
@@ -1,54 +1,115 @@
 package seedu.address.model.person;
 
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
  * Represents a Person's list of lessons in the address book.
  * Guarantees: immutable; is always valid
+ *
+ * Lessons are kept sorted by start time in a persistent AVL tree. Adding, removing or replacing a lesson copies only
+ * the O(log n) nodes on the path to it and shares the rest of the tree with the original list.
+ * Every node also records the latest end key (see {@link Lesson#getEndKey()}) and the number of attended lessons in
+ * its subtree, which makes the tree an interval tree: overlap checks are O(log n) and the attendance count is O(1).
+ *
+ * Recurring lessons are kept as {@link LessonSeries} rules next to the tree rather than as one node per lesson, so a
+ * long series costs no more to store or check than a short one. The lessons of the series are only expanded, and
+ * merged with the other lessons, the first time the whole list is read by index.
  */
 public class LessonList {
 
-    private final ArrayList<Lesson> list;
+    private final Node root;
+    private final List<LessonSeries> series;
+    private final List<Lesson> oneOffLessonsView = new LessonsView();
+    private volatile List<Lesson> expandedLessons;
 
     /**
      * Constructs an empty {@code LessonList}.
      */
     public LessonList() {
-        this.list = new ArrayList<>();
+        this.root = null;
+        this.series = List.of();
     }
 
     /**
      * Constructs a {@code LessonList} with given ArrayList.
      */
     public LessonList(ArrayList<Lesson> list) {
-        this.list = new ArrayList<>(list);
-        sortLessons();
+        this(list, List.of());
+    }
+
+    /**
+     * Constructs a {@code LessonList} with the given one-off lessons and lesson series.
+     */
+    public LessonList(ArrayList<Lesson> list, List<LessonSeries> series) {
+        List<Lesson> sortedLessons = new ArrayList<>(list);
+        Collections.sort(sortedLessons);
+        this.root = Node.build(sortedLessons, 0, sortedLessons.size());
+        this.series = List.copyOf(series);
+    }
+
+    private LessonList(Node root, List<LessonSeries> series) {
+        this.root = root;
+        this.series = series;
     }
 
     /**
      * Checks for duplicates of the lesson in the list
      */
     public boolean hasDuplicates(Lesson lesson) {
-        for (Lesson l: list) {
-            if (lesson.equals(l)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(root, lesson, 0) >= 0 || findSeriesContaining(lesson) >= 0;
+    }
+
+    /**
+     * Returns true if the list already has the lesson series {@code lessonSeries}.
+     */
+    public boolean hasDuplicates(LessonSeries lessonSeries) {
+        return series.contains(lessonSeries);
     }
 
     /**
      * Returns true if {@code lesson} overlaps in time with any lesson already inside the list.
      */
     public boolean hasOverlappingLesson(Lesson lesson) {
-        for (Lesson existing : list) {
-            if (existing.overlapsWith(lesson)) {
+        Node node = root;
+        while (node != null) {
+            if (node.lesson.overlapsWith(lesson)) {
                 return true;
             }
+            // If some lesson on the left is still running when {@code lesson} starts but does not overlap it,
+            // it starts after {@code lesson} ends, and so does every lesson on the right.
+            node = node.left != null && node.left.maxEndKey > lesson.getStartKey() ? node.left : node.right;
         }
-        return false;
+        return series.stream().anyMatch(existingSeries -> existingSeries.findOverlap(lesson).isPresent());
+    }
+
+    /**
+     * Returns true if any lesson of {@code lessonSeries} overlaps in time with any lesson already inside the list.
+     * Only the one-off lessons between the first and last lessons of {@code lessonSeries} are checked.
+     */
+    public boolean hasOverlappingLesson(LessonSeries lessonSeries) {
+        return hasOverlappingLesson(root, lessonSeries)
+                || series.stream().anyMatch(existingSeries -> existingSeries.findOverlap(lessonSeries).isPresent());
+    }
+
+    private static boolean hasOverlappingLesson(Node node, LessonSeries lessonSeries) {
+        if (node == null || node.maxEndKey <= lessonSeries.getFirstStartKey()) {
+            return false;
+        }
+        if (lessonSeries.findOverlap(node.lesson).isPresent() || hasOverlappingLesson(node.left, lessonSeries)) {
+            return true;
+        }
+        return node.lesson.getStartKey() < lessonSeries.getLastEndKey()
+                && hasOverlappingLesson(node.right, lessonSeries);
     }
 
     /**
@@ -56,73 +117,244 @@ public class LessonList {
      * Does not modify the original LessonList.
      */
     public LessonList add(Lesson lesson) {
-        ArrayList<Lesson> newList = new ArrayList<>(list);
-        int insertIndex = findInsertionIndex(lesson, newList);
-        newList.add(insertIndex, lesson);
-        return new LessonList(newList);
+        return new LessonList(Node.insert(root, lesson), series);
     }
 
     /**
-     * Finds the correct index to insert a lesson while maintaining chronological order.
+     * Returns a new LessonList with the lesson series added.
+     * Does not modify the original LessonList.
      */
-    private int findInsertionIndex(Lesson newLesson, ArrayList<Lesson> targetList) {
-        for (int i = 0; i < targetList.size(); i++) {
-            if (targetList.get(i).compareTo(newLesson) > 0) {
-                return i;
-            }
+    public LessonList addSeries(LessonSeries lessonSeries) {
+        List<LessonSeries> newSeries = new ArrayList<>(series);
+        newSeries.add(lessonSeries);
+        return new LessonList(root, Collections.unmodifiableList(newSeries));
+    }
+
+    /**
+     * Removes a lesson from the list.
+     * Removing a lesson of a series skips the date of the lesson in the series.
+     */
+    public LessonList remove(Lesson lesson) {
+        int index = indexOf(root, lesson, 0);
+        if (index >= 0) {
+            return new LessonList(Node.removeAt(root, index), series);
+        }
+        int seriesIndex = findSeriesContaining(lesson);
+        if (seriesIndex < 0) {
+            return this;
         }
-        return targetList.size();
+        return withSeries(seriesIndex, series.get(seriesIndex).withSkippedDate(lesson.getDate()));
     }
 
     /**
-     * Sorts the existing list chronologically.
+     * Returns a new LessonList with the lesson at {@code index} replaced by {@code lesson}, which is moved if it does
+     * not take place at the same time as the lesson it replaces.
+     * If the lesson replaced is a lesson of a series and only its attendance changes, the series records the
+     * attendance; otherwise the lesson is taken out of the series and {@code lesson} becomes a one-off lesson.
+     * Does not modify the original LessonList.
      */
-    private void sortLessons() {
-        Collections.sort(list);
+    public LessonList set(int index, Lesson lesson) {
+        Objects.checkIndex(index, size());
+        Lesson oldLesson = get(index);
+        int treeIndex = indexOf(root, oldLesson, 0);
+        if (treeIndex < 0) {
+            int seriesIndex = findSeriesContaining(oldLesson);
+            LessonSeries oldSeries = series.get(seriesIndex);
+            Lesson lessonWithOldAttendance = new Lesson(lesson.getStart(), lesson.getEnd(), lesson.getDate(),
+                    lesson.getEndDate(), lesson.getSub(), oldLesson.isPresent());
+            if (lessonWithOldAttendance.equals(oldLesson)) {
+                return withSeries(seriesIndex, oldSeries.withAttendance(lesson.getDate(), lesson.isPresent()));
+            }
+            return withSeries(seriesIndex, oldSeries.withSkippedDate(oldLesson.getDate())).add(lesson);
+        }
+        if (oldLesson.compareTo(lesson) == 0) {
+            return new LessonList(Node.replaceAt(root, treeIndex, lesson), series);
+        }
+        return new LessonList(Node.insert(Node.removeAt(root, treeIndex), lesson), series);
+    }
+
+    private LessonList withSeries(int seriesIndex, LessonSeries lessonSeries) {
+        List<LessonSeries> newSeries = new ArrayList<>(series);
+        newSeries.set(seriesIndex, lessonSeries);
+        return new LessonList(root, Collections.unmodifiableList(newSeries));
+    }
+
+    private int findSeriesContaining(Lesson lesson) {
+        for (int i = 0; i < series.size(); i++) {
+            if (series.get(i).contains(lesson)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Removes a lesson from the list.
+     * Returns the index of the first lesson in the subtree rooted at {@code node} that equals {@code lesson},
+     * or -1 if there is none. {@code offset} is the number of lessons before the subtree.
      */
-    public LessonList remove(Lesson lesson) {
-        ArrayList<Lesson> newList = new ArrayList<>(list);
-        newList.remove(lesson);
-        return new LessonList(newList);
+    private static int indexOf(Node node, Lesson lesson, int offset) {
+        if (node == null) {
+            return -1;
+        }
+        int comparison = lesson.compareTo(node.lesson);
+        if (comparison < 0) {
+            return indexOf(node.left, lesson, offset);
+        }
+        int nodeIndex = offset + Node.size(node.left);
+        if (comparison > 0) {
+            return indexOf(node.right, lesson, nodeIndex + 1);
+        }
+        // Lessons at the same time may be on both sides, so search the left side first to find the first match
+        int leftIndex = indexOf(node.left, lesson, offset);
+        if (leftIndex >= 0) {
+            return leftIndex;
+        }
+        return node.lesson.equals(lesson) ? nodeIndex : indexOf(node.right, lesson, nodeIndex + 1);
     }
 
     /**
      * Returns the lesson at the specified index.
+     * The lessons of the series are not expanded: the lesson is found among the few lessons that start on the date by
+     * which more than {@code index} lessons have started.
      */
     public Lesson get(int index) {
-        return list.get(index);
+        Objects.checkIndex(index, size());
+        if (series.isEmpty()) {
+            return Node.get(root, index);
+        }
+        List<Lesson> lessons = expandedLessons;
+        if (lessons != null) {
+            return lessons.get(index);
+        }
+
+        long low = Long.MAX_VALUE;
+        long high = Long.MIN_VALUE;
+        if (root != null) {
+            low = Node.get(root, 0).getDate().toEpochDay();
+            high = Node.get(root, root.size - 1).getDate().toEpochDay();
+        }
+        for (LessonSeries lessonSeries : series) {
+            low = Math.min(low, lessonSeries.getFirstDate().toEpochDay());
+            high = Math.max(high, lessonSeries.getLastDate().toEpochDay());
+        }
+        // Finds the first date by which more than {@code index} lessons have started
+        while (low < high) {
+            long mid = low + (high - low) / 2;
+            if (countLessonsUntil(LocalDate.ofEpochDay(mid)) > index) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        LocalDate date = LocalDate.ofEpochDay(low);
+        int treeFrom = Node.countStartingUntil(root, date.minusDays(1));
+        int treeTo = Node.countStartingUntil(root, date);
+        int lessonsBefore = treeFrom;
+        List<Lesson> lessonsOnDate = new ArrayList<>();
+        for (int i = treeFrom; i < treeTo; i++) {
+            lessonsOnDate.add(Node.get(root, i));
+        }
+        for (LessonSeries lessonSeries : series) {
+            lessonsBefore += lessonSeries.countLessonsUntil(date.minusDays(1));
+            if (lessonSeries.hasLessonOn(date)) {
+                lessonsOnDate.add(lessonSeries.getLesson(date));
+            }
+        }
+        Collections.sort(lessonsOnDate);
+        return lessonsOnDate.get(index - lessonsBefore);
+    }
+
+    /**
+     * Returns the number of lessons in the list that start on or before {@code date}.
+     */
+    private int countLessonsUntil(LocalDate date) {
+        int count = Node.countStartingUntil(root, date);
+        for (LessonSeries lessonSeries : series) {
+            count += lessonSeries.countLessonsUntil(date);
+        }
+        return count;
     }
 
     /**
-     * Returns the number of lessons in the list.
+     * Returns the number of lessons in the list, including the lessons of every series.
      */
     public int size() {
-        return list.size();
+        int size = Node.size(root);
+        for (LessonSeries lessonSeries : series) {
+            size += lessonSeries.size();
+        }
+        return size;
     }
 
     /**
      * Returns the number of attended lessons in the list.
      */
     public long getAttendedLessonCount() {
-        return list.stream().filter(lesson -> lesson.isPresent()).count();
+        long count = root == null ? 0 : root.attendedCount;
+        for (LessonSeries lessonSeries : series) {
+            count += lessonSeries.getAttendedCount();
+        }
+        return count;
     }
 
     /**
-     * Returns an unmodifiable view of the lesson list.
+     * Returns an unmodifiable view of the lesson list, including the lessons of every series, in chronological order.
      */
-    public ArrayList<Lesson> getLessons() {
-        return new ArrayList<>(list);
+    public List<Lesson> getLessons() {
+        if (series.isEmpty()) {
+            return oneOffLessonsView;
+        }
+        List<Lesson> lessons = expandedLessons;
+        if (lessons == null) {
+            lessons = expandLessons();
+            expandedLessons = lessons;
+        }
+        return lessons;
+    }
+
+    private List<Lesson> expandLessons() {
+        Lesson[] lessons = new Lesson[size()];
+        int count = 0;
+        for (Lesson lesson : oneOffLessonsView) {
+            lessons[count++] = lesson;
+        }
+        for (LessonSeries lessonSeries : series) {
+            for (Lesson lesson : lessonSeries.getLessons()) {
+                lessons[count++] = lesson;
+            }
+        }
+        Arrays.sort(lessons);
+        return Collections.unmodifiableList(Arrays.asList(lessons));
+    }
+
+    /**
+     * Returns an unmodifiable view of the lessons that are not part of a series, in chronological order.
+     */
+    public List<Lesson> getOneOffLessons() {
+        return oneOffLessonsView;
+    }
+
+    /**
+     * Returns true if this list shares its one-off lessons with {@code other}, e.g. because one was derived from the
+     * other by only changing its series. Lists that do not share them may still have equal one-off lessons.
+     */
+    public boolean hasSameOneOffLessons(LessonList other) {
+        return root == other.root;
+    }
+
+    /**
+     * Returns an unmodifiable view of the lesson series, in the order they were added.
+     */
+    public List<LessonSeries> getSeries() {
+        return series;
     }
 
     /**
      * Checks if the list is empty.
      */
     public boolean isEmpty() {
-        return list.isEmpty();
+        return root == null && series.stream().allMatch(lessonSeries -> lessonSeries.size() == 0);
     }
 
     @Override
@@ -137,11 +369,212 @@ public class LessonList {
         }
 
         LessonList otherLessonList = (LessonList) other;
-        return list.equals(otherLessonList.list);
+        if (Node.size(root) != Node.size(otherLessonList.root) || !series.equals(otherLessonList.series)) {
+            return false;
+        }
+        Iterator<Lesson> otherLessons = otherLessonList.oneOffLessonsView.iterator();
+        for (Lesson lesson : oneOffLessonsView) {
+            if (!lesson.equals(otherLessons.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(list);
+        return Objects.hash(oneOffLessonsView, series);
+    }
+
+    /**
+     * A node of the AVL tree. Nodes are never modified once created.
+     */
+    private static class Node {
+        private final Lesson lesson;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+        private final long maxEndKey;
+        private final int attendedCount;
+
+        private Node(Lesson lesson, Node left, Node right) {
+            this.lesson = lesson;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+            this.maxEndKey = Math.max(lesson.getEndKey(), Math.max(maxEndKey(left), maxEndKey(right)));
+            this.attendedCount = attendedCount(left) + attendedCount(right) + (lesson.isPresent() ? 1 : 0);
+        }
+
+        private static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static long maxEndKey(Node node) {
+            return node == null ? Long.MIN_VALUE : node.maxEndKey;
+        }
+
+        private static int attendedCount(Node node) {
+            return node == null ? 0 : node.attendedCount;
+        }
+
+        /**
+         * Returns a perfectly balanced tree of the lessons from {@code from} (inclusive) to {@code to} (exclusive)
+         * of {@code sortedLessons}.
+         */
+        private static Node build(List<Lesson> sortedLessons, int from, int to) {
+            if (from == to) {
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            return new Node(sortedLessons.get(mid), build(sortedLessons, from, mid), build(sortedLessons, mid + 1, to));
+        }
+
+        /**
+         * Returns the number of lessons in the subtree rooted at {@code node} that start on or before {@code date}.
+         */
+        private static int countStartingUntil(Node node, LocalDate date) {
+            int count = 0;
+            Node current = node;
+            while (current != null) {
+                if (current.lesson.getDate().isAfter(date)) {
+                    current = current.left;
+                } else {
+                    count += size(current.left) + 1;
+                    current = current.right;
+                }
+            }
+            return count;
+        }
+
+        private static Lesson get(Node node, int index) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return get(node.left, index);
+            }
+            return index == leftSize ? node.lesson : get(node.right, index - leftSize - 1);
+        }
+
+        /**
+         * Returns a tree with {@code lesson} inserted after all lessons that do not come after it chronologically.
+         */
+        private static Node insert(Node node, Lesson lesson) {
+            if (node == null) {
+                return new Node(lesson, null, null);
+            }
+            if (lesson.compareTo(node.lesson) < 0) {
+                return balance(node.lesson, insert(node.left, lesson), node.right);
+            }
+            return balance(node.lesson, node.left, insert(node.right, lesson));
+        }
+
+        private static Node replaceAt(Node node, int index, Lesson lesson) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return new Node(node.lesson, replaceAt(node.left, index, lesson), node.right);
+            }
+            if (index > leftSize) {
+                return new Node(node.lesson, node.left, replaceAt(node.right, index - leftSize - 1, lesson));
+            }
+            return new Node(lesson, node.left, node.right);
+        }
+
+        private static Node removeAt(Node node, int index) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return balance(node.lesson, removeAt(node.left, index), node.right);
+            }
+            if (index > leftSize) {
+                return balance(node.lesson, node.left, removeAt(node.right, index - leftSize - 1));
+            }
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            return balance(get(node.right, 0), node.left, removeAt(node.right, 0));
+        }
+
+        /**
+         * Returns a node with the given contents, rotated to restore the AVL balance if the heights of {@code left}
+         * and {@code right} differ by two.
+         */
+        private static Node balance(Lesson lesson, Node left, Node right) {
+            if (height(left) > height(right) + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node(left.lesson, left.left, new Node(lesson, left.right, right));
+                }
+                Node pivot = left.right;
+                return new Node(pivot.lesson, new Node(left.lesson, left.left, pivot.left),
+                        new Node(lesson, pivot.right, right));
+            }
+            if (height(right) > height(left) + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node(right.lesson, new Node(lesson, left, right.left), right.right);
+                }
+                Node pivot = right.left;
+                return new Node(pivot.lesson, new Node(lesson, left, pivot.left),
+                        new Node(right.lesson, pivot.right, right.right));
+            }
+            return new Node(lesson, left, right);
+        }
+    }
+
+    /**
+     * An unmodifiable {@code List} view of the one-off lessons in the tree, in chronological order.
+     */
+    private class LessonsView extends AbstractList<Lesson> {
+        @Override
+        public Lesson get(int index) {
+            Objects.checkIndex(index, size());
+            return Node.get(root, index);
+        }
+
+        @Override
+        public int size() {
+            return Node.size(root);
+        }
+
+        /**
+         * Returns an iterator that walks the tree in order, in O(1) amortized time per lesson.
+         */
+        @Override
+        public Iterator<Lesson> iterator() {
+            return new Iterator<>() {
+                private final Deque<Node> path = new ArrayDeque<>();
+
+                {
+                    pushLeftPath(root);
+                }
+
+                private void pushLeftPath(Node node) {
+                    for (Node current = node; current != null; current = current.left) {
+                        path.push(current);
+                    }
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return !path.isEmpty();
+                }
+
+                @Override
+                public Lesson next() {
+                    if (path.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+                    Node node = path.pop();
+                    pushLeftPath(node.right);
+                    return node.lesson;
+                }
+            };
+        }
     }
 }
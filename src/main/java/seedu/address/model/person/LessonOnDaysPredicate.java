@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has a lesson taking place on any of the days from a first day to a last day, both
+ * inclusive. A lesson that spans several days takes place on each of them, as in the timetable.
+ */
+public class LessonOnDaysPredicate implements Predicate<Person> {
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final long fromKey;
+    private final long toKey;
+
+    /**
+     * Constructs a {@code LessonOnDaysPredicate} for the days from {@code firstDay} to {@code lastDay}.
+     */
+    public LessonOnDaysPredicate(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        checkArgument(!lastDay.isBefore(firstDay), "The last day must not be before the first day.");
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.fromKey = Lesson.toKey(firstDay, LocalTime.MIDNIGHT);
+        this.toKey = Lesson.toKey(lastDay.plusDays(1), LocalTime.MIDNIGHT);
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        LessonList lessonList = person.getLessonList();
+        for (Lesson lesson : lessonList.getOneOffLessons()) {
+            if (lesson.getStartKey() >= toKey) {
+                // Lessons are sorted by start, so no later lesson takes place in the range either
+                break;
+            }
+            if (lesson.getEndKey() > fromKey) {
+                return true;
+            }
+        }
+        for (LessonSeries series : lessonList.getSeries()) {
+            if (series.hasLessonBetween(firstDay, lastDay)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonOnDaysPredicate)) {
+            return false;
+        }
+
+        LessonOnDaysPredicate otherPredicate = (LessonOnDaysPredicate) other;
+        return firstDay.equals(otherPredicate.firstDay)
+                && lastDay.equals(otherPredicate.lastDay);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .toString();
+    }
+}
@@ -0,0 +1,466 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a Person's lessons that repeat every week or every few weeks, such as weekly tutoring for a term.
+ * Guarantees: immutable; is always valid
+ *
+ * A series is stored as a rule rather than as one {@code Lesson} per occurrence: it has a lesson on its first date and
+ * every {@code intervalWeeks} weeks after that up to its last date, except on its skipped dates. Attendance is kept as
+ * one bit per date. Occurrences are only created as {@code Lesson}s when they are asked for, so the memory used by a
+ * series, and the time taken to check it for overlaps, do not grow with the length of the series.
+ */
+public class LessonSeries {
+
+    /** The largest number of dates a series can have: ten years of weekly lessons. */
+    public static final int MAX_DATE_COUNT = 520;
+
+    public static final String MESSAGE_CONSTRAINTS = "A lesson series must end after it starts on the same day, "
+            + "repeat every 1 or more weeks, not end before its first date, and have at most " + MAX_DATE_COUNT
+            + " dates.";
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final LocalTime start;
+    private final LocalTime end;
+    private final LocalDate firstDate;
+    private final int intervalWeeks;
+    private final int dateCount;
+    private final String sub;
+    private final SortedSet<LocalDate> skippedDates;
+    private final BitSet attendedDates;
+    private final int attendedCount;
+
+    /**
+     * Constructs a {@code LessonSeries} with no skipped dates and no attendance.
+     *
+     * @param start A valid time
+     * @param end A valid time after start
+     * @param firstDate The date of the first lesson
+     * @param untilDate The date after which there are no more lessons, which is not before {@code firstDate}
+     * @param intervalWeeks The number of weeks between lessons, which is positive
+     * @param sub A valid subject
+     */
+    public LessonSeries(LocalTime start, LocalTime end, LocalDate firstDate, LocalDate untilDate, int intervalWeeks,
+            String sub) {
+        this(start, end, firstDate, untilDate, intervalWeeks, sub, List.of(), List.of());
+    }
+
+    /**
+     * Constructs a {@code LessonSeries}.
+     * Every date in {@code skippedDates} and {@code attendedDates} must be a date of the series
+     * (see {@link #isSeriesDate(LocalDate)}), and no date can be both skipped and attended.
+     */
+    public LessonSeries(LocalTime start, LocalTime end, LocalDate firstDate, LocalDate untilDate, int intervalWeeks,
+            String sub, Collection<LocalDate> skippedDates, Collection<LocalDate> attendedDates) {
+        requireAllNonNull(start, end, firstDate, untilDate, sub, skippedDates, attendedDates);
+        checkArgument(isValidSeries(start, end, firstDate, untilDate, intervalWeeks), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+        this.firstDate = firstDate;
+        this.intervalWeeks = intervalWeeks;
+        this.dateCount = (int) (ChronoUnit.DAYS.between(firstDate, untilDate) / getIntervalDays() + 1);
+        this.sub = sub;
+
+        for (LocalDate date : skippedDates) {
+            checkArgument(isSeriesDate(date), "Skipped date " + date + " is not a date of the series");
+        }
+        this.skippedDates = Collections.unmodifiableSortedSet(new TreeSet<>(skippedDates));
+
+        this.attendedDates = new BitSet(dateCount);
+        for (LocalDate date : attendedDates) {
+            checkArgument(isSeriesDate(date) && !this.skippedDates.contains(date),
+                    "Attended date " + date + " is not a lesson of the series");
+            this.attendedDates.set(getDateNumber(date));
+        }
+        this.attendedCount = this.attendedDates.cardinality();
+    }
+
+    private LessonSeries(LessonSeries source, SortedSet<LocalDate> skippedDates, BitSet attendedDates) {
+        this.start = source.start;
+        this.end = source.end;
+        this.firstDate = source.firstDate;
+        this.intervalWeeks = source.intervalWeeks;
+        this.dateCount = source.dateCount;
+        this.sub = source.sub;
+        this.skippedDates = skippedDates;
+        this.attendedDates = attendedDates;
+        this.attendedCount = attendedDates.cardinality();
+    }
+
+    /**
+     * Returns true if the given values make a valid series.
+     */
+    public static boolean isValidSeries(LocalTime start, LocalTime end, LocalDate firstDate, LocalDate untilDate,
+            int intervalWeeks) {
+        return end.isAfter(start) && !untilDate.isBefore(firstDate) && intervalWeeks > 0
+                && ChronoUnit.DAYS.between(firstDate, untilDate) / ((long) intervalWeeks * DAYS_PER_WEEK)
+                        < MAX_DATE_COUNT;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    /**
+     * Returns the last date of the series, which may be a skipped date.
+     */
+    public LocalDate getLastDate() {
+        return getDate(dateCount - 1);
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public String getSub() {
+        return sub;
+    }
+
+    /**
+     * Returns an unmodifiable view of the dates of the series that have no lesson, in chronological order.
+     */
+    public SortedSet<LocalDate> getSkippedDates() {
+        return skippedDates;
+    }
+
+    /**
+     * Returns the dates of the lessons that were attended, in chronological order.
+     */
+    public List<LocalDate> getAttendedDates() {
+        List<LocalDate> dates = new ArrayList<>(attendedCount);
+        for (int i = attendedDates.nextSetBit(0); i >= 0; i = attendedDates.nextSetBit(i + 1)) {
+            dates.add(getDate(i));
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the number of lessons in the series.
+     */
+    public int size() {
+        return dateCount - skippedDates.size();
+    }
+
+    /**
+     * Returns the number of attended lessons in the series.
+     */
+    public int getAttendedCount() {
+        return attendedCount;
+    }
+
+    /**
+     * Returns true if {@code date} is a date of the series, whether or not it is skipped.
+     */
+    public boolean isSeriesDate(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(firstDate, date);
+        return days >= 0 && days % getIntervalDays() == 0 && days / getIntervalDays() < dateCount;
+    }
+
+    /**
+     * Returns true if the series has a lesson on {@code date}.
+     */
+    public boolean hasLessonOn(LocalDate date) {
+        return isSeriesDate(date) && !skippedDates.contains(date);
+    }
+
+    /**
+     * Returns the number of lessons of the series on or before {@code date}.
+     * Takes time proportional to the number of skipped dates, not the length of the series.
+     */
+    public int countLessonsUntil(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(firstDate, date);
+        if (days < 0) {
+            return 0;
+        }
+        long datesUntil = Math.min(dateCount, days / getIntervalDays() + 1);
+        int skippedUntil = skippedDates.headSet(date).size() + (skippedDates.contains(date) ? 1 : 0);
+        return (int) datesUntil - skippedUntil;
+    }
+
+    /**
+     * Returns true if the series has a lesson on {@code date} that was attended.
+     */
+    public boolean isAttendedOn(LocalDate date) {
+        return hasLessonOn(date) && attendedDates.get(getDateNumber(date));
+    }
+
+    /**
+     * Returns true if {@code other} has the same times, dates and subject as this series, so that the two can only
+     * differ in their skipped dates and attendance.
+     */
+    public boolean hasSameDates(LessonSeries other) {
+        return start.equals(other.start) && end.equals(other.end) && firstDate.equals(other.firstDate)
+                && intervalWeeks == other.intervalWeeks && dateCount == other.dateCount && sub.equals(other.sub);
+    }
+
+    /**
+     * Returns the dates on which {@code other}, which must have the same dates as this series (see
+     * {@link #hasSameDates(LessonSeries)}), differs from this series in whether there is a lesson or whether it was
+     * attended, in chronological order.
+     * Takes time proportional to the number of skipped dates of both series, not the length of the series.
+     */
+    public SortedSet<LocalDate> getChangedDates(LessonSeries other) {
+        assert hasSameDates(other);
+        SortedSet<LocalDate> changedDates = new TreeSet<>();
+        for (LocalDate date : skippedDates) {
+            if (!other.skippedDates.contains(date)) {
+                changedDates.add(date);
+            }
+        }
+        for (LocalDate date : other.skippedDates) {
+            if (!skippedDates.contains(date)) {
+                changedDates.add(date);
+            }
+        }
+        BitSet changedAttendance = (BitSet) attendedDates.clone();
+        changedAttendance.xor(other.attendedDates);
+        for (int i = changedAttendance.nextSetBit(0); i >= 0; i = changedAttendance.nextSetBit(i + 1)) {
+            changedDates.add(getDate(i));
+        }
+        return changedDates;
+    }
+
+    /**
+     * Returns the lesson of the series on {@code date}, which must be a date with a lesson.
+     */
+    public Lesson getLesson(LocalDate date) {
+        assert hasLessonOn(date);
+        return new Lesson(start, end, date, sub, attendedDates.get(getDateNumber(date)));
+    }
+
+    /**
+     * Returns the lessons of the series from {@code from} to {@code to}, both inclusive, in chronological order.
+     */
+    public List<Lesson> getLessonsBetween(LocalDate from, LocalDate to) {
+        List<Lesson> lessons = new ArrayList<>();
+        long fromDays = Math.max(0, ChronoUnit.DAYS.between(firstDate, from));
+        long toDays = ChronoUnit.DAYS.between(firstDate, to);
+        long intervalDays = getIntervalDays();
+        long lastNumber = Math.min(dateCount - 1, Math.floorDiv(toDays, intervalDays));
+        for (long number = (fromDays + intervalDays - 1) / intervalDays; number <= lastNumber; number++) {
+            LocalDate date = getDate((int) number);
+            if (!skippedDates.contains(date)) {
+                lessons.add(getLesson(date));
+            }
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns true if the series has a lesson on any of the days from {@code from} to {@code to}, both inclusive.
+     */
+    public boolean hasLessonBetween(LocalDate from, LocalDate to) {
+        long fromDays = Math.max(0, ChronoUnit.DAYS.between(firstDate, from));
+        long toDays = ChronoUnit.DAYS.between(firstDate, to);
+        long intervalDays = getIntervalDays();
+        long lastNumber = Math.min(dateCount - 1, Math.floorDiv(toDays, intervalDays));
+        for (long number = (fromDays + intervalDays - 1) / intervalDays; number <= lastNumber; number++) {
+            if (!skippedDates.contains(getDate((int) number))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all the lessons of the series, in chronological order.
+     */
+    public List<Lesson> getLessons() {
+        return getLessonsBetween(firstDate, getLastDate());
+    }
+
+    /**
+     * Returns true if {@code lesson} is one of the lessons of the series, including its attendance.
+     */
+    public boolean contains(Lesson lesson) {
+        return lesson.getDate().equals(lesson.getEndDate()) && hasLessonOn(lesson.getDate())
+                && getLesson(lesson.getDate()).equals(lesson);
+    }
+
+    /**
+     * Returns the earliest lesson of the series that overlaps {@code lesson}, if any.
+     */
+    public Optional<Lesson> findOverlap(Lesson lesson) {
+        requireAllNonNull(lesson);
+        // Lessons of a series start and end on the same day, so only those on the days of {@code lesson} can overlap
+        for (Lesson seriesLesson : getLessonsBetween(lesson.getDate(), lesson.getEndDate())) {
+            if (seriesLesson.overlapsWith(lesson)) {
+                return Optional.of(seriesLesson);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the earliest lesson of this series that overlaps a lesson of {@code other}, if any.
+     * Takes time proportional to the number of skipped dates of both series, not their length.
+     */
+    public Optional<Lesson> findOverlap(LessonSeries other) {
+        requireAllNonNull(other);
+        if (!start.isBefore(other.end) || !end.isAfter(other.start)) {
+            return Optional.empty();
+        }
+        LocalDate from = firstDate.isAfter(other.firstDate) ? firstDate : other.firstDate;
+        LocalDate to = getLastDate().isBefore(other.getLastDate()) ? getLastDate() : other.getLastDate();
+
+        // The dates of this series repeat modulo the interval of {@code other} after at most that many steps
+        LocalDate commonDate = null;
+        LocalDate date = getDate((int) ((Math.max(0, ChronoUnit.DAYS.between(firstDate, from)) + getIntervalDays() - 1)
+                / getIntervalDays()));
+        for (int step = 0; step < other.intervalWeeks && !date.isAfter(to); step++) {
+            if (other.isSeriesDate(date)) {
+                commonDate = date;
+                break;
+            }
+            date = date.plusWeeks(intervalWeeks);
+        }
+        if (commonDate == null) {
+            return Optional.empty();
+        }
+
+        // Each common date without a lesson is a skipped date of either series, so this loop ends quickly
+        long commonIntervalWeeks = lcm(intervalWeeks, other.intervalWeeks);
+        for (; !commonDate.isAfter(to); commonDate = commonDate.plusWeeks(commonIntervalWeeks)) {
+            if (!skippedDates.contains(commonDate) && !other.skippedDates.contains(commonDate)) {
+                return Optional.of(getLesson(commonDate));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a copy of this series without the lesson on {@code date}, which must be a date with a lesson.
+     */
+    public LessonSeries withSkippedDate(LocalDate date) {
+        checkArgument(hasLessonOn(date), "There is no lesson of the series on " + date);
+        SortedSet<LocalDate> newSkippedDates = new TreeSet<>(skippedDates);
+        newSkippedDates.add(date);
+        BitSet newAttendedDates = (BitSet) attendedDates.clone();
+        newAttendedDates.clear(getDateNumber(date));
+        return new LessonSeries(this, Collections.unmodifiableSortedSet(newSkippedDates), newAttendedDates);
+    }
+
+    /**
+     * Returns a copy of this series with the lesson on {@code date}, which must be a date with a lesson, marked as
+     * attended if {@code isPresent} or not attended otherwise.
+     */
+    public LessonSeries withAttendance(LocalDate date, boolean isPresent) {
+        checkArgument(hasLessonOn(date), "There is no lesson of the series on " + date);
+        BitSet newAttendedDates = (BitSet) attendedDates.clone();
+        newAttendedDates.set(getDateNumber(date), isPresent);
+        return new LessonSeries(this, skippedDates, newAttendedDates);
+    }
+
+    /**
+     * Returns the start of the first lesson of the series in the form of {@link Lesson#getStartKey()}.
+     */
+    public long getFirstStartKey() {
+        return Lesson.toKey(firstDate, start);
+    }
+
+    /**
+     * Returns the end of the last lesson of the series in the form of {@link Lesson#getEndKey()}.
+     */
+    public long getLastEndKey() {
+        return Lesson.toKey(getLastDate(), end);
+    }
+
+    /**
+     * Returns a string with the series' details, excluding attendance.
+     */
+    public String getDetails() {
+        String repeat = intervalWeeks == 1 ? "every week" : "every " + intervalWeeks + " weeks";
+        return sub + " class " + repeat + " on " + firstDate.getDayOfWeek() + " from " + start + " to " + end
+                + ", " + firstDate + " to " + getLastDate() + " (" + size() + " lessons)";
+    }
+
+    private long getIntervalDays() {
+        return (long) intervalWeeks * DAYS_PER_WEEK;
+    }
+
+    private LocalDate getDate(int dateNumber) {
+        return firstDate.plusWeeks((long) dateNumber * intervalWeeks);
+    }
+
+    private int getDateNumber(LocalDate date) {
+        return (int) (ChronoUnit.DAYS.between(firstDate, date) / getIntervalDays());
+    }
+
+    private static long lcm(long a, long b) {
+        long x = a;
+        long y = b;
+        while (y != 0) {
+            long remainder = x % y;
+            x = y;
+            y = remainder;
+        }
+        return a / x * b;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonSeries)) {
+            return false;
+        }
+
+        LessonSeries otherSeries = (LessonSeries) other;
+        return start.equals(otherSeries.start)
+                && end.equals(otherSeries.end)
+                && firstDate.equals(otherSeries.firstDate)
+                && intervalWeeks == otherSeries.intervalWeeks
+                && dateCount == otherSeries.dateCount
+                && sub.equals(otherSeries.sub)
+                && skippedDates.equals(otherSeries.skippedDates)
+                && attendedDates.equals(otherSeries.attendedDates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, firstDate, intervalWeeks, dateCount, sub);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sub", sub)
+                .add("start", start)
+                .add("end", end)
+                .add("firstDate", firstDate)
+                .add("lastDate", getLastDate())
+                .add("intervalWeeks", intervalWeeks)
+                .add("skippedDates", skippedDates)
+                .add("attendedDates", getAttendedDates())
+                .toString();
+    }
+}
@@ -21,6 +21,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +32,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        normalizedName = name.replaceAll("\\s+", "").toLowerCase();
     }
 
     /**
@@ -39,6 +42,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name with all whitespace removed and in lower case.
+     * Two names with the same normalized form refer to the same person identity.
+     */
+    public String getNormalizedName() {
+        return normalizedName;
+    }
 
     @Override
     public String toString() {
@@ -162,6 +162,14 @@ public class Person {
         return Collections.unmodifiableSet(attributes);
     }
 
+    /**
+     * Returns the key that identifies this person, i.e. the normalized name.
+     * Two persons are the same person if and only if their identity keys are equal.
+     */
+    public String getIdentityKey() {
+        return name.getNormalizedName();
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -178,9 +186,7 @@ public class Person {
             return false;
         }
 
-        String thisName = this.getName().fullName.replaceAll("\\s+", "").toLowerCase();
-        String otherName = otherPerson.getName().fullName.replaceAll("\\s+", "").toLowerCase();
-        return thisName.equals(otherName);
+        return getIdentityKey().equals(otherPerson.getIdentityKey());
     }
 
     /**
@@ -26,6 +26,27 @@ public class PersonContainsKeywordPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the keywords this predicate matches against.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if every person matching this predicate also matches {@code other}, judging from the keywords
+     * alone. This holds when each keyword of this predicate contains a keyword of {@code other}, e.g. when a keyword
+     * is typed further, as a field containing the longer keyword also contains the shorter one.
+     */
+    public boolean refines(PersonContainsKeywordPredicate other) {
+        assert other != null : "Predicate to compare with should not be null";
+        if (other.keywords.isEmpty()) {
+            return true;
+        }
+        return !keywords.isEmpty() && keywords.stream().allMatch(keyword -> other.keywords.stream()
+                .anyMatch(otherKeyword -> keyword.toLowerCase().trim().contains(otherKeyword.toLowerCase().trim())));
+    }
+
     /**
      * Evaluates this predicate on the given {@code Person}.
      * Returns true if the person's name, phone, or email contains any of the given keywords.
@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A secondary index over a collection of persons that is kept in sync incrementally as persons are added and removed.
+ * Persons are compared by identity, since the index mirrors the exact instances held by the address book.
+ *
+ * Subclasses define what is indexed for each person. This class keeps track of which persons are indexed and in what
+ * order, so that a set of matches resolved from the index can be turned into a predicate that stays correct for
+ * persons indexed after the matches were resolved.
+ */
+public abstract class PersonIndex {
+
+    private final Map<Person, Long> sequenceNumbers = new IdentityHashMap<>();
+    private long nextSequenceNumber;
+
+    /**
+     * Adds {@code person} to the index. Does nothing if {@code person} is already indexed.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (sequenceNumbers.containsKey(person)) {
+            return;
+        }
+        sequenceNumbers.put(person, nextSequenceNumber++);
+        index(person);
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if {@code person} is not indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (sequenceNumbers.remove(person) == null) {
+            return;
+        }
+        unindex(person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index, as if {@code target} were removed and
+     * {@code editedPerson} added. Does nothing if {@code editedPerson} is already indexed.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        if (sequenceNumbers.containsKey(editedPerson)) {
+            return;
+        }
+        if (sequenceNumbers.remove(target) == null) {
+            add(editedPerson);
+            return;
+        }
+        sequenceNumbers.put(editedPerson, nextSequenceNumber++);
+        reindex(target, editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        sequenceNumbers.clear();
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return sequenceNumbers.size();
+    }
+
+    /**
+     * Returns a new set containing every indexed person.
+     */
+    protected Set<Person> allPersons() {
+        Set<Person> persons = newIdentitySet();
+        persons.addAll(sequenceNumbers.keySet());
+        return persons;
+    }
+
+    /**
+     * Returns a predicate that accepts exactly {@code matches} among the currently indexed persons.
+     * The matches are resolved once, when this method is called, so the predicate answers without testing the persons
+     * that were indexed then. Persons that are indexed after this call (e.g. edited persons) are not part of that
+     * snapshot and are tested against {@code fallback} instead.
+     */
+    protected Predicate<Person> snapshotPredicate(Set<Person> matches, Predicate<Person> fallback) {
+        long snapshotSequenceNumber = nextSequenceNumber;
+        return person -> {
+            if (matches.contains(person)) {
+                return true;
+            }
+            Long sequenceNumber = sequenceNumbers.get(person);
+            if (sequenceNumber != null && sequenceNumber < snapshotSequenceNumber) {
+                return false;
+            }
+            return fallback.test(person);
+        };
+    }
+
+    /**
+     * Adds the entries for {@code person}, which is not yet indexed.
+     */
+    protected abstract void index(Person person);
+
+    /**
+     * Removes the entries for {@code person}, which was previously indexed.
+     */
+    protected abstract void unindex(Person person);
+
+    /**
+     * Replaces the entries for {@code oldPerson}, which was previously indexed, with those for {@code newPerson}, which
+     * is not yet indexed. Subclasses can override this to only update the entries that differ between the two.
+     */
+    protected void reindex(Person oldPerson, Person newPerson) {
+        unindex(oldPerson);
+        index(newPerson);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    protected abstract void clear();
+
+    /**
+     * Returns a new empty set that compares persons by identity.
+     */
+    protected static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
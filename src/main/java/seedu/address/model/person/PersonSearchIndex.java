@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted n-gram index over the searchable fields (name, phone and email) of a collection of persons.
+ * Every lower-cased substring of length 1 to {@value #GRAM_LENGTH} of each field is mapped to the persons whose
+ * field contains it, so that a keyword search only has to examine the persons that share all n-grams with the keyword
+ * instead of lower-casing and scanning every person.
+ *
+ * @see PersonContainsKeywordPredicate
+ */
+public class PersonSearchIndex extends PersonIndex {
+
+    /** Longest n-gram stored in the index. Keywords up to this length are answered directly from the index. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    @Override
+    protected void index(Person person) {
+        for (String gram : gramsOf(person)) {
+            postings.computeIfAbsent(gram, unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (String gram : gramsOf(person)) {
+            Set<Person> posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the indexed persons whose name, phone or email contains any of {@code keywords},
+     * following the matching rules of {@link PersonContainsKeywordPredicate}.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            return allPersons();
+        }
+
+        Set<Person> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String lowerKeyword = keyword.toLowerCase().trim();
+            if (lowerKeyword.isEmpty()) {
+                return allPersons();
+            }
+            if (lowerKeyword.length() <= GRAM_LENGTH) {
+                matches.addAll(postings.getOrDefault(lowerKeyword, Collections.emptySet()));
+                continue;
+            }
+            for (Person candidate : findCandidates(lowerKeyword)) {
+                if (!matches.contains(candidate) && containsKeyword(candidate, lowerKeyword)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from a snapshot of this index
+     * (see {@link #snapshotPredicate(Set, Predicate)}).
+     */
+    public Predicate<Person> toIndexedPredicate(PersonContainsKeywordPredicate predicate) {
+        requireNonNull(predicate);
+        if (predicate.getKeywords() == null) {
+            return predicate;
+        }
+
+        return snapshotPredicate(findMatches(predicate.getKeywords()), predicate);
+    }
+
+    /**
+     * Returns the persons that contain every n-gram of {@code lowerKeyword}, intersecting the smallest postings first.
+     */
+    private Set<Person> findCandidates(String lowerKeyword) {
+        List<Set<Person>> keywordPostings = new ArrayList<>();
+        for (String gram : gramsOfLength(lowerKeyword, GRAM_LENGTH)) {
+            Set<Person> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            keywordPostings.add(posting);
+        }
+        keywordPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> candidates = newIdentitySet();
+        candidates.addAll(keywordPostings.get(0));
+        for (int i = 1; i < keywordPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(keywordPostings.get(i));
+        }
+        return candidates;
+    }
+
+    private static boolean containsKeyword(Person person, String lowerKeyword) {
+        return person.getName().fullName.toLowerCase().contains(lowerKeyword)
+                || person.getPhone().value.toLowerCase().contains(lowerKeyword)
+                || person.getEmail().value.toLowerCase().contains(lowerKeyword);
+    }
+
+    /**
+     * Returns every distinct n-gram of length 1 to {@link #GRAM_LENGTH} in the searchable fields of {@code person}.
+     */
+    private static Set<String> gramsOf(Person person) {
+        Set<String> grams = new HashSet<>();
+        for (String field : List.of(person.getName().fullName, person.getPhone().value, person.getEmail().value)) {
+            String lowerField = field.toLowerCase();
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                grams.addAll(gramsOfLength(lowerField, length));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> gramsOfLength(String value, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + length <= value.length(); start++) {
+            grams.add(value.substring(start, start + length));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents one lesson in the tutor's timetable, together with the person taking it.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class TimetableEntry {
+
+    private final Person person;
+    private final Lesson lesson;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TimetableEntry(Person person, Lesson lesson) {
+        requireAllNonNull(person, lesson);
+        this.person = person;
+        this.lesson = lesson;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    /**
+     * Returns a one-line description of this entry for display to the user.
+     */
+    public String getDetails() {
+        return person.getName() + ": " + lesson.getLessonDetails();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimetableEntry)) {
+            return false;
+        }
+
+        TimetableEntry otherEntry = (TimetableEntry) other;
+        return person.equals(otherEntry.person)
+                && lesson.equals(otherEntry.lesson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, lesson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("lesson", lesson)
+                .toString();
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * An index of every lesson of every person, sorted by start time.
+ * Lets the tutor's whole timetable be queried by time range, and clashes between the lessons of different persons be
+ * detected, without scanning every person's {@code LessonList}.
+ *
+ * Lessons are keyed by {@link Lesson#getStartKey()}. To also find lessons that start before a queried range but are
+ * still running in it, the index tracks the longest lesson duration it has seen and extends each query backwards by
+ * that amount.
+ *
+ * Lesson series are kept as rules rather than expanded into the map, so indexing a long series is as cheap as indexing
+ * a short one. Every lesson of a series falls on the weekday of its first lesson, so series are grouped by weekday,
+ * and queries only add the lessons of the series on the weekdays in the queried range.
+ */
+public class TimetableIndex extends PersonIndex {
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final TreeMap<Long, List<TimetableEntry>> entriesByStart = new TreeMap<>();
+    private final Map<DayOfWeek, Set<SeriesEntry>> seriesEntriesByDay = new EnumMap<>(DayOfWeek.class);
+    private final Map<Person, List<SeriesEntry>> seriesEntriesByPerson = new IdentityHashMap<>();
+    private long maxDuration;
+    private int entryCount;
+    private int seriesLessonCount;
+
+    @Override
+    protected void index(Person person) {
+        for (LessonSeries series : person.getLessonList().getSeries()) {
+            SeriesEntry seriesEntry = new SeriesEntry(person, series);
+            seriesEntriesByDay.computeIfAbsent(series.getFirstDate().getDayOfWeek(), unused -> new LinkedHashSet<>())
+                    .add(seriesEntry);
+            seriesEntriesByPerson.computeIfAbsent(person, unused -> new ArrayList<>()).add(seriesEntry);
+            seriesLessonCount += series.size();
+        }
+        for (Lesson lesson : person.getLessonList().getOneOffLessons()) {
+            entriesByStart.computeIfAbsent(lesson.getStartKey(), unused -> new ArrayList<>())
+                    .add(new TimetableEntry(person, lesson));
+            maxDuration = Math.max(maxDuration, lesson.getEndKey() - lesson.getStartKey());
+            entryCount++;
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        List<SeriesEntry> personSeriesEntries = seriesEntriesByPerson.remove(person);
+        if (personSeriesEntries != null) {
+            for (SeriesEntry seriesEntry : personSeriesEntries) {
+                DayOfWeek day = seriesEntry.series.getFirstDate().getDayOfWeek();
+                Set<SeriesEntry> dayEntries = seriesEntriesByDay.get(day);
+                dayEntries.remove(seriesEntry);
+                if (dayEntries.isEmpty()) {
+                    seriesEntriesByDay.remove(day);
+                }
+                seriesLessonCount -= seriesEntry.series.size();
+            }
+        }
+        for (Lesson lesson : person.getLessonList().getOneOffLessons()) {
+            List<TimetableEntry> entries = entriesByStart.get(lesson.getStartKey());
+            if (entries == null) {
+                continue;
+            }
+            if (entries.removeIf(entry -> entry.getPerson() == person && entry.getLesson() == lesson)) {
+                entryCount--;
+            }
+            if (entries.isEmpty()) {
+                entriesByStart.remove(lesson.getStartKey());
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        entriesByStart.clear();
+        seriesEntriesByDay.clear();
+        seriesEntriesByPerson.clear();
+        maxDuration = 0;
+        entryCount = 0;
+        seriesLessonCount = 0;
+    }
+
+    /**
+     * Returns the number of lessons in the index, including the lessons of every series.
+     */
+    public int getLessonCount() {
+        return entryCount + seriesLessonCount;
+    }
+
+    /**
+     * Returns the lessons that overlap the time range from {@code from} (inclusive) to {@code to} (exclusive),
+     * in chronological order.
+     */
+    public List<TimetableEntry> getEntriesBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return getEntriesBetweenKeys(toKey(from), toKey(to));
+    }
+
+    /**
+     * Returns the lessons that overlap any part of the days from {@code firstDay} to {@code lastDay}, both inclusive,
+     * in chronological order.
+     */
+    public List<TimetableEntry> getEntriesOnDays(LocalDate firstDay, LocalDate lastDay) {
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        return getEntriesBetween(firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns the lessons of persons other than {@code person} that overlap {@code lesson}, in chronological order.
+     */
+    public List<TimetableEntry> getClashes(Person person, Lesson lesson) {
+        requireNonNull(person);
+        requireNonNull(lesson);
+        List<TimetableEntry> clashes = getEntriesBetweenKeys(lesson.getStartKey(), lesson.getEndKey());
+        clashes.removeIf(entry -> entry.getPerson().isSamePerson(person));
+        return clashes;
+    }
+
+    /**
+     * Returns the lessons of persons other than {@code person} that overlap a lesson of {@code series}, in
+     * chronological order. Only the earliest clashing lesson of each other series is returned.
+     */
+    public List<TimetableEntry> getClashes(Person person, LessonSeries series) {
+        requireNonNull(person);
+        requireNonNull(series);
+        List<TimetableEntry> clashes = new ArrayList<>();
+        addOneOffEntriesBetweenKeys(series.getFirstStartKey(), series.getLastEndKey(), clashes);
+        clashes.removeIf(entry -> entry.getPerson().isSamePerson(person)
+                || series.findOverlap(entry.getLesson()).isEmpty());
+        // Lessons of series on other weekdays never overlap
+        DayOfWeek day = series.getFirstDate().getDayOfWeek();
+        for (SeriesEntry seriesEntry : seriesEntriesByDay.getOrDefault(day, Set.of())) {
+            if (!seriesEntry.person.isSamePerson(person)) {
+                seriesEntry.series.findOverlap(series)
+                        .ifPresent(lesson -> clashes.add(new TimetableEntry(seriesEntry.person, lesson)));
+            }
+        }
+        clashes.sort(Comparator.comparing(TimetableEntry::getLesson));
+        return clashes;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from a snapshot of this index
+     * (see {@link #snapshotPredicate(Set, Predicate)}).
+     */
+    public Predicate<Person> toIndexedPredicate(LessonOnDaysPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = newIdentitySet();
+        for (TimetableEntry entry : getEntriesOnDays(predicate.getFirstDay(), predicate.getLastDay())) {
+            matches.add(entry.getPerson());
+        }
+        return snapshotPredicate(matches, predicate);
+    }
+
+    private List<TimetableEntry> getEntriesBetweenKeys(long fromKey, long toKey) {
+        List<TimetableEntry> result = new ArrayList<>();
+        if (toKey < fromKey) {
+            return result;
+        }
+        addOneOffEntriesBetweenKeys(fromKey, toKey, result);
+        if (seriesEntriesByDay.isEmpty()) {
+            return result;
+        }
+        // Lessons of a series start and end on the same day
+        LocalDate firstDay = LocalDate.ofEpochDay(Math.floorDiv(fromKey, SECONDS_PER_DAY));
+        LocalDate lastDay = LocalDate.ofEpochDay(Math.floorDiv(toKey, SECONDS_PER_DAY));
+        long dayCount = Math.min(ChronoUnit.DAYS.between(firstDay, lastDay) + 1, DayOfWeek.values().length);
+        for (int i = 0; i < dayCount; i++) {
+            for (SeriesEntry seriesEntry
+                    : seriesEntriesByDay.getOrDefault(firstDay.plusDays(i).getDayOfWeek(), Set.of())) {
+                if (seriesEntry.series.getFirstStartKey() >= toKey || seriesEntry.series.getLastEndKey() <= fromKey) {
+                    continue;
+                }
+                for (Lesson lesson : seriesEntry.series.getLessonsBetween(firstDay, lastDay)) {
+                    if (lesson.getStartKey() < toKey && lesson.getEndKey() > fromKey) {
+                        result.add(new TimetableEntry(seriesEntry.person, lesson));
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparing(TimetableEntry::getLesson));
+        return result;
+    }
+
+    private void addOneOffEntriesBetweenKeys(long fromKey, long toKey, List<TimetableEntry> result) {
+        for (Map.Entry<Long, List<TimetableEntry>> startEntries
+                : entriesByStart.subMap(fromKey - maxDuration, true, toKey, false).entrySet()) {
+            for (TimetableEntry entry : startEntries.getValue()) {
+                if (entry.getLesson().getEndKey() > fromKey) {
+                    result.add(entry);
+                }
+            }
+        }
+    }
+
+    private static long toKey(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * A lesson series of a person.
+     */
+    private static class SeriesEntry {
+        private final Person person;
+        private final LessonSeries series;
+
+        private SeriesEntry(Person person, LessonSeries series) {
+            this.person = person;
+            this.series = series;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +20,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A hash index from {@code Person#getIdentityKey()} to the stored person is kept alongside the backing list, so that
+ * identity checks take constant time instead of a scan over every person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +32,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -46,6 +52,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(toAdd.getIdentityKey(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        identityIndex.put(toAdd.getIdentityKey(), toAdd);
     }
 
     /**
@@ -66,6 +86,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        identityIndex.remove(target.getIdentityKey());
+        identityIndex.put(editedPerson.getIdentityKey(), editedPerson);
     }
 
     /**
@@ -77,11 +99,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(toRemove.getIdentityKey());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
@@ -90,11 +115,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> newIndex = indexByIdentity(persons);
+        if (newIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
     }
 
     /**
@@ -135,16 +163,15 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an identity index of {@code persons}, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByIdentity(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getIdentityKey(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,316 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.LessonOnDaysPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.query.QueryCondition.Operator;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compiles a {@code QueryExpression} into a single {@code Predicate<Person>}.
+ *
+ * Literals are prepared once, at compile time: text is lowercased, scores and dates are parsed, and nested ANDs and
+ * ORs are flattened, so testing a person does no parsing. Conditions on the search keywords, attributes and lesson
+ * days are answered from the address book's indexes instead of being tested on every person.
+ *
+ * Each condition is given an estimated selectivity (the fraction of persons it matches) and cost (the work to test
+ * one person). The operands of an AND are tested in increasing order of cost per person rejected, and those of an OR
+ * in increasing order of cost per person accepted, so that evaluation stops as early and as cheaply as possible.
+ */
+public class QueryCompiler {
+
+    /** The separator of the first and last day of a lesson date range, as in {@code lesson=2025-09-22..2025-09-28}. */
+    public static final String DATE_RANGE_SEPARATOR = "..";
+
+    /** Day before which a lesson is taken to be earlier than any date in a query. */
+    private static final LocalDate EARLIEST_DAY = LocalDate.MIN;
+    /** Day after which a lesson is taken to be later than any date in a query. */
+    private static final LocalDate LATEST_DAY = LocalDate.MAX.minusDays(1);
+
+    private static final double EQUALS_SELECTIVITY = 0.05;
+    private static final double CONTAINS_SELECTIVITY = 0.2;
+    private static final double SEARCH_SELECTIVITY = 0.1;
+    private static final double TAG_SELECTIVITY = 0.3;
+    private static final double ATTRIBUTE_SELECTIVITY = 0.2;
+    private static final double GRADE_EQUALS_SELECTIVITY = 0.1;
+    private static final double GRADE_RANGE_SELECTIVITY = 0.5;
+    private static final double LESSON_DAYS_SELECTIVITY = 0.3;
+    private static final double LESSON_RANGE_SELECTIVITY = 0.6;
+
+    private static final double INDEXED_COST = 1;
+    private static final double FIELD_COST = 2;
+    private static final double COLLECTION_COST = 4;
+    private static final double LESSON_COST = 8;
+
+    private final Model model;
+
+    /**
+     * Creates a {@code QueryCompiler} that answers conditions from the indexes of {@code model}.
+     */
+    public QueryCompiler(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the persons matching {@code expression}.
+     */
+    public Predicate<Person> compile(QueryExpression expression) {
+        requireNonNull(expression);
+        return plan(expression).predicate;
+    }
+
+    private Plan plan(QueryExpression expression) {
+        if (expression instanceof QueryExpression.Not) {
+            QueryExpression operand = ((QueryExpression.Not) expression).getOperand();
+            if (operand instanceof QueryExpression.Not) {
+                // NOT NOT x is x
+                return plan(((QueryExpression.Not) operand).getOperand());
+            }
+            Plan operandPlan = plan(operand);
+            return new Plan(operandPlan.predicate.negate(), 1 - operandPlan.selectivity, operandPlan.cost);
+        }
+        if (expression instanceof QueryExpression.And) {
+            return planAnd(flatten(expression, QueryExpression.And.class));
+        }
+        if (expression instanceof QueryExpression.Or) {
+            return planOr(flatten(expression, QueryExpression.Or.class));
+        }
+        return planCondition((QueryCondition) expression);
+    }
+
+    /**
+     * Returns the distinct operands of {@code expression}, with the operands of nested junctions of the same
+     * {@code type} inlined.
+     */
+    private static List<QueryExpression> flatten(QueryExpression expression,
+            Class<? extends QueryExpression.Junction> type) {
+        List<QueryExpression> operands = new ArrayList<>();
+        for (QueryExpression operand : ((QueryExpression.Junction) expression).getOperands()) {
+            if (type.isInstance(operand)) {
+                operands.addAll(flatten(operand, type));
+            } else {
+                operands.add(operand);
+            }
+        }
+        return operands.stream().distinct().collect(Collectors.toList());
+    }
+
+    private Plan planAnd(List<QueryExpression> operands) {
+        List<Plan> plans = operands.stream().map(this::plan)
+                .sorted(Comparator.comparingDouble(plan -> plan.cost / (1 - plan.selectivity)))
+                .collect(Collectors.toList());
+
+        double selectivity = 1;
+        double cost = 0;
+        for (Plan plan : plans) {
+            // An operand is only tested on the persons accepted by the operands before it
+            cost += selectivity * plan.cost;
+            selectivity *= plan.selectivity;
+        }
+
+        List<Predicate<Person>> predicates = plans.stream().map(plan -> plan.predicate).collect(Collectors.toList());
+        Predicate<Person> allOf = person -> {
+            for (Predicate<Person> predicate : predicates) {
+                if (!predicate.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+        return new Plan(allOf, selectivity, cost);
+    }
+
+    private Plan planOr(List<QueryExpression> operands) {
+        List<Plan> plans = operands.stream().map(this::plan)
+                .sorted(Comparator.comparingDouble(plan -> plan.cost / plan.selectivity))
+                .collect(Collectors.toList());
+
+        double rejected = 1;
+        double cost = 0;
+        for (Plan plan : plans) {
+            // An operand is only tested on the persons rejected by the operands before it
+            cost += rejected * plan.cost;
+            rejected *= 1 - plan.selectivity;
+        }
+
+        List<Predicate<Person>> predicates = plans.stream().map(plan -> plan.predicate).collect(Collectors.toList());
+        Predicate<Person> anyOf = person -> {
+            for (Predicate<Person> predicate : predicates) {
+                if (predicate.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return new Plan(anyOf, 1 - rejected, cost);
+    }
+
+    private Plan planCondition(QueryCondition condition) {
+        String value = condition.getValue();
+        switch (condition.getField()) {
+        case NAME:
+            return planText(condition, person -> person.getName().fullName);
+        case PHONE:
+            return planText(condition, person -> person.getPhone().value);
+        case EMAIL:
+            return planText(condition, person -> person.getEmail().value);
+        case ADDRESS:
+            return planText(condition, person -> person.getAddress().value);
+        case REMARK:
+            return planText(condition, person -> person.getRemark().value);
+        case TAG:
+            return planTag(condition);
+        case SEARCH:
+            return new Plan(model.getIndexedPredicate(new PersonContainsKeywordPredicate(List.of(value))),
+                    SEARCH_SELECTIVITY, INDEXED_COST);
+        case ATTRIBUTE:
+            Set<String> values = Arrays.stream(value.split(","))
+                    .map(attributeValue -> attributeValue.trim().toLowerCase())
+                    .filter(attributeValue -> !attributeValue.isEmpty())
+                    .collect(Collectors.toSet());
+            Predicate<Person> hasAttribute = model.getIndexedPredicate(
+                    new AttributeContainsPredicate(Map.of(condition.getQualifier().toLowerCase(), values)));
+            return negateIfNotEquals(condition, new Plan(hasAttribute, ATTRIBUTE_SELECTIVITY, INDEXED_COST));
+        case GRADE:
+            return planGrade(condition);
+        case LESSON:
+            return planLesson(condition);
+        default:
+            throw new AssertionError("Unknown field: " + condition.getField());
+        }
+    }
+
+    private static Plan planText(QueryCondition condition, Function<Person, String> getText) {
+        String lowerValue = condition.getValue().toLowerCase();
+        if (condition.getOperator() == Operator.CONTAINS) {
+            return new Plan(person -> getText.apply(person).toLowerCase().contains(lowerValue),
+                    CONTAINS_SELECTIVITY, FIELD_COST);
+        }
+        Plan equalsPlan = new Plan(person -> getText.apply(person).equalsIgnoreCase(lowerValue),
+                EQUALS_SELECTIVITY, FIELD_COST);
+        return negateIfNotEquals(condition, equalsPlan);
+    }
+
+    private static Plan planTag(QueryCondition condition) {
+        String lowerValue = condition.getValue().toLowerCase();
+        Predicate<Tag> matchesTag = condition.getOperator() == Operator.CONTAINS
+                ? tag -> tag.tagName.toLowerCase().contains(lowerValue)
+                : tag -> tag.tagName.equalsIgnoreCase(lowerValue);
+        Plan tagPlan = new Plan(person -> person.getTags().stream().anyMatch(matchesTag),
+                TAG_SELECTIVITY, COLLECTION_COST);
+        return negateIfNotEquals(condition, tagPlan);
+    }
+
+    private static Plan planGrade(QueryCondition condition) {
+        String[] qualifierParts = condition.getQualifier().split("/", 2);
+        String subject = qualifierParts[0].trim();
+        String assessment = qualifierParts.length == 2 ? qualifierParts[1].trim() : null;
+        double score = Grade.parseNumericScore(condition.getValue()).orElseThrow(() ->
+                new IllegalArgumentException("Grade conditions must compare with a number."));
+
+        DoublePredicate matchesScore;
+        double selectivity = GRADE_RANGE_SELECTIVITY;
+        switch (condition.getOperator()) {
+        case LESS_THAN:
+            matchesScore = actual -> actual < score;
+            break;
+        case AT_MOST:
+            matchesScore = actual -> actual <= score;
+            break;
+        case GREATER_THAN:
+            matchesScore = actual -> actual > score;
+            break;
+        case AT_LEAST:
+            matchesScore = actual -> actual >= score;
+            break;
+        default:
+            matchesScore = actual -> actual == score;
+            selectivity = GRADE_EQUALS_SELECTIVITY;
+            break;
+        }
+
+        Predicate<Person> hasGrade = person -> {
+            for (Grade grade : person.getGradeList().getGrades().values()) {
+                if (grade.getSubject().equalsIgnoreCase(subject)
+                        && (assessment == null || grade.getAssessment().equalsIgnoreCase(assessment))
+                        && grade.getNumericScore().isPresent()
+                        && matchesScore.test(grade.getNumericScore().getAsDouble())) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return negateIfNotEquals(condition, new Plan(hasGrade, selectivity, COLLECTION_COST));
+    }
+
+    private Plan planLesson(QueryCondition condition) {
+        String value = condition.getValue();
+        switch (condition.getOperator()) {
+        case LESS_THAN:
+            return planLessonRange(EARLIEST_DAY, LocalDate.parse(value).minusDays(1));
+        case AT_MOST:
+            return planLessonRange(EARLIEST_DAY, LocalDate.parse(value));
+        case GREATER_THAN:
+            return planLessonRange(LocalDate.parse(value).plusDays(1), LATEST_DAY);
+        case AT_LEAST:
+            return planLessonRange(LocalDate.parse(value), LATEST_DAY);
+        default:
+            int separator = value.indexOf(DATE_RANGE_SEPARATOR);
+            LocalDate firstDay = LocalDate.parse(separator < 0 ? value : value.substring(0, separator).trim());
+            LocalDate lastDay = separator < 0
+                    ? firstDay
+                    : LocalDate.parse(value.substring(separator + DATE_RANGE_SEPARATOR.length()).trim());
+            // A bounded range is resolved from the timetable index, which only visits the lessons in the range
+            return new Plan(model.getIndexedPredicate(new LessonOnDaysPredicate(firstDay, lastDay)),
+                    LESSON_DAYS_SELECTIVITY, INDEXED_COST);
+        }
+    }
+
+    private static Plan planLessonRange(LocalDate firstDay, LocalDate lastDay) {
+        if (lastDay.isBefore(firstDay)) {
+            return new Plan(person -> false, 0, 0);
+        }
+        return new Plan(new LessonOnDaysPredicate(firstDay, lastDay), LESSON_RANGE_SELECTIVITY, LESSON_COST);
+    }
+
+    private static Plan negateIfNotEquals(QueryCondition condition, Plan plan) {
+        if (condition.getOperator() != Operator.NOT_EQUALS) {
+            return plan;
+        }
+        return new Plan(plan.predicate.negate(), 1 - plan.selectivity, plan.cost);
+    }
+
+    /**
+     * A compiled expression, with the estimated fraction of persons it accepts and the estimated cost of testing a
+     * person.
+     */
+    private static class Plan {
+        private final Predicate<Person> predicate;
+        private final double selectivity;
+        private final double cost;
+
+        private Plan(Predicate<Person> predicate, double selectivity, double cost) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+            this.cost = cost;
+        }
+    }
+}
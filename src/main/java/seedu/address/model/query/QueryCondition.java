@@ -0,0 +1,165 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A query condition comparing one field of a person with a value, such as {@code name:alex} or
+ * {@code grade.MATH>=80}. Some fields take a qualifier naming what to compare, such as the attribute key of
+ * {@code attr.subject=math}.
+ * Guarantees: immutable; the operator is supported by the field; the qualifier is present iff the field takes one
+ */
+public class QueryCondition extends QueryExpression {
+
+    /**
+     * The ways a field can be compared with a value.
+     */
+    public enum Operator {
+        CONTAINS(":"), EQUALS("="), NOT_EQUALS("!="), LESS_THAN("<"), AT_MOST("<="), GREATER_THAN(">"),
+        AT_LEAST(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+    }
+
+    /**
+     * The fields of a person that can be queried.
+     */
+    public enum Field {
+        NAME("name", false, textOperators()),
+        PHONE("phone", false, textOperators()),
+        EMAIL("email", false, textOperators()),
+        ADDRESS("address", false, textOperators()),
+        REMARK("remark", false, textOperators()),
+        TAG("tag", false, textOperators()),
+        SEARCH("search", false, EnumSet.of(Operator.CONTAINS)),
+        ATTRIBUTE("attr", true, EnumSet.of(Operator.EQUALS, Operator.NOT_EQUALS)),
+        GRADE("grade", true, EnumSet.complementOf(EnumSet.of(Operator.CONTAINS))),
+        LESSON("lesson", false, EnumSet.complementOf(EnumSet.of(Operator.CONTAINS, Operator.NOT_EQUALS)));
+
+        private final String keyword;
+        private final boolean isQualified;
+        private final Set<Operator> operators;
+
+        Field(String keyword, boolean isQualified, Set<Operator> operators) {
+            this.keyword = keyword;
+            this.isQualified = isQualified;
+            this.operators = operators;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns true if the field must be followed by a qualifier, as in {@code attr.KEY}.
+         */
+        public boolean isQualified() {
+            return isQualified;
+        }
+
+        public boolean supports(Operator operator) {
+            return operators.contains(operator);
+        }
+
+        /**
+         * Returns the field named {@code keyword}, ignoring case.
+         */
+        public static Optional<Field> fromKeyword(String keyword) {
+            for (Field field : values()) {
+                if (field.keyword.equalsIgnoreCase(keyword)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+
+        private static Set<Operator> textOperators() {
+            return EnumSet.of(Operator.CONTAINS, Operator.EQUALS, Operator.NOT_EQUALS);
+        }
+    }
+
+    private final Field field;
+    private final String qualifier;
+    private final Operator operator;
+    private final String value;
+
+    /**
+     * Constructs a {@code QueryCondition}. {@code qualifier} must be empty for fields that do not take one.
+     */
+    public QueryCondition(Field field, String qualifier, Operator operator, String value) {
+        requireAllNonNull(field, qualifier, operator, value);
+        checkArgument(field.supports(operator), "Operator " + operator.getSymbol() + " cannot be used with "
+                + field.getKeyword() + ".");
+        checkArgument(field.isQualified() != qualifier.isEmpty(), "Only attr and grade take a qualifier.");
+        this.field = field;
+        this.qualifier = qualifier;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * Constructs a {@code QueryCondition} on a field that does not take a qualifier.
+     */
+    public QueryCondition(Field field, Operator operator, String value) {
+        this(field, "", operator, value);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getQualifier() {
+        return qualifier;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCondition)) {
+            return false;
+        }
+
+        QueryCondition otherCondition = (QueryCondition) other;
+        return field == otherCondition.field
+                && qualifier.equals(otherCondition.qualifier)
+                && operator == otherCondition.operator
+                && value.equals(otherCondition.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, qualifier, operator, value);
+    }
+
+    @Override
+    public String toString() {
+        String qualifiedField = field.isQualified() ? field.getKeyword() + "." + qualifier : field.getKeyword();
+        String quotedValue = value.contains(" ") ? "\"" + value + "\"" : value;
+        return qualifiedField + operator.getSymbol() + quotedValue;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The syntax tree of a query over persons, made of conditions on single fields combined with AND, OR and NOT.
+ * Guarantees: immutable
+ *
+ * @see QueryCompiler
+ */
+public abstract class QueryExpression {
+
+    /**
+     * Returns an expression that matches persons matching every one of {@code operands}.
+     */
+    public static QueryExpression and(List<QueryExpression> operands) {
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Returns an expression that matches persons matching any of {@code operands}.
+     */
+    public static QueryExpression or(List<QueryExpression> operands) {
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    /**
+     * Returns an expression that matches persons not matching {@code operand}.
+     */
+    public static QueryExpression not(QueryExpression operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * A conjunction or disjunction of two or more expressions.
+     */
+    abstract static class Junction extends QueryExpression {
+        private final List<QueryExpression> operands;
+
+        private Junction(List<QueryExpression> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "A junction must have at least two operands.");
+            this.operands = List.copyOf(operands);
+        }
+
+        List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        abstract String getKeyword();
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (other == null || other.getClass() != getClass()) {
+                return false;
+            }
+
+            Junction otherJunction = (Junction) other;
+            return operands.equals(otherJunction.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return getKeyword().hashCode() * 31 + operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(QueryExpression::toString)
+                    .collect(Collectors.joining(" " + getKeyword() + " ", "(", ")"));
+        }
+    }
+
+    /**
+     * Matches persons that match every operand.
+     */
+    static class And extends Junction {
+        private And(List<QueryExpression> operands) {
+            super(operands);
+        }
+
+        @Override
+        String getKeyword() {
+            return "AND";
+        }
+    }
+
+    /**
+     * Matches persons that match any operand.
+     */
+    static class Or extends Junction {
+        private Or(List<QueryExpression> operands) {
+            super(operands);
+        }
+
+        @Override
+        String getKeyword() {
+            return "OR";
+        }
+    }
+
+    /**
+     * Matches persons that do not match the operand.
+     */
+    static class Not extends QueryExpression {
+        private final QueryExpression operand;
+
+        private Not(QueryExpression operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        QueryExpression getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Not)) {
+                return false;
+            }
+
+            Not otherNot = (Not) other;
+            return operand.equals(otherNot.operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Rewrites the saved address book in its most compact form, e.g. by folding pending changes into the data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactAddressBook() throws IOException;
+
 }
@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeList;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.LessonSeries;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book in a compact binary format, and decodes it back.
+ *
+ * The format starts with {@link #MAGIC} and {@link #VERSION}, followed by a table of the strings that repeat across
+ * persons (tag names, attribute keys and values, lesson subjects, and grade subjects and assessments), the number of
+ * persons, and one length-prefixed record per person. Records refer to repeated strings by their index in the table,
+ * and store lessons as packed epoch days and seconds of the day.
+ * Strings are stored as a length followed by UTF-8 bytes.
+ *
+ * Version 2 added the lesson series of each person after the grades. Version 1 files are still read.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x43525042; // "CRPB"
+    public static final int VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not in the binary address book format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book data is corrupted.";
+
+    private static final int VERSION_WITHOUT_SERIES = 1;
+    private static final int MAX_LENGTH = 1 << 24;
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        Map<String, Integer> stringTable = buildStringTable(addressBook.getPersonList());
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(out, string);
+        }
+
+        out.writeInt(addressBook.getPersonList().size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(record, person, stringTable);
+            record.flush();
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read.
+     * @throws IllegalValueException if {@code in} is not in this format, or there were any data constraints violated.
+     */
+    public static AddressBook read(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readInt();
+        if (version != VERSION && version != VERSION_WITHOUT_SERIES) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] stringTable = new String[readLength(in)];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = readString(in);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readLength(in);
+        for (int i = 0; i < personCount; i++) {
+            byte[] recordBytes = new byte[readLength(in)];
+            in.readFully(recordBytes);
+            DataInputStream record = new DataInputStream(new ByteArrayInputStream(recordBytes));
+            Person person = readPerson(record, stringTable, version);
+            if (record.available() != 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns every repeated string of {@code persons}, mapped to its index in the string table.
+     */
+    private static Map<String, Integer> buildStringTable(List<Person> persons) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+            for (Attribute attribute : person.getAttributes()) {
+                stringTable.putIfAbsent(attribute.getKey(), stringTable.size());
+                for (String value : attribute.getValues()) {
+                    stringTable.putIfAbsent(value, stringTable.size());
+                }
+            }
+            for (Lesson lesson : person.getLessonList().getOneOffLessons()) {
+                stringTable.putIfAbsent(lesson.getSub(), stringTable.size());
+            }
+            for (LessonSeries series : person.getLessonList().getSeries()) {
+                stringTable.putIfAbsent(series.getSub(), stringTable.size());
+            }
+            for (Grade grade : person.getGradeList().getGrades().values()) {
+                stringTable.putIfAbsent(grade.getSubject(), stringTable.size());
+                stringTable.putIfAbsent(grade.getAssessment(), stringTable.size());
+            }
+        }
+        return stringTable;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getRemark().value);
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(stringTable.get(tag.tagName));
+        }
+
+        out.writeInt(person.getAttributes().size());
+        for (Attribute attribute : person.getAttributes()) {
+            out.writeInt(stringTable.get(attribute.getKey()));
+            out.writeInt(attribute.getValues().size());
+            for (String value : attribute.getValues()) {
+                out.writeInt(stringTable.get(value));
+            }
+        }
+
+        List<Lesson> lessons = person.getLessonList().getOneOffLessons();
+        out.writeInt(lessons.size());
+        for (Lesson lesson : lessons) {
+            out.writeInt(stringTable.get(lesson.getSub()));
+            out.writeInt((int) lesson.getDate().toEpochDay());
+            out.writeInt((int) lesson.getEndDate().toEpochDay());
+            out.writeInt(lesson.getStart().toSecondOfDay());
+            out.writeInt(lesson.getEnd().toSecondOfDay());
+            out.writeBoolean(lesson.isPresent());
+        }
+
+        out.writeInt(person.getGradeList().size());
+        for (Grade grade : person.getGradeList().getGrades().values()) {
+            out.writeInt(stringTable.get(grade.getSubject()));
+            out.writeInt(stringTable.get(grade.getAssessment()));
+            writeString(out, grade.getScore());
+        }
+
+        List<LessonSeries> seriesList = person.getLessonList().getSeries();
+        out.writeInt(seriesList.size());
+        for (LessonSeries series : seriesList) {
+            out.writeInt(stringTable.get(series.getSub()));
+            out.writeInt((int) series.getFirstDate().toEpochDay());
+            out.writeInt((int) series.getLastDate().toEpochDay());
+            out.writeInt(series.getStart().toSecondOfDay());
+            out.writeInt(series.getEnd().toSecondOfDay());
+            out.writeInt(series.getIntervalWeeks());
+            writeDates(out, series.getSkippedDates());
+            writeDates(out, series.getAttendedDates());
+        }
+    }
+
+    private static Person readPerson(DataInputStream in, String[] stringTable, int version)
+            throws IOException, IllegalValueException {
+        String name = readString(in);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(in);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString(in);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String address = readString(in);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        String remark = readString(in);
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readLength(in);
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readTableString(in, stringTable);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        Set<Attribute> attributes = new HashSet<>();
+        int attributeCount = readLength(in);
+        for (int i = 0; i < attributeCount; i++) {
+            String key = readTableString(in, stringTable);
+            List<String> values = new ArrayList<>();
+            int valueCount = readLength(in);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readTableString(in, stringTable));
+            }
+            if (!Attribute.isValidKey(key) || !Attribute.isValidValue(values)) {
+                throw new IllegalValueException("Invalid attribute: " + key + " " + values);
+            }
+            attributes.add(new Attribute(key, values));
+        }
+
+        ArrayList<Lesson> lessons = new ArrayList<>();
+        int lessonCount = readLength(in);
+        for (int i = 0; i < lessonCount; i++) {
+            String subject = readTableString(in, stringTable);
+            try {
+                LocalDate date = LocalDate.ofEpochDay(in.readInt());
+                LocalDate endDate = LocalDate.ofEpochDay(in.readInt());
+                LocalTime start = LocalTime.ofSecondOfDay(in.readInt());
+                LocalTime end = LocalTime.ofSecondOfDay(in.readInt());
+                lessons.add(new Lesson(start, end, date, endDate, subject, in.readBoolean()));
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+            }
+        }
+
+        GradeList gradeList = new GradeList();
+        int gradeCount = readLength(in);
+        for (int i = 0; i < gradeCount; i++) {
+            String subject = readTableString(in, stringTable);
+            String assessment = readTableString(in, stringTable);
+            String score = readString(in);
+            if (!Grade.isValidSubject(subject) || !Grade.isValidAssessment(assessment) || !Grade.isValidScore(score)) {
+                throw new IllegalValueException("Invalid grade: " + subject + " " + assessment + " " + score);
+            }
+            gradeList = gradeList.addGrade(new Grade(subject, assessment, score));
+        }
+
+        List<LessonSeries> seriesList = new ArrayList<>();
+        int seriesCount = version == VERSION_WITHOUT_SERIES ? 0 : readLength(in);
+        for (int i = 0; i < seriesCount; i++) {
+            String subject = readTableString(in, stringTable);
+            try {
+                LocalDate firstDate = LocalDate.ofEpochDay(in.readInt());
+                LocalDate untilDate = LocalDate.ofEpochDay(in.readInt());
+                LocalTime start = LocalTime.ofSecondOfDay(in.readInt());
+                LocalTime end = LocalTime.ofSecondOfDay(in.readInt());
+                int intervalWeeks = in.readInt();
+                List<LocalDate> skippedDates = readDates(in);
+                List<LocalDate> attendedDates = readDates(in);
+                if (!LessonSeries.isValidSeries(start, end, firstDate, untilDate, intervalWeeks)) {
+                    throw new IllegalValueException(LessonSeries.MESSAGE_CONSTRAINTS);
+                }
+                seriesList.add(new LessonSeries(start, end, firstDate, untilDate, intervalWeeks, subject,
+                        skippedDates, attendedDates));
+            } catch (DateTimeException | IllegalArgumentException e) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+            }
+        }
+
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), new Remark(remark),
+                tags, attributes, new LessonList(lessons, seriesList), gradeList);
+    }
+
+    private static void writeDates(DataOutputStream out, Collection<LocalDate> dates) throws IOException {
+        out.writeInt(dates.size());
+        for (LocalDate date : dates) {
+            out.writeInt((int) date.toEpochDay());
+        }
+    }
+
+    private static List<LocalDate> readDates(DataInputStream in) throws IOException, IllegalValueException {
+        List<LocalDate> dates = new ArrayList<>();
+        int dateCount = readLength(in);
+        for (int i = 0; i < dateCount; i++) {
+            dates.add(LocalDate.ofEpochDay(in.readInt()));
+        }
+        return dates;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readTableString(DataInputStream in, String[] stringTable)
+            throws IOException, IllegalValueException {
+        int index = in.readInt();
+        if (index < 0 || index >= stringTable.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return stringTable[index];
+    }
+
+    /**
+     * Reads a count or byte length, rejecting values that cannot come from a valid file.
+     */
+    private static int readLength(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return length;
+    }
+}
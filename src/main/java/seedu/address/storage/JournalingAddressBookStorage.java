@@ -0,0 +1,295 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full JSON snapshot of the address book in the data file, and appends
+ * later changes to a journal file next to it instead of rewriting the snapshot on every save.
+ * Each save appends only the persons that were added or edited since the previous save, found by comparing the
+ * saved persons with the new ones by identity. Once the journal holds {@code compactionInterval} entries, or on
+ * {@link #compactAddressBook()}, the journal is folded into a new snapshot.
+ *
+ * Reading the data file replays its journal on top of the snapshot.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTION_FILE_SUFFIX = ".compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionInterval;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** Persons as of the last read from or save to {@code filePath}, or null if that is unknown. */
+    private List<Person> savedPersons;
+    private int journalEntryCount;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the data file at {@code filePath} that compacts its journal
+     * every {@code compactionInterval} entries.
+     */
+    public JournalingAddressBookStorage(Path filePath, int compactionInterval) {
+        requireNonNull(filePath);
+        checkArgument(compactionInterval > 0, "Journal compaction interval must be positive.");
+        this.filePath = filePath;
+        this.compactionInterval = compactionInterval;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal file of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        recoverInterruptedCompaction(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> persons.addAll(addressBook.getPersonList()));
+        int entryCount = replayJournal(journalFilePath, persons);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found after replaying " + journalFilePath);
+            throw new DataLoadingException(dpe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedPersons = List.copyOf(addressBook.getPersonList());
+            journalEntryCount = entryCount;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than this storage's data file always writes a full snapshot, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (savedPersons == null || journalEntryCount >= compactionInterval) {
+            writeSnapshot(addressBook, persons);
+            return;
+        }
+
+        int oldSize = savedPersons.size();
+        int newSize = persons.size();
+        int unchangedPrefix = 0;
+        while (unchangedPrefix < Math.min(oldSize, newSize)
+                && savedPersons.get(unchangedPrefix) == persons.get(unchangedPrefix)) {
+            unchangedPrefix++;
+        }
+        int unchangedSuffix = 0;
+        while (unchangedSuffix < Math.min(oldSize, newSize) - unchangedPrefix
+                && savedPersons.get(oldSize - 1 - unchangedSuffix) == persons.get(newSize - 1 - unchangedSuffix)) {
+            unchangedSuffix++;
+        }
+
+        int removed = oldSize - unchangedPrefix - unchangedSuffix;
+        List<Person> inserted = persons.subList(unchangedPrefix, newSize - unchangedSuffix);
+        if (removed == 0 && inserted.isEmpty()) {
+            return;
+        }
+        if (inserted.size() * 2 > newSize) {
+            // Most of the persons changed (e.g. the list was reordered), so the snapshot is about as cheap to write.
+            writeSnapshot(addressBook, persons);
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.ofChange(unchangedPrefix, removed, inserted);
+        FileUtil.appendToFile(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(entry) + "\n");
+        savedPersons = persons;
+        journalEntryCount++;
+    }
+
+    /**
+     * Folds the journal into a new snapshot of the data file. Does nothing if the journal is empty.
+     */
+    @Override
+    public synchronized void compactAddressBook() throws IOException {
+        if (savedPersons == null || journalEntryCount == 0) {
+            return;
+        }
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(savedPersons));
+        writeSnapshot(() -> persons, savedPersons);
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and removes the journal.
+     * The snapshot is first written to a separate file and flushed to the disk before the journal is removed, so an
+     * interrupted compaction can be recovered from.
+     *
+     * @see #recoverInterruptedCompaction(Path)
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, List<Person> persons) throws IOException {
+        Path compactionFilePath = getCompactionFilePath(filePath);
+        snapshotStorage.saveAddressBook(addressBook, compactionFilePath);
+        try (FileChannel channel = FileChannel.open(compactionFilePath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        try {
+            Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        savedPersons = persons;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Finishes or undoes a compaction of the data file at {@code filePath} that was interrupted.
+     * If the journal still exists, the old snapshot and the journal are intact and the new snapshot is discarded.
+     * Otherwise the new snapshot replaces the old one if it can be read back; a snapshot that cannot was cut short
+     * while being written (e.g. the first save, which has no journal), and is discarded.
+     */
+    private void recoverInterruptedCompaction(Path filePath) throws DataLoadingException {
+        Path compactionFilePath = getCompactionFilePath(filePath);
+        if (!Files.exists(compactionFilePath)) {
+            return;
+        }
+
+        logger.warning("Recovering from interrupted compaction of " + filePath);
+        try {
+            if (Files.exists(getJournalFilePath(filePath)) || !isReadableSnapshot(compactionFilePath)) {
+                Files.delete(compactionFilePath);
+            } else {
+                Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private boolean isReadableSnapshot(Path snapshotFilePath) {
+        try {
+            return snapshotStorage.readAddressBook(snapshotFilePath).isPresent();
+        } catch (DataLoadingException e) {
+            logger.warning("Discarding incomplete snapshot " + snapshotFilePath);
+            return false;
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code persons} and returns how many entries
+     * this storage should consider journaled.
+     * An unreadable last entry is assumed to be a write that was cut short, and is skipped. The whole journal is then
+     * reported as full, so that the next save compacts it rather than appending after the incomplete entry.
+     */
+    private int replayJournal(Path journalFilePath, List<Person> persons) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        String[] lines;
+        try {
+            lines = FileUtil.readFromFile(journalFilePath).split("\n");
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        int entryCount = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.length - 1) {
+                    logger.warning("Skipping incomplete last entry of " + journalFilePath);
+                    return compactionInterval;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            entryCount++;
+        }
+        return entryCount;
+    }
+
+    private static Path getCompactionFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTION_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the list of persons in the address book.
+ * A change replaces {@code removed} persons starting at position {@code index} with {@code persons}, so an addition,
+ * deletion or edit of a single person is recorded together with that person only.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry does not fit the list of persons.";
+
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.index = index;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the replacement of {@code removed} persons at {@code index} with {@code persons}
+     * into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry ofChange(int index, int removed, List<Person> persons) {
+        return new JsonAdaptedJournalEntry(index, removed,
+                persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this change to {@code personList}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code personList}, or there were any data
+     *     constraints violated in the adapted persons.
+     */
+    public void applyTo(List<Person> personList) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > personList.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+
+        List<Person> inserted = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            inserted.add(person.toModelType());
+        }
+        List<Person> replaced = personList.subList(index, index + removed);
+        replaced.clear();
+        replaced.addAll(inserted);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.LessonSeries;
+
+/**
+ * Jackson-friendly version of {@link LessonSeries}.
+ */
+class JsonAdaptedLessonSeries {
+
+    private final String start;
+    private final String end;
+    private final String date;
+    private final String until;
+    private final int intervalWeeks;
+    private final String sub;
+    private final List<String> skippedDates = new ArrayList<>();
+    private final List<String> attendedDates = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedLessonSeries} with the given lesson series details.
+     */
+    @JsonCreator
+    public JsonAdaptedLessonSeries(@JsonProperty("start") String start,
+                                   @JsonProperty("end") String end,
+                                   @JsonProperty("date") String date,
+                                   @JsonProperty("until") String until,
+                                   @JsonProperty("intervalWeeks") int intervalWeeks,
+                                   @JsonProperty("sub") String sub,
+                                   @JsonProperty("skippedDates") List<String> skippedDates,
+                                   @JsonProperty("attendedDates") List<String> attendedDates) {
+        this.start = start;
+        this.end = end;
+        this.date = date;
+        this.until = until;
+        this.intervalWeeks = intervalWeeks;
+        this.sub = sub;
+        if (skippedDates != null) {
+            this.skippedDates.addAll(skippedDates);
+        }
+        if (attendedDates != null) {
+            this.attendedDates.addAll(attendedDates);
+        }
+    }
+
+    /**
+     * Converts a given {@code LessonSeries} into this class for Jackson use.
+     */
+    public JsonAdaptedLessonSeries(LessonSeries source) {
+        start = source.getStart().toString();
+        end = source.getEnd().toString();
+        date = source.getFirstDate().toString();
+        until = source.getLastDate().toString();
+        intervalWeeks = source.getIntervalWeeks();
+        sub = source.getSub();
+        source.getSkippedDates().forEach(skippedDate -> skippedDates.add(skippedDate.toString()));
+        source.getAttendedDates().forEach(attendedDate -> attendedDates.add(attendedDate.toString()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted lesson series object into the model's {@code LessonSeries} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted lesson series.
+     */
+    public LessonSeries toModelType() throws IllegalValueException {
+        if (start == null || end == null || date == null || until == null || sub == null) {
+            throw new IllegalValueException("Lesson series fields cannot be null!");
+        }
+        try {
+            LocalTime startTime = LocalTime.parse(start);
+            LocalTime endTime = LocalTime.parse(end);
+            LocalDate firstDate = LocalDate.parse(date);
+            LocalDate untilDate = LocalDate.parse(until);
+            if (!LessonSeries.isValidSeries(startTime, endTime, firstDate, untilDate, intervalWeeks)) {
+                throw new IllegalValueException(LessonSeries.MESSAGE_CONSTRAINTS);
+            }
+            return new LessonSeries(startTime, endTime, firstDate, untilDate, intervalWeeks, sub,
+                    parseDates(skippedDates), parseDates(attendedDates));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static List<LocalDate> parseDates(List<String> dates) {
+        List<LocalDate> parsedDates = new ArrayList<>();
+        for (String date : dates) {
+            parsedDates.add(LocalDate.parse(date));
+        }
+        return parsedDates;
+    }
+}
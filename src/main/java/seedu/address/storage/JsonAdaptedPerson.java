@@ -17,6 +17,7 @@ import seedu.address.model.person.Grade;
 import seedu.address.model.person.GradeList;
 import seedu.address.model.person.Lesson;
 import seedu.address.model.person.LessonList;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -38,8 +39,18 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final List<JsonAdaptedAttribute> attributes = new ArrayList<>();
     private final List<JsonAdaptedLesson> lessonList = new ArrayList<>();
+    private final List<JsonAdaptedLessonSeries> lessonSeries = new ArrayList<>();
     private final List<JsonAdaptedGrade> grades = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no lesson series.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String remark,
+                             List<JsonAdaptedTag> tags, List<JsonAdaptedAttribute> attributes,
+                             List<JsonAdaptedLesson> lessonList, List<JsonAdaptedGrade> grades) {
+        this(name, phone, email, address, remark, tags, attributes, lessonList, null, grades);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
@@ -49,6 +60,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("remark") String remark, @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("attributes") List<JsonAdaptedAttribute> attributes,
                              @JsonProperty("lessonList") List<JsonAdaptedLesson> lessonList,
+                             @JsonProperty("lessonSeries") List<JsonAdaptedLessonSeries> lessonSeries,
                              @JsonProperty("grades") List<JsonAdaptedGrade> grades) {
         this.name = name;
         this.phone = phone;
@@ -64,6 +76,9 @@ class JsonAdaptedPerson {
         if (lessonList != null) {
             this.lessonList.addAll(lessonList);
         }
+        if (lessonSeries != null) {
+            this.lessonSeries.addAll(lessonSeries);
+        }
         if (grades != null) {
             this.grades.addAll(grades);
         }
@@ -84,9 +99,12 @@ class JsonAdaptedPerson {
         attributes.addAll(source.getAttributes().stream()
                 .map(JsonAdaptedAttribute::new)
                 .collect(Collectors.toList()));
-        lessonList.addAll(source.getLessonList().getLessons().stream()
+        lessonList.addAll(source.getLessonList().getOneOffLessons().stream()
                 .map(JsonAdaptedLesson::new)
                 .collect(Collectors.toList()));
+        lessonSeries.addAll(source.getLessonList().getSeries().stream()
+                .map(JsonAdaptedLessonSeries::new)
+                .collect(Collectors.toList()));
         grades.addAll(source.getGradeList().getGrades().values().stream()
                 .map(JsonAdaptedGrade::new)
                 .collect(Collectors.toList()));
@@ -113,6 +131,11 @@ class JsonAdaptedPerson {
             personLessons.add(lesson.toModelType());
         }
 
+        final List<LessonSeries> personLessonSeries = new ArrayList<>();
+        for (JsonAdaptedLessonSeries series : lessonSeries) {
+            personLessonSeries.add(series.toModelType());
+        }
+
         final ArrayList<Grade> personGrades = new ArrayList<>();
         for (JsonAdaptedGrade grade : grades) {
             personGrades.add(grade.toModelType());
@@ -155,7 +178,7 @@ class JsonAdaptedPerson {
         }
 
         final Remark modelRemark = new Remark(remark);
-        final LessonList modelLessonList = new LessonList(personLessons);
+        final LessonList modelLessonList = new LessonList(personLessons, personLessonSeries);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Set<Attribute> modelAttributes = new HashSet<>(personAttributes);
@@ -1,14 +1,18 @@
 package seedu.address.storage;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -21,13 +25,15 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -48,13 +54,35 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addToAddressBook(addressBook, jsonAdaptedPerson);
         }
         return addressBook;
     }
 
+    /**
+     * Reads the address book in the JSON file at {@code filePath} one person at a time, converting each person into
+     * the model's {@code Person} as soon as it is read. Unlike {@link #toModelType()}, the adapted persons are never
+     * all held in memory at once.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataLoadingException if reading of the JSON file failed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyAddressBook> readModelType(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        boolean isFound = JsonUtil.readJsonArrayElements(filePath, PERSONS_FIELD, JsonAdaptedPerson.class,
+            jsonAdaptedPerson -> addToAddressBook(addressBook, jsonAdaptedPerson));
+        return isFound ? Optional.of(addressBook) : Optional.empty();
+    }
+
+    private static void addToAddressBook(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
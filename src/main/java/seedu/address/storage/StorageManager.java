@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void compactAddressBook() throws IOException {
+        logger.fine("Attempting to compact data file: " + getAddressBookFilePath());
+        addressBookStorage.compactAddressBook();
+    }
+
 }
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address book snapshots to an {@code AddressBookStorage} on a background thread.
+ * Only the latest snapshot is kept: snapshots requested while an earlier one is still waiting to be written replace
+ * it, so a burst of commands results in a single write of the final state.
+ *
+ * Failures of background writes are passed to the failure handler, and the time taken by every write to the write
+ * time handler, on the background thread.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = unused -> { };
+    private volatile LongConsumer writeTimeHandler = unused -> { };
+
+    /**
+     * Creates a {@code WriteBehindAddressBookSaver} that writes to {@code storage}.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the exception of every failed background write.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Sets the handler that is given the nanoseconds taken by every write to storage, whether it succeeded or not.
+     */
+    public void setWriteTimeHandler(LongConsumer writeTimeHandler) {
+        requireNonNull(writeTimeHandler);
+        this.writeTimeHandler = writeTimeHandler;
+    }
+
+    /**
+     * Schedules a write of the current content of {@code addressBook}.
+     * The persons are copied on the calling thread, so later changes to {@code addressBook} are not written.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingSnapshot.getAndSet(snapshotOf(addressBook)) == null) {
+            executor.execute(this::savePendingInBackground);
+        }
+    }
+
+    /**
+     * Writes any snapshot that is still waiting to be written, and waits for writes in progress to finish.
+     *
+     * @throws IOException if the pending snapshot could not be written.
+     */
+    public void flush() throws IOException {
+        Future<?> flushed = executor.submit(() -> {
+            savePending();
+            return null;
+        });
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes any pending snapshot, then stops the background thread.
+     *
+     * @throws IOException if the pending snapshot could not be written.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void savePendingInBackground() {
+        try {
+            savePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        long writeStart = System.nanoTime();
+        try {
+            storage.saveAddressBook(snapshot);
+        } finally {
+            writeTimeHandler.accept(System.nanoTime() - writeStart);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of the persons in {@code addressBook}.
+     * Persons are immutable apart from their display state, so copying the list is enough to fix the content.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(List.copyOf(addressBook.getPersonList())));
+        return () -> persons;
+    }
+}
@@ -1,45 +1,67 @@
 package seedu.address.ui;
 
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandLatencyStats;
+import seedu.address.logic.CommandLatencyStats.Stage;
+import seedu.address.logic.LiveSearch;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
- * (No longer contains live search; search is now a standard command.)
+ * While a {@code search} command is being typed, the person list shows the matches of the keywords typed so far.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Time without keystrokes after which the search keywords typed so far are evaluated. */
+    private static final Duration SEARCH_DEBOUNCE_DELAY = Duration.millis(150);
+    private static final String SEARCH_PREFIX = SearchCommand.COMMAND_WORD + " ";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final CommandExecutor commandExecutor;
+    private final LiveSearch liveSearch;
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE_DELAY);
+    private long lastKeystrokeNanos;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, without live search results.
      */
     public CommandBox(CommandExecutor commandExecutor) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearch = null;
         initializeListeners();
     }
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code Logic}.
-     * Logic reference is retained for potential future features (e.g. autocomplete).
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that shows live search results from
+     * {@code logic} while a search command is being typed.
      */
     public CommandBox(CommandExecutor commandExecutor, Logic logic) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearch = new LiveSearch(logic, Platform::runLater);
         initializeListeners();
     }
 
@@ -48,8 +70,10 @@ public class CommandBox extends UiPart<Region> {
      */
     private void initializeListeners() {
         // Remove error style when user starts typing again
-        commandTextField.textProperty().addListener((unused1,
-                                                     unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            handleTextChanged(newText);
+        });
 
         // Allow ESC key to clear the command box
         commandTextField.setOnKeyPressed(event -> {
@@ -57,6 +81,60 @@ public class CommandBox extends UiPart<Region> {
                 commandTextField.clear();
             }
         });
+
+        searchDebounce.setOnFinished(unused -> startLiveSearch());
+    }
+
+    /**
+     * Schedules a live search if a search command is being typed, or stops showing live search results otherwise.
+     */
+    private void handleTextChanged(String text) {
+        if (liveSearch == null) {
+            return;
+        }
+        lastKeystrokeNanos = System.nanoTime();
+        if (text.stripLeading().startsWith(SEARCH_PREFIX)) {
+            searchDebounce.playFromStart();
+        } else {
+            searchDebounce.stop();
+            liveSearch.clear();
+        }
+    }
+
+    private void startLiveSearch() {
+        String keywordText = commandTextField.getText().stripLeading().substring(SEARCH_PREFIX.length());
+        long keystrokeNanos = lastKeystrokeNanos;
+        liveSearch.search(keywordText, () -> recordRenderLatency(keystrokeNanos));
+    }
+
+    /**
+     * Records the time from the keystroke at {@code keystrokeNanos} to the end of the next layout of the scene, in
+     * which the person list shows the search results.
+     */
+    private void recordRenderLatency(long keystrokeNanos) {
+        Scene scene = commandTextField.getScene();
+        if (scene == null) {
+            return;
+        }
+        Runnable probe = new Runnable() {
+            private boolean isDone;
+
+            @Override
+            public void run() {
+                if (isDone) {
+                    return;
+                }
+                isDone = true;
+                long latency = System.nanoTime() - keystrokeNanos;
+                CommandLatencyStats.getInstance().record(LiveSearch.STATS_KEY, Stage.RENDER, latency);
+                logger.fine(String.format("Live search keystroke-to-render latency: %.1f ms",
+                        latency / NANOS_PER_MILLI));
+                // Listeners cannot be removed while the scene is notifying them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        };
+        scene.addPostLayoutPulseListener(probe);
+        Platform.requestNextPulse();
     }
 
     /**
@@ -69,6 +147,12 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        if (liveSearch != null) {
+            // The command decides what the person list shows from now on
+            searchDebounce.stop();
+            liveSearch.cancel();
+        }
+
         try {
             CommandResult commandResult = commandExecutor.execute(commandText);
             setStyleToDefault();
@@ -104,4 +188,3 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 }
-
@@ -1,9 +1,18 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -20,6 +29,19 @@ public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
+    /**
+     * Details of every person that has been expanded, keyed by their {@code expandedProperty()}.
+     * The property is unique to each {@code Person} instance and compared by identity, so an entry lives exactly as
+     * long as the person it was built from, and an edited person gets fresh details.
+     */
+    private static final Map<BooleanProperty, PersonDetails> detailsCache = new WeakHashMap<>();
+
+    private final ChangeListener<Boolean> expandedListener = (observable, wasExpanded, isExpanded) -> {
+        if (isExpanded) {
+            showDetails();
+        }
+    };
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -28,7 +50,9 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
+    private Person detailsPerson;
 
     @FXML
     private HBox cardPane;
@@ -57,59 +81,133 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label grades;
 
+    /**
+     * Creates an empty {@code PersonCard} that can later display any person through {@link #setPerson}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with the given index on this card, replacing the person displayed before.
+     * The FXML of the card is reused, so that list cells can be recycled cheaply while scrolling.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        if (this.person != null) {
+            this.person.expandedProperty().removeListener(expandedListener);
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+        person.expandedProperty().addListener(expandedListener);
+
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        remark.setText(person.getRemark().value);
         String tagsText = person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .map(tag -> "[" + tag.tagName + "]")
                 .collect(Collectors.joining(", ")); // Join tags with a space
         tags.setText(tagsText);
-        //making lessons into numbered list
-        StringBuilder lessonSb = new StringBuilder();
-        int lessonNumber = 1;
-        for (Lesson lesson : person.getLessonList().getLessons()) {
-            lessonSb.append(lessonNumber++).append(". ").append(lesson.toString()).append("\n");
-        }
-        lessonList.setText(lessonSb.toString().trim());
-        //calculating attendance
-        long attendedClasses = person.getLessonList().getAttendedLessonCount();
-        long totalClasses = person.getLessonList().size();
-        attendance.setText("Attendance: " + attendedClasses + " / " + totalClasses);
-        // Display attributes
-        //gets attributes and sorts them by key
-        person.getAttributes().stream()
-                .sorted(Comparator.comparing(Attribute::getKey))
-                .forEach(attr -> {
-                    String valueText = attr.getValues().stream()
-                            .sorted()
-                            .collect(Collectors.joining(","));
-                    String displayText = attr.getKey() + " = " + valueText;
-                    Label attributeLabel = new Label(displayText);
-                    attributeLabel.setWrapText(true);
-                    attributeLabel.setMinWidth(0);
-                    attributeLabel.setMaxWidth(Double.MAX_VALUE);
-                    attributes.getChildren().add(attributeLabel);
-                });
-
-        // Display grades
-        String gradesText = person.getGradeList().getGrades().values().stream()
-                .sorted(Comparator.comparing(grade -> grade.getSubject() + "/" + grade.getAssessment()))
-                .map(grade -> grade.getSubject() + "/" + grade.getAssessment() + ": " + grade.getScore())
-                .collect(Collectors.joining("\n"));
-        grades.setText(gradesText);
+
         detailsPane.visibleProperty().bind(person.expandedProperty());
         detailsPane.managedProperty().bind(person.expandedProperty());
+        if (person.isExpanded()) {
+            showDetails();
+        }
     }
 
+    /**
+     * Fills the details pane with the details of the displayed person, unless it already shows them.
+     * Called only once the person is expanded, so that collapsed cards cost no more than their summary.
+     */
+    private void showDetails() {
+        if (detailsPerson == person) {
+            return;
+        }
+        detailsPerson = person;
+
+        PersonDetails details = detailsCache.computeIfAbsent(person.expandedProperty(),
+                unused -> new PersonDetails(detailsPerson));
+        remark.setText(details.remarkText);
+        setAttributeTexts(details.attributeTexts);
+        grades.setText(details.gradesText);
+        lessonList.setText(details.lessonsText);
+        attendance.setText(details.attendanceText);
+    }
+
+    /**
+     * Shows one label per attribute text, reusing the labels of the previously displayed person.
+     */
+    private void setAttributeTexts(List<String> attributeTexts) {
+        ObservableList<Node> labels = attributes.getChildren();
+        if (labels.size() > attributeTexts.size()) {
+            labels.remove(attributeTexts.size(), labels.size());
+        }
+        for (int i = 0; i < attributeTexts.size(); i++) {
+            if (i == labels.size()) {
+                Label newLabel = new Label();
+                newLabel.setWrapText(true);
+                newLabel.setMinWidth(0);
+                newLabel.setMaxWidth(Double.MAX_VALUE);
+                labels.add(newLabel);
+            }
+            Label attributeLabel = (Label) labels.get(i);
+            attributeLabel.setText(attributeTexts.get(i));
+        }
+    }
+
+    /**
+     * The text shown in the details pane of a person.
+     */
+    private static class PersonDetails {
+        private final String remarkText;
+        private final List<String> attributeTexts;
+        private final String gradesText;
+        private final String lessonsText;
+        private final String attendanceText;
+
+        PersonDetails(Person person) {
+            remarkText = person.getRemark().value;
+            //gets attributes and sorts them by key
+            attributeTexts = person.getAttributes().stream()
+                    .sorted(Comparator.comparing(Attribute::getKey))
+                    .map(attr -> attr.getKey() + " = " + attr.getValues().stream()
+                            .sorted()
+                            .collect(Collectors.joining(",")))
+                    .collect(Collectors.toList());
+            gradesText = person.getGradeList().getGrades().values().stream()
+                    .sorted(Comparator.comparing(grade -> grade.getSubject() + "/" + grade.getAssessment()))
+                    .map(grade -> grade.getSubject() + "/" + grade.getAssessment() + ": " + grade.getScore())
+                    .collect(Collectors.joining("\n"));
+            //making lessons into numbered list
+            StringBuilder lessonSb = new StringBuilder();
+            int lessonNumber = 1;
+            for (Lesson lesson : person.getLessonList().getLessons()) {
+                lessonSb.append(lessonNumber++).append(". ").append(lesson.toString()).append("\n");
+            }
+            lessonsText = lessonSb.toString().trim();
+            //calculating attendance
+            long attendedClasses = person.getLessonList().getAttendedLessonCount();
+            long totalClasses = person.getLessonList().size();
+            attendanceText = "Attendance: " + attendedClasses + " / " + totalClasses;
+        }
+    }
 }
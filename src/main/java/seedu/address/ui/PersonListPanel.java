@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.RateMeter;
 import seedu.address.model.person.Person;
 
 /**
@@ -16,6 +17,7 @@ import seedu.address.model.person.Person;
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final RateMeter cellUpdateRate = new RateMeter();
 
     @FXML
     private ListView<Person> personListView;
@@ -31,8 +33,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell keeps one card, which is rebound to whichever person the cell displays.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private final PersonCard personCard = new PersonCard();
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +46,12 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
+            }
+
+            if (cellUpdateRate.record()) {
+                logger.fine(String.format("Person list cell updates per second: %.1f", cellUpdateRate.getRate()));
             }
         }
     }
@@ -0,0 +1,82 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private HeadlessMain headlessMain;
+    private StringWriter output = new StringWriter();
+    private StringWriter errorOutput = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        headlessMain = new HeadlessMain(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void run_validCommands_resultsWritten() throws Exception {
+        String script = String.join("\n", "# onboarding", PersonUtil.getAddCommand(AMY), "", ListCommand.COMMAND_WORD);
+
+        assertEquals(0, run(script));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)) + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString());
+        assertEquals("", errorOutput.toString());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_invalidCommands_errorsWrittenAndCounted() throws Exception {
+        String script = String.join("\n", "unknownCommand", ListCommand.COMMAND_WORD, "", "delete 1");
+
+        assertEquals(2, run(script));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString());
+        assertEquals(String.format(HeadlessMain.MESSAGE_LINE_ERROR, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator() + String.format(HeadlessMain.MESSAGE_LINE_ERROR, 4,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX) + System.lineSeparator(), errorOutput.toString());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotExecuted() throws Exception {
+        String script = String.join("\n", ExitCommand.COMMAND_WORD, PersonUtil.getAddCommand(AMY));
+
+        assertEquals(0, run(script));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output.toString());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    private int run(String script) throws Exception {
+        return headlessMain.run(new BufferedReader(new StringReader(script)), new PrintWriter(output),
+                new PrintWriter(errorOutput));
+    }
+}
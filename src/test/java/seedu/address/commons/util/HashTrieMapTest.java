@@ -0,0 +1,107 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class HashTrieMapTest {
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> HashTrieMap.empty().put(null, "value"));
+        assertThrows(NullPointerException.class, () -> HashTrieMap.empty().put("key", null));
+    }
+
+    @Test
+    public void put_doesNotModifyOriginal() {
+        HashTrieMap<String, Integer> original = HashTrieMap.<String, Integer>empty().put("a", 1);
+        HashTrieMap<String, Integer> updated = original.put("a", 2).put("b", 3);
+
+        assertEquals(1, original.size());
+        assertEquals(1, original.get("a"));
+        assertEquals(2, updated.size());
+        assertEquals(2, updated.get("a"));
+        assertEquals(3, updated.get("b"));
+    }
+
+    @Test
+    public void put_sameValue_returnsSameMap() {
+        Integer value = 1;
+        HashTrieMap<String, Integer> map = HashTrieMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+    }
+
+    @Test
+    public void remove_missingKey_returnsSameMap() {
+        HashTrieMap<String, Integer> map = HashTrieMap.<String, Integer>empty().put("a", 1);
+        assertSame(map, map.remove("b"));
+        assertTrue(map.remove("a").isEmpty());
+    }
+
+    @Test
+    public void putAndRemove_collidingHashCodes_success() {
+        // "Aa" and "BB" have the same hash code
+        HashTrieMap<String, Integer> map = HashTrieMap.<String, Integer>empty().put("Aa", 1).put("BB", 2);
+        assertEquals(1, map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+
+        HashTrieMap<String, Integer> removed = map.remove("Aa");
+        assertNull(removed.get("Aa"));
+        assertEquals(2, removed.get("BB"));
+        assertEquals(1, removed.size());
+    }
+
+    @Test
+    public void putAndRemove_manyKeys_matchesHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        HashTrieMap<Integer, Integer> map = HashTrieMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            // keys that differ only in high bits share long trie paths
+            int key = random.nextInt(300) << random.nextInt(24);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map.asMap());
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, HashTrieMap.copyOf(expected));
+    }
+
+    @Test
+    public void asMap_isUnmodifiable() {
+        Map<String, Integer> view = HashTrieMap.<String, Integer>empty().put("a", 1).asMap();
+        assertThrows(UnsupportedOperationException.class, () -> view.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+    }
+
+    @Test
+    public void equals() {
+        HashTrieMap<String, Integer> map = HashTrieMap.<String, Integer>empty().put("a", 1).put("b", 2);
+
+        // same entries added in a different order -> returns true
+        assertEquals(map, HashTrieMap.<String, Integer>empty().put("b", 2).put("a", 1));
+
+        // different values -> returns false
+        assertNotEquals(map, map.put("a", 3));
+
+        // different types -> returns false
+        assertFalse(map.equals(map.asMap()));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RateMeterTest {
+
+    private long now = 0;
+
+    @Test
+    public void constructor_nullClock_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RateMeter(null));
+    }
+
+    @Test
+    public void record_windowIncomplete_rateNotUpdated() {
+        RateMeter rateMeter = new RateMeter(() -> now);
+        for (int i = 0; i < 10; i++) {
+            assertFalse(rateMeter.record());
+            now += 10_000_000L;
+        }
+        assertEquals(0, rateMeter.getRate());
+    }
+
+    @Test
+    public void record_windowComplete_rateUpdated() {
+        RateMeter rateMeter = new RateMeter(() -> now);
+        // 50 events, 20ms apart, followed by one more event that completes the window
+        for (int i = 0; i < 50; i++) {
+            assertFalse(rateMeter.record());
+            now += 20_000_000L;
+        }
+        assertTrue(rateMeter.record());
+        assertEquals(51, rateMeter.getRate(), 0.001);
+
+        // the next window starts afresh
+        now += 500_000_000L;
+        assertFalse(rateMeter.record());
+        now += 2_000_000_000L;
+        assertTrue(rateMeter.record());
+        assertEquals(1, rateMeter.getRate(), 0.001);
+    }
+}
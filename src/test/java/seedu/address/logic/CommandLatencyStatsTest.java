@@ -0,0 +1,61 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandLatencyStats.Stage;
+
+public class CommandLatencyStatsTest {
+
+    private final CommandLatencyStats stats = new CommandLatencyStats();
+
+    @Test
+    public void getSummary_noCommands_noCommandsMessage() {
+        assertEquals(CommandLatencyStats.MESSAGE_NO_COMMANDS, stats.getSummary());
+    }
+
+    @Test
+    public void getSummary_recordedCommands_oneLinePerCommandWord() {
+        stats.record("list", Stage.PARSE, 1_000_000);
+        stats.record("list", Stage.EXECUTE, 2_000_000);
+        stats.record("add", Stage.PARSE, 3_000_000);
+        stats.record("add", Stage.EXECUTE, 4_000_000);
+        stats.record("add", Stage.SAVE, 5_000_000);
+
+        assertEquals(String.join("\n", CommandLatencyStats.MESSAGE_HEADER,
+                "add (1x) | parse 3.000 / 3.000 / 3.000 | execute 4.000 / 4.000 / 4.000"
+                        + " | save 5.000 / 5.000 / 5.000",
+                "list (1x) | parse 1.000 / 1.000 / 1.000 | execute 2.000 / 2.000 / 2.000 | save -"),
+                stats.getSummary());
+    }
+
+    @Test
+    public void getSummary_renderTimed_renderShown() {
+        stats.record("search (live)", Stage.EXECUTE, 1_000_000);
+        stats.record("search (live)", Stage.RENDER, 2_000_000);
+
+        assertEquals(String.join("\n", CommandLatencyStats.MESSAGE_HEADER,
+                "search (live) (1x) | parse - | execute 1.000 / 1.000 / 1.000 | save - | render 2.000 / 2.000 / 2.000"),
+                stats.getSummary());
+    }
+
+    @Test
+    public void getSummary_onlySaveTimed_savesCounted() {
+        stats.record("(disk write)", Stage.SAVE, 1_000_000);
+        stats.record("(disk write)", Stage.SAVE, 1_000_000);
+
+        assertEquals(String.join("\n", CommandLatencyStats.MESSAGE_HEADER,
+                "(disk write) (2x) | parse - | execute - | save 1.000 / 1.000 / 1.000"),
+                stats.getSummary());
+    }
+
+    @Test
+    public void getHistogram() {
+        stats.record("list", Stage.EXECUTE, 10);
+        stats.record("list", Stage.EXECUTE, 20);
+        assertEquals(2, stats.getHistogram("list", Stage.EXECUTE).getCount());
+        assertEquals(0, stats.getHistogram("list", Stage.SAVE).getCount());
+        assertEquals(0, stats.getHistogram("add", Stage.EXECUTE).getCount());
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandLatencyStats.Stage;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ExecutorService evaluator = Executors.newSingleThreadExecutor();
+    // Stands in for the JavaFX application thread, which runs the published tasks when drained
+    private final Queue<Runnable> publishedTasks = new ConcurrentLinkedQueue<>();
+    private final CommandLatencyStats stats = new CommandLatencyStats();
+    private final AtomicInteger publishCount = new AtomicInteger();
+
+    private Model model;
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        liveSearch = new LiveSearch(new LogicManager(model, storage), evaluator, publishedTasks::add, stats);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        evaluator.shutdownNow();
+    }
+
+    @Test
+    public void search_matchesPublished() throws Exception {
+        search("meier");
+        awaitEvaluations();
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        runPublishedTasks();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(1, publishCount.get());
+        assertEquals(1, stats.getHistogram(LiveSearch.STATS_KEY, Stage.EXECUTE).getCount());
+    }
+
+    @Test
+    public void search_supersededBeforeEvaluation_onlyLatestEvaluated() throws Exception {
+        CountDownLatch evaluatorBlocked = new CountDownLatch(1);
+        evaluator.submit(() -> {
+            evaluatorBlocked.await();
+            return null;
+        });
+        search("alice");
+        search("kurz");
+        evaluatorBlocked.countDown();
+        awaitEvaluations();
+        runPublishedTasks();
+
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+        assertEquals(1, publishCount.get());
+        assertEquals(1, stats.getHistogram(LiveSearch.STATS_KEY, Stage.EXECUTE).getCount());
+    }
+
+    @Test
+    public void search_supersededAfterEvaluation_onlyLatestPublished() throws Exception {
+        search("alice");
+        awaitEvaluations();
+        search("kurz");
+        awaitEvaluations();
+        runPublishedTasks();
+
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+        assertEquals(1, publishCount.get());
+    }
+
+    @Test
+    public void search_narrowedAndWidenedKeywords() throws Exception {
+        searchAndPublish("e");
+        searchAndPublish("el");
+        assertEquals(List.of(DANIEL, ELLE), model.getFilteredPersonList());
+
+        // every email contains "a"
+        searchAndPublish("el a");
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+        searchAndPublish("");
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertEquals(4, publishCount.get());
+    }
+
+    @Test
+    public void search_personsChangedWhileEvaluating_searchesAgain() throws Exception {
+        search("meier");
+        awaitEvaluations();
+        model.addPerson(HOON);
+        runPublishedTasks();
+        assertEquals(0, publishCount.get());
+
+        awaitEvaluations();
+        runPublishedTasks();
+        assertEquals(List.of(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+        assertEquals(1, publishCount.get());
+    }
+
+    @Test
+    public void search_personEditedAfterPublishing_testedAgainstKeywords() throws Exception {
+        searchAndPublish("meier");
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(List.of(BENSON, editedCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_pendingSearchNotPublished() throws Exception {
+        searchAndPublish("meier");
+        search("alice");
+        liveSearch.cancel();
+        awaitEvaluations();
+        runPublishedTasks();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // the results now belong to the command that followed, so they are not cleared
+        liveSearch.clear();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void clear_allPersonsShown() throws Exception {
+        searchAndPublish("meier");
+        liveSearch.clear();
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    private void search(String keywordText) {
+        liveSearch.search(keywordText, publishCount::incrementAndGet);
+    }
+
+    private void searchAndPublish(String keywordText) throws Exception {
+        search(keywordText);
+        awaitEvaluations();
+        runPublishedTasks();
+    }
+
+    /**
+     * Waits for the evaluations submitted so far, as the evaluator runs them in order on a single thread.
+     */
+    private void awaitEvaluations() throws Exception {
+        evaluator.submit(() -> { }).get();
+    }
+
+    /**
+     * Runs the publish tasks queued so far, leaving any task queued by a search they start for a later call.
+     */
+    private void runPublishedTasks() {
+        int queuedCount = publishedTasks.size();
+        for (int i = 0; i < queuedCount; i++) {
+            publishedTasks.poll().run();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,18 +11,24 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.CommandLatencyStats.Stage;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -31,7 +39,9 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -71,6 +81,32 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommands_latenciesRecorded() throws Exception {
+        CommandLatencyStats stats = CommandLatencyStats.getInstance();
+        long listCount = stats.getHistogram(ListCommand.COMMAND_WORD, Stage.EXECUTE).getCount();
+        long addSaveCount = stats.getHistogram(AddCommand.COMMAND_WORD, Stage.SAVE).getCount();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(PersonUtil.getAddCommand(AMY));
+
+        assertEquals(listCount + 1, stats.getHistogram(ListCommand.COMMAND_WORD, Stage.EXECUTE).getCount());
+        assertEquals(addSaveCount + 1, stats.getHistogram(AddCommand.COMMAND_WORD, Stage.SAVE).getCount());
+    }
+
+    @Test
+    public void execute_invalidCommands_parseTimeRecordedUnderOneKey() {
+        CommandLatencyStats stats = CommandLatencyStats.getInstance();
+        long failureCount = stats.getHistogram(LogicManager.PARSE_FAILURE_STATS_KEY, Stage.PARSE).getCount();
+
+        assertThrows(ParseException.class, () -> logic.execute("junkword1"));
+        assertThrows(ParseException.class, () -> logic.execute("junkword2"));
+
+        assertEquals(failureCount + 2, stats.getHistogram(LogicManager.PARSE_FAILURE_STATS_KEY, Stage.PARSE)
+                .getCount());
+        assertEquals(0, stats.getHistogram("junkword1", Stage.PARSE).getCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -83,6 +119,61 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_success() throws Exception {
+        logic = new LogicManager(model, getStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_writeBehindStorageThrowsIoException_reportsSaveError() throws Exception {
+        StorageManager storage = getStorageThrowing(DUMMY_IO_EXCEPTION);
+        logic = new LogicManager(model, storage, new WriteBehindAddressBookSaver(storage));
+        List<String> saveErrors = new ArrayList<>();
+        logic.setSaveErrorHandler(saveErrors::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        logic.flushPendingSaves();
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                saveErrors);
+    }
+
+    @Test
+    public void executeBatch_validCommands_savedAsOneChange() throws Exception {
+        String addAmyCommand = PersonUtil.getAddCommand(AMY);
+        String addBobCommand = PersonUtil.getAddCommand(BOB);
+        CommandResult result = logic.executeBatch(List.of("# new students", addAmyCommand, addBobCommand));
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 2 commands"));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertEquals(expectedModel, model);
+        assertEquals(expectedModel.getAddressBook(), new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")).readAddressBook().get());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeBatch_failingCommand_noChanges() {
+        String addAmyCommand = PersonUtil.getAddCommand(AMY);
+        String deleteCommand = "delete 9";
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, deleteCommand,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), () -> logic.executeBatch(List.of(addAmyCommand,
+                deleteCommand)));
+        assertEquals(new ModelManager(), model);
+        assertFalse(model.canUndoAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -155,9 +246,23 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, getStorageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code StorageManager} with an AddressBookStorage that throws the IOException {@code e} when saving.
+     */
+    private StorageManager getStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -168,16 +273,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
@@ -8,8 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +25,16 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.AttendanceCount;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.GradeStatistics;
+import seedu.address.model.person.GradebookEntry;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonOnDaysPredicate;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
+import seedu.address.model.person.TimetableEntry;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -148,6 +160,101 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getIndexedPredicate(PersonContainsKeywordPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getIndexedPredicate(AttributeContainsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getIndexedPredicate(LessonOnDaysPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimetableEntry> getTimetable(LocalDate firstDay, LocalDate lastDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimetableEntry> getClashingLessons(Person person, Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TimetableEntry> getClashingLessons(Person person, LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<String, GradeStatistics> getSubjectGradeStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<String, GradeStatistics> getAssessmentGradeStatistics(String subject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<GradebookEntry> getGradeRanking(String subject, String assessment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] getGradeHistogram(String subject, String assessment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsMissingGrade(String subject, String assessment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<String, AttendanceCount> getSubjectAttendance() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<LocalDate, AttendanceCount> getWeeklyAttendance() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +264,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void refineFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
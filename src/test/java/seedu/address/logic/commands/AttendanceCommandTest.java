@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceCommand.View;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceCount;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for AttendanceCommand.
+ */
+public class AttendanceCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(firstPerson, new PersonBuilder(firstPerson)
+                .withLesson(new Lesson("10:00", "11:00", "2025-09-22", "Math", true))
+                .withLesson(new Lesson("10:00", "11:00", "2025-09-29", "Math")).build());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.setPerson(secondPerson, new PersonBuilder(secondPerson)
+                .withLesson(new Lesson("14:00", "15:00", "2025-09-24", "Science", true)).build());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_subject_showsAttendancePerSubject() {
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "subject",
+                "2/3 attended (66.7%)", "Math: 1/2 attended (50.0%)\nScience: 1/1 attended (100.0%)");
+        assertCommandSuccess(new AttendanceCommand(View.SUBJECT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_week_showsAttendancePerWeek() {
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "week", "2/3 attended (66.7%)",
+                "2025-W39 (from 2025-09-22): 2/2 attended (100.0%)\n"
+                        + "2025-W40 (from 2025-09-29): 0/1 attended (0.0%)");
+        assertCommandSuccess(new AttendanceCommand(View.WEEK), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_student_showsAttendancePerStudent() {
+        String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS, "student", "2/3 attended (66.7%)",
+                "Alice Paul: 1/2 attended (50.0%)\nBenson Meier: 1/1 attended (100.0%)");
+        assertCommandSuccess(new AttendanceCommand(View.STUDENT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noLessons_showsNoLessons() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new AttendanceCommand(View.SUBJECT), emptyModel, AttendanceCommand.MESSAGE_NO_LESSONS,
+                new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_afterMarkAndUnschedule_countersUpdated() throws Exception {
+        new MarkCommand(INDEX_FIRST_PERSON, Index.fromOneBased(2)).execute(model);
+        assertEquals(new AttendanceCount(2, 2), model.getSubjectAttendance().get("Math"));
+
+        new UnscheduleCommand(INDEX_SECOND_PERSON, Index.fromOneBased(1)).execute(model);
+        assertFalse(model.getSubjectAttendance().containsKey("Science"));
+        assertEquals(new AttendanceCount(1, 1), model.getWeeklyAttendance().values().iterator().next());
+    }
+
+    @Test
+    public void equals() {
+        AttendanceCommand subjectCommand = new AttendanceCommand(View.SUBJECT);
+
+        assertTrue(subjectCommand.equals(subjectCommand));
+        assertTrue(subjectCommand.equals(new AttendanceCommand(View.SUBJECT)));
+
+        assertFalse(subjectCommand.equals(null));
+        assertFalse(subjectCommand.equals(1));
+        assertFalse(subjectCommand.equals(new AttendanceCommand(View.WEEK)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = AttendanceCommand.class.getCanonicalName() + "{view=STUDENT}";
+        assertEquals(expected, new AttendanceCommand(View.STUDENT).toString());
+    }
+}
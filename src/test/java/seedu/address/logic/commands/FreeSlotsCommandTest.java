@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.AttributeContainsPredicate;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeSlotsCommand.
+ */
+public class FreeSlotsCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime FIVE_PM = LocalTime.of(17, 0);
+    private static final Duration ONE_HOUR = Duration.ofMinutes(60);
+    private static final AttributeContainsPredicate NO_FILTER = new AttributeContainsPredicate(Map.of());
+    private static final AttributeContainsPredicate MATH_FILTER =
+            new AttributeContainsPredicate(Map.of("subject", Set.of("math")));
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(firstPerson, new PersonBuilder(firstPerson)
+                .withAttributes(new Attribute("subject", "math"))
+                .withLesson(new Lesson("10:00", "12:00", "2025-09-22", "Math")).build());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.setPerson(secondPerson, new PersonBuilder(secondPerson)
+                .withLesson(new Lesson("13:00", "16:30", "2025-09-22", "Science")).build());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_allStudents_listsFreeSlots() {
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 2, 60, MONDAY, MONDAY,
+                "2025-09-22 from 09:00 to 10:00 (60 min)\n2025-09-22 from 12:00 to 13:00 (60 min)");
+        assertCommandSuccess(new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, ONE_HOUR, NO_FILTER), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_attributeFilter_ignoresOtherStudents() {
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 2, 60, MONDAY, MONDAY,
+                "2025-09-22 from 09:00 to 10:00 (60 min)\n2025-09-22 from 12:00 to 17:00 (300 min)");
+        assertCommandSuccess(new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, ONE_HOUR, MATH_FILTER), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noLongEnoughSlot_showsNoFreeSlotsMessage() {
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS, 90, MONDAY, MONDAY);
+        assertCommandSuccess(new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, Duration.ofMinutes(90),
+                NO_FILTER), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand command = new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, ONE_HOUR, NO_FILTER);
+
+        // same values -> returns true
+        assertEquals(command, new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, ONE_HOUR, NO_FILTER));
+
+        // same object -> returns true
+        assertEquals(command, command);
+
+        // different types -> returns false
+        assertNotEquals(command, 1);
+
+        // different values -> returns false
+        assertNotEquals(command, new FreeSlotsCommand(MONDAY, MONDAY.plusDays(1), NINE, FIVE_PM, ONE_HOUR,
+                NO_FILTER));
+        assertNotEquals(command, new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, Duration.ofMinutes(30),
+                NO_FILTER));
+        assertNotEquals(command, new FreeSlotsCommand(MONDAY, MONDAY, NINE, FIVE_PM, ONE_HOUR, MATH_FILTER));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for GradeStatsCommand.
+ */
+public class GradeStatsCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(firstPerson, new PersonBuilder(firstPerson)
+                .withGrades(new Grade("MATH", "WA1", "80"), new Grade("MATH", "WA2", "9/10")).build());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.setPerson(secondPerson, new PersonBuilder(secondPerson)
+                .withGrades(new Grade("MATH", "WA1", "70%"), new Grade("SCIENCE", "Quiz1", "B+")).build());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_allSubjects_showsSubjectStatistics() {
+        String expectedMessage = String.format(GradeStatsCommand.MESSAGE_SUCCESS, 1,
+                "MATH: 3 score(s), mean 80.00, min 70.00, max 90.00, variance 66.67");
+        assertCommandSuccess(new GradeStatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_subject_showsAssessmentStatistics() {
+        String expectedMessage = String.format(GradeStatsCommand.MESSAGE_SUBJECT_SUCCESS, "MATH",
+                "3 score(s), mean 80.00, min 70.00, max 90.00, variance 66.67",
+                "WA1: 2 score(s), mean 75.00, min 70.00, max 80.00, variance 25.00\n"
+                        + "WA2: 1 score(s), mean 90.00, min 90.00, max 90.00, variance 0.00");
+        assertCommandSuccess(new GradeStatsCommand("MATH"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_subjectWithoutNumericScores_showsNoGrades() {
+        assertCommandSuccess(new GradeStatsCommand("SCIENCE"), model,
+                String.format(GradeStatsCommand.MESSAGE_NO_SUBJECT_GRADES, "SCIENCE"), expectedModel);
+    }
+
+    @Test
+    public void execute_noGrades_showsNoGrades() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new GradeStatsCommand(), emptyModel, GradeStatsCommand.MESSAGE_NO_GRADES,
+                new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_afterGradeAndDeleteGrade_statisticsUpdated() throws Exception {
+        new GradeCommand(INDEX_SECOND_PERSON, Set.of(new Grade("SCIENCE", "Quiz1", "60"))).execute(model);
+        new DeleteGradeCommand(INDEX_FIRST_PERSON, "MATH", "WA2").execute(model);
+
+        assertEquals(2, model.getSubjectGradeStatistics().get("MATH").getCount());
+        assertEquals(60, model.getSubjectGradeStatistics().get("SCIENCE").getMean());
+        assertFalse(model.getAssessmentGradeStatistics("MATH").containsKey("WA2"));
+    }
+
+    @Test
+    public void equals() {
+        GradeStatsCommand allSubjectsCommand = new GradeStatsCommand();
+        GradeStatsCommand mathCommand = new GradeStatsCommand("MATH");
+
+        assertTrue(allSubjectsCommand.equals(allSubjectsCommand));
+        assertTrue(allSubjectsCommand.equals(new GradeStatsCommand()));
+        assertTrue(mathCommand.equals(new GradeStatsCommand("MATH")));
+
+        assertFalse(allSubjectsCommand.equals(null));
+        assertFalse(allSubjectsCommand.equals(1));
+        assertFalse(allSubjectsCommand.equals(mathCommand));
+        assertFalse(mathCommand.equals(new GradeStatsCommand("SCIENCE")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        GradeStatsCommand command = new GradeStatsCommand("MATH");
+        String expected = GradeStatsCommand.class.getCanonicalName() + "{subject=Optional[MATH]}";
+        assertEquals(expected, command.toString());
+    }
+}
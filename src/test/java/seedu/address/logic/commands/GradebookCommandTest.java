@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.GradebookCommand.View;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for GradebookCommand.
+ */
+public class GradebookCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<String> scores = List.of("70", "9/10", "70%", "B+");
+        for (int i = 0; i < scores.size(); i++) {
+            Person person = model.getFilteredPersonList().get(i);
+            model.setPerson(person, new PersonBuilder(person)
+                    .withGrades(new Grade("MATH", "WA1", scores.get(i))).build());
+        }
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_rank_showsRanking() {
+        String expectedMessage = String.format(GradebookCommand.MESSAGE_RANKING, "MATH", "WA1", 3,
+                "1. Benson Meier: 90.00\n2. Alice Paul: 70.00\n2. Carl Kurz: 70.00");
+        assertCommandSuccess(new GradebookCommand("MATH", "WA1", View.RANK), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_histogram_showsDistribution() {
+        String expectedMessage = String.format(GradebookCommand.MESSAGE_HISTOGRAM, "MATH", "WA1", 3,
+                "0-10: 0\n10-20: 0\n20-30: 0\n30-40: 0\n40-50: 0\n50-60: 0\n60-70: 0\n70-80: 2\n80-90: 0\n90+: 1");
+        assertCommandSuccess(new GradebookCommand("MATH", "WA1", View.HISTOGRAM), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_missing_listsStudentsWithoutGrade() {
+        String expectedMessage = String.format(GradebookCommand.MESSAGE_MISSING, 3, "MATH", "WA1",
+                "Elle Meyer\nFiona Kunz\nGeorge Best");
+        assertCommandSuccess(new GradebookCommand("MATH", "WA1", View.MISSING), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noScores_showsNoScores() {
+        String expectedMessage = String.format(GradebookCommand.MESSAGE_NO_SCORES, "MATH", "WA2");
+        assertCommandSuccess(new GradebookCommand("MATH", "WA2", View.RANK), model, expectedMessage, expectedModel);
+        assertCommandSuccess(new GradebookCommand("MATH", "WA2", View.HISTOGRAM), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_afterGradeAndDeleteGrade_gradebookUpdated() throws Exception {
+        for (int i = 4; i < model.getFilteredPersonList().size(); i++) {
+            new GradeCommand(Index.fromZeroBased(i), Set.of(new Grade("MATH", "WA1", "50"))).execute(model);
+        }
+        assertCommandSuccess(new GradebookCommand("MATH", "WA1", View.MISSING), model,
+                String.format(GradebookCommand.MESSAGE_NONE_MISSING, "MATH", "WA1"), model);
+
+        new DeleteGradeCommand(Index.fromZeroBased(1), "MATH", "WA1").execute(model);
+        assertEquals(List.of(model.getFilteredPersonList().get(1)), model.getPersonsMissingGrade("MATH", "WA1"));
+    }
+
+    @Test
+    public void equals() {
+        GradebookCommand rankCommand = new GradebookCommand("MATH", "WA1", View.RANK);
+
+        assertTrue(rankCommand.equals(rankCommand));
+        assertTrue(rankCommand.equals(new GradebookCommand("MATH", "WA1", View.RANK)));
+
+        assertFalse(rankCommand.equals(null));
+        assertFalse(rankCommand.equals(1));
+        assertFalse(rankCommand.equals(new GradebookCommand("SCIENCE", "WA1", View.RANK)));
+        assertFalse(rankCommand.equals(new GradebookCommand("MATH", "WA2", View.RANK)));
+        assertFalse(rankCommand.equals(new GradebookCommand("MATH", "WA1", View.MISSING)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        GradebookCommand command = new GradebookCommand("MATH", "WA1", View.HISTOGRAM);
+        String expected = GradebookCommand.class.getCanonicalName()
+                + "{subject=MATH, assessment=WA1, view=HISTOGRAM}";
+        assertEquals(expected, command.toString());
+    }
+}
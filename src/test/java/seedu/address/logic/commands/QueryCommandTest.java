@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.QueryCondition;
+import seedu.address.model.query.QueryCondition.Field;
+import seedu.address.model.query.QueryCondition.Operator;
+import seedu.address.model.query.QueryExpression;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for QueryCommand.
+ */
+public class QueryCommandTest {
+
+    private static final QueryCondition FRIENDS = new QueryCondition(Field.TAG, Operator.EQUALS, "friends");
+    private static final QueryCondition MEIER = new QueryCondition(Field.NAME, Operator.CONTAINS, "meier");
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_matchingPersons_listsMatches() {
+        QueryExpression expression = QueryExpression.or(List.of(QueryExpression.and(List.of(FRIENDS, MEIER)),
+                new QueryCondition(Field.SEARCH, Operator.CONTAINS, "alice")));
+        String expectedMessage = String.format(QueryCommand.MESSAGE_SUCCESS, 3,
+                "((tag=friends AND name:meier) OR search:alice)");
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(BENSON)
+                || person.equals(DANIEL));
+        assertCommandSuccess(new QueryCommand(expression), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatches_listsNoPersons() {
+        QueryExpression expression = QueryExpression.and(List.of(MEIER, QueryExpression.not(MEIER)));
+        String expectedMessage = String.format(QueryCommand.MESSAGE_EMPTY, "(name:meier AND NOT name:meier)");
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new QueryCommand(expression), model, expectedMessage, expectedModel);
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        QueryCommand friendsCommand = new QueryCommand(FRIENDS);
+
+        // same object -> returns true
+        assertTrue(friendsCommand.equals(friendsCommand));
+
+        // same values -> returns true
+        assertTrue(friendsCommand.equals(new QueryCommand(new QueryCondition(Field.TAG, Operator.EQUALS,
+                "friends"))));
+
+        // different types -> returns false
+        assertFalse(friendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(friendsCommand.equals(null));
+
+        // different expression -> returns false
+        assertFalse(friendsCommand.equals(new QueryCommand(QueryExpression.not(FRIENDS))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCommand queryCommand = new QueryCommand(FRIENDS);
+        String expected = QueryCommand.class.getCanonicalName() + "{expression=" + FRIENDS + "}";
+        assertEquals(expected, queryCommand.toString());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class RunCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_resultOfEachCommandShown() throws Exception {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        RunCommand runCommand = new RunCommand(List.of("add AMY", "delete 1"),
+                List.of(new AddCommand(AMY), new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        String feedback = runCommand.execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith("Ran 2 commands in "));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_COMMAND_RESULT, 1, "add AMY",
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)))));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_COMMAND_RESULT, 2, "delete 1",
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(firstPerson)))));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(firstPerson);
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_commandFails_changesRolledBack() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getAddressBook().getPersonList().size() + 2);
+        RunCommand runCommand = new RunCommand(List.of("add AMY", "delete 1", "delete 99"),
+                List.of(new AddCommand(AMY), new DeleteCommand(INDEX_FIRST_PERSON),
+                        new DeleteCommand(outOfBoundIndex)));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 3, "delete 99",
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        model.commitAddressBook();
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new RunCommand(List.of("list"), List.of(new ListCommand())).isMutating());
+        assertTrue(new RunCommand(List.of("list", "clear"), List.of(new ListCommand(), new ClearCommand()))
+                .isMutating());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(List.of("list"), List.of(new ListCommand()));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same command texts -> returns true
+        assertTrue(runCommand.equals(new RunCommand(List.of("list"), List.of(new ListCommand()))));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different command texts -> returns false
+        assertFalse(runCommand.equals(new RunCommand(List.of("clear"), List.of(new ClearCommand()))));
+    }
+}
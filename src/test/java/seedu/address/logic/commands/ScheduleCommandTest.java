@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -19,7 +22,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableEntry;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -41,6 +46,11 @@ public class ScheduleCommandTest {
     private static final String OVERLAPPING_END_TIME = "15:30";
     private static final String OVERLAPPING_SUBJECT = "English";
 
+    // Every Saturday from the valid date for ten weeks
+    private static final LessonSeries VALID_SERIES = new LessonSeries(LocalTime.parse(VALID_START_TIME),
+            LocalTime.parse(VALID_END_TIME), LocalDate.parse(VALID_DATE), LocalDate.parse(VALID_DATE).plusWeeks(9), 1,
+            VALID_SUBJECT);
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
     @Test
@@ -110,6 +120,62 @@ public class ScheduleCommandTest {
         assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_addSeriesUnfilteredList_success() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person editedPerson = new PersonBuilder(firstPerson)
+                .withLessonList(firstPerson.getLessonList().addSeries(VALID_SERIES))
+                .build();
+
+        ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, VALID_SERIES);
+
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_ADD_SERIES_SUCCESS, 10,
+                format(editedPerson));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_duplicateSeries_failure() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(firstPerson, new PersonBuilder(firstPerson)
+                .withLessonList(firstPerson.getLessonList().addSeries(VALID_SERIES)).build());
+
+        assertCommandFailure(new ScheduleCommand(INDEX_FIRST_PERSON, VALID_SERIES), model,
+                ScheduleCommand.MESSAGE_DUPLICATE_SERIES);
+    }
+
+    @Test
+    public void execute_seriesOverlapsLesson_failure() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Lesson laterLesson = new Lesson(OVERLAPPING_START_TIME, OVERLAPPING_END_TIME,
+                LocalDate.parse(VALID_DATE).plusWeeks(5).toString(), OVERLAPPING_SUBJECT);
+        model.setPerson(firstPerson, new PersonBuilder(firstPerson).withLesson(laterLesson).build());
+
+        assertCommandFailure(new ScheduleCommand(INDEX_FIRST_PERSON, VALID_SERIES), model,
+                ScheduleCommand.MESSAGE_OVERLAPPING_LESSON);
+    }
+
+    @Test
+    public void execute_seriesClashesWithOtherStudent_globalClashCheckEnabledFailure() {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Lesson laterLesson = new Lesson(OVERLAPPING_START_TIME, OVERLAPPING_END_TIME,
+                LocalDate.parse(VALID_DATE).plusWeeks(5).toString(), OVERLAPPING_SUBJECT);
+        Person personWithLesson = new PersonBuilder(secondPerson).withLesson(laterLesson).build();
+        model.setPerson(secondPerson, personWithLesson);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setGlobalClashCheckEnabled(true);
+        model.setUserPrefs(userPrefs);
+
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_CLASHING_LESSON,
+                new TimetableEntry(personWithLesson, laterLesson).getDetails());
+        assertCommandFailure(new ScheduleCommand(INDEX_FIRST_PERSON, VALID_SERIES), model, expectedMessage);
+    }
+
     @Test
     public void execute_duplicateLesson_failure() {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
@@ -161,6 +227,40 @@ public class ScheduleCommandTest {
         assertCommandFailure(scheduleCommand, model, ScheduleCommand.MESSAGE_OVERLAPPING_LESSON);
     }
 
+    @Test
+    public void execute_lessonClashesWithOtherStudent_globalClashCheckEnabledFailure() {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Lesson existingLesson = new Lesson(VALID_START_TIME, VALID_END_TIME, VALID_DATE, VALID_SUBJECT);
+        Person personWithLesson = new PersonBuilder(secondPerson).withLesson(existingLesson).build();
+        model.setPerson(secondPerson, personWithLesson);
+
+        Lesson overlappingLesson =
+                new Lesson(OVERLAPPING_START_TIME, OVERLAPPING_END_TIME, VALID_DATE, OVERLAPPING_SUBJECT);
+        ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, overlappingLesson);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setGlobalClashCheckEnabled(true);
+        model.setUserPrefs(userPrefs);
+
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_CLASHING_LESSON,
+                new TimetableEntry(personWithLesson, existingLesson).getDetails());
+        assertCommandFailure(scheduleCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_lessonClashesWithOtherStudent_globalClashCheckDisabledSuccess() throws Exception {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Lesson existingLesson = new Lesson(VALID_START_TIME, VALID_END_TIME, VALID_DATE, VALID_SUBJECT);
+        model.setPerson(secondPerson, new PersonBuilder(secondPerson).withLesson(existingLesson).build());
+
+        Lesson overlappingLesson =
+                new Lesson(OVERLAPPING_START_TIME, OVERLAPPING_END_TIME, VALID_DATE, OVERLAPPING_SUBJECT);
+        new ScheduleCommand(INDEX_FIRST_PERSON, overlappingLesson).execute(model);
+
+        assertTrue(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())
+                .getLessonList().hasDuplicates(overlappingLesson));
+    }
+
     @Test
     public void execute_filteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -233,5 +333,10 @@ public class ScheduleCommandTest {
 
         // different lesson -> returns false
         assertFalse(standardCommand.equals(new ScheduleCommand(INDEX_FIRST_PERSON, secondLesson)));
+
+        // lesson series -> returns false
+        ScheduleCommand seriesCommand = new ScheduleCommand(INDEX_FIRST_PERSON, VALID_SERIES);
+        assertFalse(standardCommand.equals(seriesCommand));
+        assertTrue(seriesCommand.equals(new ScheduleCommand(INDEX_FIRST_PERSON, VALID_SERIES)));
     }
 }
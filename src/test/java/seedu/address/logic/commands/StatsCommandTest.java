@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandLatencyStats;
+import seedu.address.logic.CommandLatencyStats.Stage;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommandsTimed_showsNoCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(new CommandLatencyStats()), model,
+                CommandLatencyStats.MESSAGE_NO_COMMANDS, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsTimed_showsSummary() {
+        CommandLatencyStats stats = new CommandLatencyStats();
+        stats.record("list", Stage.EXECUTE, 1_000_000);
+        assertCommandSuccess(new StatsCommand(stats), model, stats.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new StatsCommand().isMutating());
+    }
+
+    @Test
+    public void equals() {
+        CommandLatencyStats stats = new CommandLatencyStats();
+        StatsCommand statsCommand = new StatsCommand(stats);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same stats -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(stats)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different type -> returns false
+        assertFalse(statsCommand.equals(new ListCommand()));
+
+        // different stats -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandLatencyStats())));
+    }
+}
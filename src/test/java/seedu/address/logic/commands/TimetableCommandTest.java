@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimetableEntry;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for TimetableCommand.
+ */
+public class TimetableCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 9, 28);
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noLessons_showsNoLessonsMessage() {
+        assertCommandSuccess(new TimetableCommand(MONDAY, SUNDAY), model,
+                String.format(TimetableCommand.MESSAGE_NO_LESSONS, MONDAY, SUNDAY), expectedModel);
+    }
+
+    @Test
+    public void execute_lessonsInRange_listsLessons() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Lesson lesson = new Lesson("10:00", "11:00", "2025-09-23", "Math");
+        Lesson lessonOutsideRange = new Lesson("10:00", "11:00", "2025-09-30", "Math");
+        Person editedPerson = new PersonBuilder(firstPerson).withLesson(lesson).withLesson(lessonOutsideRange).build();
+        model.setPerson(firstPerson, editedPerson);
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        String expectedMessage = String.format(TimetableCommand.MESSAGE_SUCCESS, 1, MONDAY, SUNDAY,
+                new TimetableEntry(editedPerson, lesson).getDetails());
+        assertCommandSuccess(new TimetableCommand(MONDAY, SUNDAY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        TimetableCommand weekCommand = new TimetableCommand(MONDAY, SUNDAY);
+
+        // same values -> returns true
+        assertEquals(weekCommand, new TimetableCommand(MONDAY, SUNDAY));
+
+        // same object -> returns true
+        assertEquals(weekCommand, weekCommand);
+
+        // different types -> returns false
+        assertNotEquals(weekCommand, 1);
+
+        // different range -> returns false
+        assertNotEquals(weekCommand, new TimetableCommand(MONDAY, MONDAY));
+    }
+}
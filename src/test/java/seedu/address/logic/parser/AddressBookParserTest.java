@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CloseCommand;
 import seedu.address.logic.commands.DeleteCommand;
@@ -28,13 +29,20 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.GradeStatsCommand;
+import seedu.address.logic.commands.GradebookCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkCommand;
 import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.commands.UnscheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -42,6 +50,8 @@ import seedu.address.model.person.Lesson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordPredicate;
 import seedu.address.model.person.Remark;
+import seedu.address.model.query.QueryCondition;
+import seedu.address.model.query.QueryExpression;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -105,6 +115,86 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_gradeStats() throws Exception {
+        assertEquals(new GradeStatsCommand(), parser.parseCommand(GradeStatsCommand.COMMAND_WORD));
+        assertEquals(new GradeStatsCommand("MATH"),
+                parser.parseCommand(GradeStatsCommand.COMMAND_WORD + " sub/MATH"));
+    }
+
+    @Test
+    public void parseCommand_gradebook() throws Exception {
+        assertEquals(new GradebookCommand("MATH", "WA1", GradebookCommand.View.MISSING),
+                parser.parseCommand(GradebookCommand.COMMAND_WORD + " sub/MATH/WA1 view/missing"));
+    }
+
+    @Test
+    public void parseCommand_attendance() throws Exception {
+        assertEquals(new AttendanceCommand(AttendanceCommand.View.SUBJECT),
+                parser.parseCommand(AttendanceCommand.COMMAND_WORD));
+        assertEquals(new AttendanceCommand(AttendanceCommand.View.WEEK),
+                parser.parseCommand(AttendanceCommand.COMMAND_WORD + " view/week"));
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCondition friends = new QueryCondition(QueryCondition.Field.TAG, QueryCondition.Operator.EQUALS,
+                "friends");
+        assertEquals(new QueryCommand(QueryExpression.not(friends)),
+                parser.parseCommand(QueryCommand.COMMAND_WORD + " NOT tag=friends"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseBatch_blankAndCommentLines_ignored() throws Exception {
+        String addCommand = PersonUtil.getAddCommand(new PersonBuilder().build());
+        RunCommand command = parser.parseBatch(
+                List.of("# new students", "", addCommand, "  ", ListCommand.COMMAND_WORD));
+        assertEquals(new RunCommand(List.of(addCommand.trim(), ListCommand.COMMAND_WORD),
+                List.of(parser.parseCommand(addCommand), new ListCommand())), command);
+    }
+
+    @Test
+    public void parseBatch_invalidLine_throwsParseException() {
+        assertThrows(ParseException.class, String.format(AddressBookParser.MESSAGE_BATCH_LINE_ERROR, 3,
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parseBatch(List.of(ListCommand.COMMAND_WORD, "",
+                "unknownCommand")));
+    }
+
+    @Test
+    public void parseBatch_undo_throwsParseException() {
+        assertThrows(ParseException.class, String.format(AddressBookParser.MESSAGE_BATCH_LINE_ERROR, 1,
+                String.format(AddressBookParser.MESSAGE_NOT_ALLOWED_IN_BATCH, UndoCommand.COMMAND_WORD)), ()
+                -> parser.parseBatch(List.of(UndoCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void parseBatch_exitOrHelp_throwsParseException() {
+        assertThrows(ParseException.class, String.format(AddressBookParser.MESSAGE_BATCH_LINE_ERROR, 2,
+                String.format(AddressBookParser.MESSAGE_NOT_ALLOWED_IN_BATCH, ExitCommand.COMMAND_WORD)), ()
+                -> parser.parseBatch(List.of(ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD)));
+        assertThrows(ParseException.class, String.format(AddressBookParser.MESSAGE_BATCH_LINE_ERROR, 1,
+                String.format(AddressBookParser.MESSAGE_NOT_ALLOWED_IN_BATCH, HelpCommand.COMMAND_WORD)), ()
+                -> parser.parseBatch(List.of(HelpCommand.COMMAND_WORD)));
+    }
+
     @Test
     public void parseCommand_remark() throws Exception {
         final String remark = "Some remark.";
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.AttendanceCommand.View;
+
+public class AttendanceCommandParserTest {
+
+    private final AttendanceCommandParser parser = new AttendanceCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAttendanceCommand() {
+        assertParseSuccess(parser, "", new AttendanceCommand(View.SUBJECT));
+        assertParseSuccess(parser, " view/subject", new AttendanceCommand(View.SUBJECT));
+        assertParseSuccess(parser, " view/ Week ", new AttendanceCommand(View.WEEK));
+        assertParseSuccess(parser, " view/student", new AttendanceCommand(View.STUDENT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " week",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " view/month", AttendanceCommandParser.MESSAGE_INVALID_VIEW);
+        assertParseFailure(parser, " view/week view/subject",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_VIEW));
+    }
+}
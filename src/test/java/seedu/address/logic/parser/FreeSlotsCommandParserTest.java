@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LENGTH;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.person.AttributeContainsPredicate;
+
+/**
+ * Contains unit tests for {@link FreeSlotsCommandParser}.
+ */
+public class FreeSlotsCommandParserTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+    private static final String INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+
+    private final FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_requiredFieldsOnly_defaultsUsed() {
+        assertParseSuccess(parser, " date/2025-09-22 len/90",
+                new FreeSlotsCommand(MONDAY, MONDAY, FreeSlotsCommand.DEFAULT_DAY_START,
+                        FreeSlotsCommand.DEFAULT_DAY_END, Duration.ofMinutes(90),
+                        new AttributeContainsPredicate(Map.of())));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " date/2025-09-22 date2/2025-09-26 len/45 start/09:30 end/18:00 "
+                        + "attr/subject=Math,Physics attr/level=sec3",
+                new FreeSlotsCommand(MONDAY, MONDAY.plusDays(4), LocalTime.of(9, 30), LocalTime.of(18, 0),
+                        Duration.ofMinutes(45), new AttributeContainsPredicate(Map.of(
+                                "subject", Set.of("math", "physics"), "level", Set.of("sec3")))));
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        assertParseFailure(parser, " len/90", INVALID_FORMAT);
+        assertParseFailure(parser, " date/2025-09-22", INVALID_FORMAT);
+        assertParseFailure(parser, "1 date/2025-09-22 len/90", INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " date/2025-09-22 len/0", FreeSlotsCommandParser.MESSAGE_INVALID_LENGTH);
+        assertParseFailure(parser, " date/2025-09-22 len/abc", FreeSlotsCommandParser.MESSAGE_INVALID_LENGTH);
+        assertParseFailure(parser, " date/2025-09-22 len/1441", FreeSlotsCommandParser.MESSAGE_INVALID_LENGTH);
+        assertParseFailure(parser, " date/2025-09-22 len/60 start/9am", ParserUtil.MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, " date/2025-09-22 len/60 start/18:00 end/09:00",
+                FreeSlotsCommandParser.MESSAGE_DAY_END_BEFORE_START);
+        assertParseFailure(parser, " date/2025-09-22 date2/2025-09-21 len/60",
+                TimetableCommandParser.MESSAGE_END_BEFORE_START);
+        assertParseFailure(parser, " date/2025-09-22 len/60 attr/subject",
+                "Incorrect format. Use key=value[,value2]...");
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " date/2025-09-22 len/60 len/30",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_LENGTH));
+    }
+}
@@ -37,6 +37,15 @@ public class GradeCommandParserTest {
                 new GradeCommand(INDEX_FIRST_PERSON, expectedGrades));
     }
 
+    @Test
+    public void parse_fractionalScore_returnsGradeCommand() {
+        Set<Grade> expectedGrades = new HashSet<>();
+        expectedGrades.add(new Grade("MATH", "WA1", "17/20"));
+
+        assertParseSuccess(parser, "1 sub/MATH/WA1/17/20",
+                new GradeCommand(INDEX_FIRST_PERSON, expectedGrades));
+    }
+
     @Test
     public void parse_invalidIndex_throwsParseException() {
         assertParseFailure(parser, "0 sub/MATH/WA1/89", MESSAGE_INVALID_INDEX);
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.GradeStatsCommand;
+
+public class GradeStatsCommandParserTest {
+
+    private final GradeStatsCommandParser parser = new GradeStatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsAllSubjectsCommand() {
+        assertParseSuccess(parser, "", new GradeStatsCommand());
+        assertParseSuccess(parser, "   ", new GradeStatsCommand());
+    }
+
+    @Test
+    public void parse_subject_returnsSubjectCommand() {
+        assertParseSuccess(parser, " sub/MATH", new GradeStatsCommand("MATH"));
+        assertParseSuccess(parser, " sub/  MATH  ", new GradeStatsCommand("MATH"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " MATH",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradeStatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " sub/", "Subject cannot be empty.");
+        assertParseFailure(parser, " sub/MATH sub/SCIENCE",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SUB));
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.GradebookCommand;
+import seedu.address.logic.commands.GradebookCommand.View;
+
+public class GradebookCommandParserTest {
+
+    private final GradebookCommandParser parser = new GradebookCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGradebookCommand() {
+        assertParseSuccess(parser, " sub/MATH/WA1", new GradebookCommand("MATH", "WA1", View.RANK));
+        assertParseSuccess(parser, " sub/ MATH / WA1 view/Histogram",
+                new GradebookCommand("MATH", "WA1", View.HISTOGRAM));
+        assertParseSuccess(parser, " view/missing sub/MATH/WA1", new GradebookCommand("MATH", "WA1", View.MISSING));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradebookCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, " view/rank", invalidFormat);
+        assertParseFailure(parser, " 1 sub/MATH/WA1", invalidFormat);
+
+        assertParseFailure(parser, " sub/MATH", "Use sub/SUBJECT/ASSESSMENT");
+        assertParseFailure(parser, " sub/MATH/WA1/89", "Use sub/SUBJECT/ASSESSMENT");
+        assertParseFailure(parser, " sub/MATH/ ", "Subject and assessment cannot be empty");
+        assertParseFailure(parser, " sub/MATH/WA1 view/average", GradebookCommandParser.MESSAGE_INVALID_VIEW);
+        assertParseFailure(parser, " sub/MATH/WA1 sub/MATH/WA2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SUB));
+    }
+}
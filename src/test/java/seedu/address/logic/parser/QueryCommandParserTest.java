@@ -0,0 +1,114 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.query.QueryCondition;
+import seedu.address.model.query.QueryCondition.Field;
+import seedu.address.model.query.QueryCondition.Operator;
+import seedu.address.model.query.QueryExpression;
+
+public class QueryCommandParserTest {
+
+    private static final QueryCondition NAME_ALEX = new QueryCondition(Field.NAME, Operator.CONTAINS, "alex");
+    private static final QueryCondition TAG_SEC4 = new QueryCondition(Field.TAG, Operator.EQUALS, "sec4");
+    private static final QueryCondition MATH_BELOW_50 =
+            new QueryCondition(Field.GRADE, "math", Operator.LESS_THAN, "50");
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_conditions_returnsQueryCommand() {
+        assertParseSuccess(parser, " name:alex", new QueryCommand(NAME_ALEX));
+        assertParseSuccess(parser, " address:\"clementi ave\"",
+                new QueryCommand(new QueryCondition(Field.ADDRESS, Operator.CONTAINS, "clementi ave")));
+        assertParseSuccess(parser, " TAG!=sec4",
+                new QueryCommand(new QueryCondition(Field.TAG, Operator.NOT_EQUALS, "sec4")));
+        assertParseSuccess(parser, " attr.Level=jc1,jc2",
+                new QueryCommand(new QueryCondition(Field.ATTRIBUTE, "Level", Operator.EQUALS, "jc1,jc2")));
+        assertParseSuccess(parser, " grade.math/midterm>=40/50",
+                new QueryCommand(new QueryCondition(Field.GRADE, "math/midterm", Operator.AT_LEAST, "40/50")));
+        assertParseSuccess(parser, " lesson<=2025-09-22",
+                new QueryCommand(new QueryCondition(Field.LESSON, Operator.AT_MOST, "2025-09-22")));
+        assertParseSuccess(parser, " lesson=2025-09-22..2025-09-28",
+                new QueryCommand(new QueryCondition(Field.LESSON, Operator.EQUALS, "2025-09-22..2025-09-28")));
+    }
+
+    @Test
+    public void parse_junctions_returnsQueryCommand() {
+        // adjacent conditions are joined by AND
+        QueryExpression allOf = QueryExpression.and(List.of(NAME_ALEX, TAG_SEC4, MATH_BELOW_50));
+        assertParseSuccess(parser, " name:alex tag=sec4 grade.math<50", new QueryCommand(allOf));
+        assertParseSuccess(parser, " name:alex AND tag=sec4 and grade.math<50", new QueryCommand(allOf));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        QueryExpression precedence = QueryExpression.or(List.of(
+                QueryExpression.and(List.of(QueryExpression.not(NAME_ALEX), TAG_SEC4)), MATH_BELOW_50));
+        assertParseSuccess(parser, " NOT name:alex tag=sec4 OR grade.math<50", new QueryCommand(precedence));
+
+        // parentheses group conditions
+        QueryExpression grouped = QueryExpression.and(List.of(NAME_ALEX,
+                QueryExpression.not(QueryExpression.or(List.of(TAG_SEC4, MATH_BELOW_50)))));
+        assertParseSuccess(parser, " name:alex not(tag=sec4 or (grade.math<50))", new QueryCommand(grouped));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " alex", String.format(QueryCommandParser.MESSAGE_MISSING_OPERATOR, "alex"));
+        assertParseFailure(parser, " age=16", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "age"));
+        assertParseFailure(parser, " attr=16",
+                String.format(QueryCommandParser.MESSAGE_MISSING_QUALIFIER, Field.ATTRIBUTE.getKeyword()));
+        assertParseFailure(parser, " grade.math/>50",
+                String.format(QueryCommandParser.MESSAGE_MISSING_QUALIFIER, Field.GRADE.getKeyword()));
+        assertParseFailure(parser, " name<alex",
+                String.format(QueryCommandParser.MESSAGE_UNSUPPORTED_OPERATOR, "<", "name"));
+        assertParseFailure(parser, " lesson!=2025-09-22",
+                String.format(QueryCommandParser.MESSAGE_UNSUPPORTED_OPERATOR, "!=", "lesson"));
+        assertParseFailure(parser, " name:", String.format(QueryCommandParser.MESSAGE_MISSING_VALUE, "name:"));
+        assertParseFailure(parser, " grade.math>=A", QueryCommandParser.MESSAGE_INVALID_SCORE);
+        assertParseFailure(parser, " lesson=22-09-2025", ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+        assertParseFailure(parser, " lesson=2025-09-28..2025-09-22", QueryCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " address:\"clementi", QueryCommandParser.MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    @Test
+    public void parse_incompleteExpression_throwsParseException() {
+        assertParseFailure(parser, " name:alex AND",
+                String.format(QueryCommandParser.MESSAGE_MISSING_CONDITION, "AND"));
+        assertParseFailure(parser, " OR name:alex",
+                String.format(QueryCommandParser.MESSAGE_MISSING_CONDITION, "the start of the query"));
+        assertParseFailure(parser, " name:alex NOT",
+                String.format(QueryCommandParser.MESSAGE_MISSING_CONDITION, "NOT"));
+        assertParseFailure(parser, " ()", String.format(QueryCommandParser.MESSAGE_MISSING_CONDITION, "("));
+        assertParseFailure(parser, " (name:alex", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, " name:alex)", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    @Test
+    public void parse_deeplyNestedExpression_throwsParseException() {
+        String tooDeep = String.format(QueryCommandParser.MESSAGE_TOO_DEEPLY_NESTED,
+                QueryCommandParser.MAX_NESTING_DEPTH);
+        int depth = QueryCommandParser.MAX_NESTING_DEPTH;
+
+        // at the limit
+        QueryExpression negated = NAME_ALEX;
+        for (int i = 0; i < depth; i++) {
+            negated = QueryExpression.not(negated);
+        }
+        assertParseSuccess(parser, " " + "NOT ".repeat(depth) + "name:alex", new QueryCommand(negated));
+        assertParseSuccess(parser, " " + "(".repeat(depth) + "name:alex" + ")".repeat(depth),
+                new QueryCommand(NAME_ALEX));
+
+        // beyond the limit, including far beyond where the stack would overflow
+        assertParseFailure(parser, " " + "NOT ".repeat(depth + 1) + "name:alex", tooDeep);
+        assertParseFailure(parser, " " + "(".repeat(depth + 1) + "name:alex" + ")".repeat(depth + 1), tooDeep);
+        assertParseFailure(parser, " " + "NOT (".repeat(100_000) + "name:alex", tooDeep);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validScript_success() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of("# start over", "clear", "", "list"));
+
+        RunCommand expectedCommand = new RunCommand(List.of("clear", "list"),
+                List.of(new ClearCommand(), new ListCommand()));
+        assertParseSuccess(parser, " " + scriptPath, expectedCommand);
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(RunCommandParser.MESSAGE_CANNOT_READ_FILE, scriptPath));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of("list", "lsit"));
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(AddressBookParser.MESSAGE_BATCH_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+}
@@ -18,11 +18,16 @@ import static seedu.address.logic.parser.ScheduleCommandParser.MESSAGE_INVALID_S
 import static seedu.address.logic.parser.ScheduleCommandParser.MESSAGE_INVALID_START_TIME_VALUE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonSeries;
 
 /**
  * Contains unit tests for {@link ScheduleCommandParser}.
@@ -51,6 +56,38 @@ public class ScheduleCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_repeatingLesson_success() {
+        String userInput = INDEX_FIRST_PERSON.getOneBased() + VALID_ARGUMENTS
+                + " repeat/biweekly until/2025-12-31 skip/2025-11-03 skip/2025-11-17";
+        LessonSeries series = new LessonSeries(LocalTime.of(10, 0), LocalTime.of(12, 0), LocalDate.of(2025, 10, 20),
+                LocalDate.of(2025, 12, 31), 2, "Mathematics",
+                List.of(LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 17)), List.of());
+        assertParseSuccess(parser, userInput, new ScheduleCommand(INDEX_FIRST_PERSON, series));
+    }
+
+    @Test
+    public void parse_repeatingLessonInvalidValues_failure() {
+        String prefix = INDEX_FIRST_PERSON.getOneBased() + VALID_ARGUMENTS;
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, prefix + " repeat/daily until/2025-12-31",
+                ScheduleCommandParser.MESSAGE_INVALID_REPEAT);
+        assertParseFailure(parser, prefix + " repeat/weekly until/2025-10-19",
+                ScheduleCommandParser.MESSAGE_UNTIL_BEFORE_DATE);
+        assertParseFailure(parser, prefix + " repeat/weekly until/9999-12-31",
+                ScheduleCommandParser.MESSAGE_SERIES_TOO_LONG);
+        assertParseFailure(parser, prefix + " repeat/weekly until/2025-12-31 skip/2025-10-21",
+                String.format(ScheduleCommandParser.MESSAGE_SKIP_NOT_LESSON_DATE, "2025-10-21"));
+        assertParseFailure(parser, prefix + " repeat/weekly until/2025-12-31 date2/2025-10-21",
+                ScheduleCommandParser.MESSAGE_REPEATING_LESSON_END_DATE);
+
+        // repeat/ without until/, and until/ or skip/ without repeat/
+        assertParseFailure(parser, prefix + " repeat/weekly", invalidFormat);
+        assertParseFailure(parser, prefix + " until/2025-12-31", invalidFormat);
+        assertParseFailure(parser, prefix + " skip/2025-10-27", invalidFormat);
+    }
+
     @Test
     public void parse_missingIndex_failure() {
         assertParseFailure(parser, VALID_ARGUMENTS,
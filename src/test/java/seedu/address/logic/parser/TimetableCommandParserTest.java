@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.TimetableCommand;
+
+/**
+ * Contains unit tests for {@link TimetableCommandParser}.
+ */
+public class TimetableCommandParserTest {
+
+    private final TimetableCommandParser parser = new TimetableCommandParser();
+
+    @Test
+    public void parse_singleDate_returnsTimetableCommandForThatDay() {
+        LocalDate day = LocalDate.of(2025, 9, 23);
+        assertParseSuccess(parser, " date/2025-09-23", new TimetableCommand(day, day));
+    }
+
+    @Test
+    public void parse_dateRange_returnsTimetableCommand() {
+        assertParseSuccess(parser, " date/2025-09-22 date2/2025-09-28",
+                new TimetableCommand(LocalDate.of(2025, 9, 22), LocalDate.of(2025, 9, 28)));
+    }
+
+    @Test
+    public void parse_missingDate_failure() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, TimetableCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " date2/2025-09-28",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, TimetableCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseFailure(parser, "1 date/2025-09-23",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, TimetableCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_failure() {
+        assertParseFailure(parser, " date/23-09-2025", ScheduleCommandParser.MESSAGE_INVALID_DATE_FORMAT);
+        assertParseFailure(parser, " date/2025-02-30", ScheduleCommandParser.MESSAGE_INVALID_DATE_VALUE);
+    }
+
+    @Test
+    public void parse_endBeforeStart_failure() {
+        assertParseFailure(parser, " date/2025-09-23 date2/2025-09-22",
+                TimetableCommandParser.MESSAGE_END_BEFORE_START);
+    }
+
+    @Test
+    public void parse_duplicateDatePrefix_failure() {
+        assertParseFailure(parser, " date/2025-09-23 date/2025-09-24",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DATE));
+    }
+}
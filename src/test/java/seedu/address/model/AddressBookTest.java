@@ -7,6 +7,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +87,20 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getIndexedPredicate_changesBeforeAndAfterFirstQuery_matchesCurrentPersons() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        PersonContainsKeywordPredicate predicate = new PersonContainsKeywordPredicate(List.of("meier"));
+
+        typicalAddressBook.addPerson(HOON);
+        assertEquals(List.of(BENSON, DANIEL, HOON),
+                typicalAddressBook.getPersonList().filtered(typicalAddressBook.getIndexedPredicate(predicate)));
+
+        typicalAddressBook.removePerson(BENSON);
+        assertEquals(List.of(DANIEL, HOON),
+                typicalAddressBook.getPersonList().filtered(typicalAddressBook.getIndexedPredicate(predicate)));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
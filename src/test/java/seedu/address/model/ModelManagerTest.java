@@ -7,24 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Unit tests for {@link ModelManager}.
@@ -124,6 +129,20 @@ public class ModelManagerTest {
         assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
     }
 
+    @Test
+    public void refineFilteredPersonList_narrowsCurrentList() {
+        Predicate<Person> meier = new PersonContainsKeywordPredicate(Collections.singletonList("Meier"));
+        modelManager.updateFilteredPersonList(meier);
+        modelManager.refineFilteredPersonList(meier.and(
+                new PersonContainsKeywordPredicate(Collections.singletonList("dan"))));
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredPersonList());
+
+        // persons edited afterwards are tested against the refinement
+        Person editedBenson = new PersonBuilder(BENSON).withName("Dan Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void updateFilteredPersonList_emailOrPhonePartialMatch_returnsExpectedPersons() {
         // "example" should match everyone with an email containing "example"
@@ -181,6 +200,90 @@ public class ModelManagerTest {
         assertTrue(modelManager.getFilteredPersonList().isEmpty());
     }
 
+    @Test
+    public void undoRedoAddressBook_mixedChanges_restoresEachState() {
+        AddressBook originalState = new AddressBook(modelManager.getAddressBook());
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+
+        modelManager.deletePerson(ALICE);
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.commitAddressBook();
+        AddressBook editedState = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.addPerson(HOON);
+        modelManager.commitAddressBook();
+        AddressBook replacedState = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(editedState, modelManager.getAddressBook());
+        modelManager.undoAddressBook();
+        assertEquals(originalState, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(editedState, modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        assertEquals(replacedState, modelManager.getAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void rollbackAddressBook_uncommittedChanges_restoresCommittedState() {
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        AddressBook committedState = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        modelManager.addPerson(HOON);
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.rollbackAddressBook();
+        assertEquals(committedState, modelManager.getAddressBook());
+
+        // rolled back changes are not part of the history
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_noChanges_nothingToUndo() {
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_changeAfterUndo_nothingToRedo() {
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.addPerson(HOON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_moreStepsThanUndoHistoryDepth_oldestStepsForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(2);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(CARL);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasPerson(BENSON));
+    }
+
     // ===========================================================
     // equals()
     // ===========================================================
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+
+    // Three Mondays of math, the first of them attended
+    private final LessonSeries mathSeries = new LessonSeries(LocalTime.of(10, 0), LocalTime.of(11, 0), MONDAY,
+            MONDAY.plusWeeks(2), 1, "Math").withAttendance(MONDAY, true);
+    private final Person alice = new PersonBuilder(ALICE).withLessonList(new LessonList(new ArrayList<>(List.of(
+            new Lesson("14:00", "15:00", "2025-09-24", "Science", true))), List.of(mathSeries))).build();
+    private final Person benson = new PersonBuilder(BENSON)
+            .withLesson(new Lesson("09:00", "10:00", "2025-09-28", "Math", true))
+            .withLesson(new Lesson("09:00", "10:00", "2025-09-29", "Science")).build();
+
+    private AttendanceIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new AttendanceIndex();
+        index.setPersons(List.of(alice, benson));
+    }
+
+    @Test
+    public void getSubjectAttendance() {
+        Map<String, AttendanceCount> attendance = index.getSubjectAttendance();
+        assertEquals(List.of("Math", "Science"), List.copyOf(attendance.keySet()));
+        assertEquals(new AttendanceCount(2, 4), attendance.get("Math"));
+        assertEquals(new AttendanceCount(1, 2), attendance.get("Science"));
+    }
+
+    @Test
+    public void getWeeklyAttendance() {
+        Map<LocalDate, AttendanceCount> attendance = index.getWeeklyAttendance();
+        assertEquals(List.of(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2)), List.copyOf(attendance.keySet()));
+        // Sunday 28 September belongs to the week starting on 22 September
+        assertEquals(new AttendanceCount(3, 3), attendance.get(MONDAY));
+        assertEquals(new AttendanceCount(0, 2), attendance.get(MONDAY.plusWeeks(1)));
+        assertEquals(new AttendanceCount(0, 1), attendance.get(MONDAY.plusWeeks(2)));
+    }
+
+    @Test
+    public void removeAndAdd_markedLesson_countersUpdated() {
+        Person markedBenson = new PersonBuilder(benson).withLessonList(benson.getLessonList()
+                .set(1, new Lesson("09:00", "10:00", "2025-09-29", "Science", true))).build();
+        index.remove(benson);
+        index.add(markedBenson);
+
+        assertEquals(new AttendanceCount(2, 2), index.getSubjectAttendance().get("Science"));
+        assertEquals(new AttendanceCount(1, 2), index.getWeeklyAttendance().get(MONDAY.plusWeeks(1)));
+    }
+
+    @Test
+    public void replace_changedSeries_sameAsIndexingAgain() {
+        LessonList lessons = alice.getLessonList();
+        LessonSeries biweekly = new LessonSeries(LocalTime.of(16, 0), LocalTime.of(17, 0), MONDAY, MONDAY.plusWeeks(4),
+                2, "Art");
+        List<LessonList> editedLessons = List.of(
+                // marking and unmarking lessons of the series
+                lessons.set(0, new Lesson(LocalTime.of(10, 0), LocalTime.of(11, 0), MONDAY, "Math", false)),
+                lessons.set(2, new Lesson(LocalTime.of(10, 0), LocalTime.of(11, 0), MONDAY.plusWeeks(1), "Math",
+                        true)),
+                // unscheduling a lesson of the series, and moving one out of it
+                lessons.remove(lessons.get(0)),
+                lessons.set(3, new Lesson("12:00", "13:00", "2025-09-30", "Math", false)),
+                // adding a series and a one-off lesson
+                lessons.addSeries(biweekly),
+                lessons.add(new Lesson("09:00", "10:00", "2025-10-01", "Science", true)));
+
+        for (LessonList edited : editedLessons) {
+            Person editedAlice = new PersonBuilder(alice).withLessonList(edited).build();
+            AttendanceIndex replaced = new AttendanceIndex();
+            replaced.setPersons(List.of(alice, benson));
+            replaced.replace(alice, editedAlice);
+
+            AttendanceIndex expected = new AttendanceIndex();
+            expected.setPersons(List.of(editedAlice, benson));
+            assertEquals(expected.getSubjectAttendance(), replaced.getSubjectAttendance());
+            assertEquals(expected.getWeeklyAttendance(), replaced.getWeeklyAttendance());
+        }
+    }
+
+    @Test
+    public void remove_allLessons_bucketsRemoved() {
+        index.remove(alice);
+        assertEquals(List.of("Math", "Science"), List.copyOf(index.getSubjectAttendance().keySet()));
+        assertEquals(List.of(MONDAY, MONDAY.plusWeeks(1)), List.copyOf(index.getWeeklyAttendance().keySet()));
+
+        index.remove(benson);
+        assertTrue(index.getSubjectAttendance().isEmpty());
+        assertTrue(index.getWeeklyAttendance().isEmpty());
+    }
+
+    @Test
+    public void getWeekStart() {
+        assertEquals(MONDAY, AttendanceIndex.getWeekStart(MONDAY));
+        assertEquals(MONDAY, AttendanceIndex.getWeekStart(MONDAY.plusDays(6)));
+        assertEquals(MONDAY.plusWeeks(1), AttendanceIndex.getWeekStart(MONDAY.plusDays(7)));
+    }
+}
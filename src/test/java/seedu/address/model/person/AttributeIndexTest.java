@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeIndexTest {
+
+    private static final Person MATH_SEC3 = new PersonBuilder().withName("Math Sec Three")
+            .withAttributes(new Attribute("subject", Arrays.asList("math", "physics")), new Attribute("level", "sec3"))
+            .build();
+    private static final Person SCIENCE_SEC3 = new PersonBuilder().withName("Science Sec Three")
+            .withAttributes(new Attribute("subject", "science"), new Attribute("level", "sec3")).build();
+    private static final Person MATH_SEC4 = new PersonBuilder().withName("Math Sec Four")
+            .withAttributes(new Attribute("subject", "math"), new Attribute("level", "sec4")).build();
+    private static final Person NO_ATTRIBUTES = new PersonBuilder().withName("No Attributes").build();
+    private static final List<Person> PERSONS = Arrays.asList(MATH_SEC3, SCIENCE_SEC3, MATH_SEC4, NO_ATTRIBUTES);
+
+    private final AttributeIndex index = new AttributeIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(PERSONS);
+    }
+
+    @Test
+    public void findMatches_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findMatches(null));
+    }
+
+    @Test
+    public void findMatches_sameResultsAsPredicate() {
+        List<Map<String, Set<String>>> filterList = Arrays.asList(
+                Map.of(),
+                Map.of("subject", Set.of("math")),
+                Map.of("subject", Set.of("MATH ")),
+                Map.of("subject", Set.of("math", "science")),
+                Map.of("subject", Set.of("math", "science"), "level", Set.of("sec3")),
+                Map.of("subject", Set.of("physics"), "level", Set.of("sec4")),
+                Map.of("age", Set.of("19")));
+
+        for (Map<String, Set<String>> filters : filterList) {
+            AttributeContainsPredicate predicate = new AttributeContainsPredicate(filters);
+            Set<Person> matches = index.findMatches(filters);
+            for (Person person : PERSONS) {
+                assertEquals(predicate.test(person), matches.contains(person), filters + " " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void remove_person_noLongerMatched() {
+        index.remove(MATH_SEC4);
+        assertEquals(Set.of(MATH_SEC3), index.findMatches(Map.of("subject", Set.of("math"))));
+    }
+
+    @Test
+    public void toIndexedPredicate_personIndexedAfterSnapshot_testedDirectly() {
+        Map<String, Set<String>> filters = new HashMap<>();
+        filters.put("level", Set.of("sec3"));
+        Predicate<Person> indexedPredicate = index.toIndexedPredicate(new AttributeContainsPredicate(filters));
+
+        Person promoted = new PersonBuilder(MATH_SEC4).withAttributes(new Attribute("level", "sec3")).build();
+        index.remove(MATH_SEC4);
+        index.add(promoted);
+
+        assertTrue(indexedPredicate.test(MATH_SEC3));
+        assertTrue(indexedPredicate.test(promoted));
+        assertFalse(indexedPredicate.test(NO_ATTRIBUTES));
+    }
+}
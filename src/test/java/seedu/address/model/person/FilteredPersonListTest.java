@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(
+            ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE);
+    private final List<Person> tested = new ArrayList<>();
+    private FilteredPersonList filteredList;
+
+    @BeforeEach
+    public void setUp() {
+        filteredList = new FilteredPersonList(source, counting(person -> true));
+        tested.clear();
+    }
+
+    @Test
+    public void setPredicate_newPredicate_filtersSource() {
+        filteredList.setPredicate(counting(nameContains("e")));
+        assertEquals(List.of(ALICE, BENSON, DANIEL, ELLE, GEORGE), filteredList);
+        assertEquals(source.size(), tested.size());
+
+        filteredList.setPredicate(counting(nameContains("k")));
+        assertEquals(List.of(CARL, FIONA), filteredList);
+        assertEquals(0, filteredList.getViewIndex(2));
+        assertEquals(-1, filteredList.getViewIndex(0));
+        assertEquals(5, filteredList.getSourceIndex(1));
+    }
+
+    @Test
+    public void setPredicate_samePredicate_noChange() {
+        Predicate<Person> predicate = counting(nameContains("e"));
+        filteredList.setPredicate(predicate);
+        tested.clear();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Person>) changes::add);
+
+        filteredList.setPredicate(predicate);
+        assertTrue(tested.isEmpty());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setPredicate_listeners_notifiedOfIndividualChanges() {
+        filteredList.setPredicate(nameContains("e"));
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        filteredList.setPredicate(nameContains("l"));
+        // Alice, Daniel and Elle stay in view
+        assertEquals(List.of(ALICE, CARL, DANIEL, ELLE), filteredList);
+        assertEquals(List.of(BENSON, GEORGE), removed);
+        assertEquals(List.of(CARL), added);
+    }
+
+    @Test
+    public void refinePredicate_onlyViewTested() {
+        filteredList.setPredicate(nameContains("e"));
+        Predicate<Person> refinement = counting(nameContains("e").and(nameContains("a")));
+        filteredList.refinePredicate(refinement);
+        assertEquals(List.of(ALICE, DANIEL), filteredList);
+        assertEquals(List.of(ALICE, BENSON, DANIEL, ELLE, GEORGE), tested);
+        assertSame(refinement, filteredList.getPredicate());
+
+        // persons added later are tested against the refinement
+        source.add(HOON);
+        source.add(new PersonBuilder().withName("Ida Mueller").build());
+        source.add(new PersonBuilder().withName("Ida Kim").build());
+        assertEquals(List.of("Alice Paul", "Daniel Meier", "Ida Mueller"), names(filteredList));
+    }
+
+    @Test
+    public void sourceChanged_onlyChangedPersonsTested() {
+        filteredList.setPredicate(counting(nameContains("e")));
+        tested.clear();
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Keller").build();
+        source.set(2, editedCarl);
+        source.remove(BENSON);
+        source.add(0, HOON);
+        source.add(FIONA);
+        assertEquals(List.of(editedCarl, HOON, FIONA), tested);
+        assertEquals(List.of(HOON, ALICE, editedCarl, DANIEL, ELLE, GEORGE), filteredList);
+
+        source.removeAll(ALICE, ELLE);
+        assertEquals(List.of(HOON, editedCarl, DANIEL, GEORGE), filteredList);
+        assertEquals(3, tested.size());
+    }
+
+    @Test
+    public void sourceChanged_setAll_refiltered() {
+        filteredList.setPredicate(nameContains("e"));
+        source.setAll(CARL, HOON, FIONA, DANIEL);
+        assertEquals(List.of(HOON, DANIEL), filteredList);
+
+        source.clear();
+        assertTrue(filteredList.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_permutation_followsSourceOrder() {
+        filteredList.setPredicate(nameContains("e"));
+        FXCollections.sort(source, Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        assertEquals(List.of(GEORGE, ELLE, DANIEL, BENSON, ALICE), filteredList);
+    }
+
+    @Test
+    public void sourceChanged_growBeyondCapacity_allShown() {
+        filteredList.setPredicate(nameContains("zz"));
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            persons.add(new PersonBuilder().withName("Buzz " + (char) ('A' + i)).build());
+        }
+        source.addAll(3, persons);
+        assertEquals(persons, filteredList);
+    }
+
+    private Predicate<Person> counting(Predicate<Person> predicate) {
+        return person -> {
+            tested.add(person);
+            return predicate.test(person);
+        };
+    }
+
+    private static Predicate<Person> nameContains(String text) {
+        return person -> person.getName().fullName.toLowerCase().contains(text);
+    }
+
+    private static List<String> names(List<Person> persons) {
+        List<String> names = new ArrayList<>();
+        persons.forEach(person -> names.add(person.getName().fullName));
+        return names;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FreeSlotFinderTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+    private final FreeSlotFinder finder =
+            new FreeSlotFinder(LocalTime.of(8, 0), LocalTime.of(22, 0), Duration.ofMinutes(60));
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FreeSlotFinder(LocalTime.of(22, 0), LocalTime.of(8, 0), Duration.ofMinutes(60)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FreeSlotFinder(LocalTime.of(8, 0), LocalTime.of(22, 0), Duration.ZERO));
+    }
+
+    @Test
+    public void findFreeSlots_noLessons_wholeDays() {
+        assertEquals(List.of(slot(MONDAY, "08:00", MONDAY, "22:00"), slot(TUESDAY, "08:00", TUESDAY, "22:00")),
+                finder.findFreeSlots(List.of(), MONDAY, TUESDAY));
+    }
+
+    @Test
+    public void findFreeSlots_overlappingAndShortGaps_mergedAndSkipped() {
+        List<Lesson> lessons = List.of(
+                new Lesson("09:00", "11:00", "2025-09-22", "Math"),
+                new Lesson("10:00", "12:00", "2025-09-22", "Science"),
+                new Lesson("12:30", "14:00", "2025-09-22", "English"),
+                new Lesson("13:00", "13:30", "2025-09-22", "Art"),
+                new Lesson("21:30", "23:00", "2025-09-22", "Music"));
+
+        // 08:00-09:00 is exactly long enough; 12:00-12:30 is too short
+        assertEquals(List.of(slot(MONDAY, "08:00", MONDAY, "09:00"), slot(MONDAY, "14:00", MONDAY, "21:30")),
+                finder.findFreeSlots(lessons, MONDAY, MONDAY));
+    }
+
+    @Test
+    public void findFreeSlots_multiDayLesson_blocksFollowingDay() {
+        List<Lesson> lessons = List.of(
+                new Lesson("20:00", "10:00", "2025-09-21", "2025-09-22", "Camp", false),
+                new Lesson("18:00", "09:30", "2025-09-22", "2025-09-23", "Camp", false));
+
+        assertEquals(List.of(slot(MONDAY, "10:00", MONDAY, "18:00"), slot(TUESDAY, "09:30", TUESDAY, "22:00")),
+                finder.findFreeSlots(lessons, MONDAY, TUESDAY));
+    }
+
+    @Test
+    public void findFreeSlots_randomLessons_matchesMinuteByMinuteCheck() {
+        Random random = new Random(19);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = MONDAY.atStartOfDay().plusMinutes(random.nextInt(7 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(180));
+            lessons.add(new Lesson(start.toLocalTime(), end.toLocalTime(), start.toLocalDate(), end.toLocalDate(),
+                    "Math", false));
+        }
+        Collections.sort(lessons);
+
+        List<FreeSlot> freeSlots = finder.findFreeSlots(lessons, MONDAY, MONDAY.plusDays(6));
+        for (FreeSlot freeSlot : freeSlots) {
+            assertTrue(freeSlot.getDuration().toMinutes() >= 60);
+            for (Lesson lesson : lessons) {
+                LocalDateTime lessonStart = lesson.getDate().atTime(lesson.getStart());
+                LocalDateTime lessonEnd = lesson.getEndDate().atTime(lesson.getEnd());
+                assertTrue(!lessonStart.isBefore(freeSlot.getEnd()) || !lessonEnd.isAfter(freeSlot.getStart()));
+            }
+        }
+
+        // every free minute inside a long enough gap is covered by some slot
+        int coveredMinutes = freeSlots.stream().mapToInt(slot -> (int) slot.getDuration().toMinutes()).sum();
+        int expectedMinutes = 0;
+        for (int day = 0; day < 7; day++) {
+            int run = 0;
+            for (int minute = 8 * 60; minute <= 22 * 60; minute++) {
+                LocalDateTime time = MONDAY.plusDays(day).atStartOfDay().plusMinutes(minute);
+                boolean isBusy = minute == 22 * 60 || lessons.stream().anyMatch(lesson ->
+                        !lesson.getDate().atTime(lesson.getStart()).isAfter(time)
+                                && lesson.getEndDate().atTime(lesson.getEnd()).isAfter(time));
+                if (isBusy) {
+                    expectedMinutes += run >= 60 ? run : 0;
+                    run = 0;
+                } else {
+                    run++;
+                }
+            }
+        }
+        assertEquals(expectedMinutes, coveredMinutes);
+    }
+
+    private static FreeSlot slot(LocalDate startDate, String startTime, LocalDate endDate, String endTime) {
+        return new FreeSlot(startDate.atTime(LocalTime.parse(startTime)), endDate.atTime(LocalTime.parse(endTime)));
+    }
+}
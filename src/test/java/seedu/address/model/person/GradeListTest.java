@@ -117,16 +117,17 @@ public class GradeListTest {
     }
 
     @Test
-    public void getGrades_returnsCopyOfGrades() {
+    public void getGrades_returnsUnmodifiableView() {
         GradeList gradeList = new GradeList();
         Grade grade = new Grade("MATH", "WA1", "89");
         GradeList updatedGradeList = gradeList.addGrade(grade);
 
         Map<String, Grade> grades = updatedGradeList.getGrades();
         assertEquals(1, grades.size());
+        assertEquals(grade, grades.get("MATH/WA1"));
 
-        // Modifying the returned map should not affect the original
-        grades.clear();
+        // The returned map cannot be used to modify the original
+        assertThrows(UnsupportedOperationException.class, grades::clear);
         assertEquals(1, updatedGradeList.size());
     }
 
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class GradeStatisticsIndexTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final Person alice = new PersonBuilder(ALICE)
+            .withGrades(new Grade("MATH", "WA1", "80"), new Grade("MATH", "WA2", "17/20"),
+                    new Grade("SCIENCE", "Quiz1", "A")).build();
+    private final Person benson = new PersonBuilder(BENSON)
+            .withGrades(new Grade("MATH", "WA1", "60%"), new Grade("SCIENCE", "Quiz1", "90")).build();
+    private final Person carl = new PersonBuilder(CARL).build();
+
+    private GradeStatisticsIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new GradeStatisticsIndex();
+        index.setPersons(List.of(alice, benson, carl));
+    }
+
+    @Test
+    public void getSubjectStatistics_numericScores_aggregated() {
+        Map<String, GradeStatistics> statistics = index.getSubjectStatistics();
+        assertEquals(List.of("MATH", "SCIENCE"), List.copyOf(statistics.keySet()));
+
+        // 80, 85 and 60
+        assertStatistics(statistics.get("MATH"), 3, 75, 60, 85, 350.0 / 3);
+        // the letter grade is left out
+        assertStatistics(statistics.get("SCIENCE"), 1, 90, 90, 90, 0);
+    }
+
+    @Test
+    public void getAssessmentStatistics() {
+        Map<String, GradeStatistics> statistics = index.getAssessmentStatistics("MATH");
+        assertEquals(List.of("WA1", "WA2"), List.copyOf(statistics.keySet()));
+        assertStatistics(statistics.get("WA1"), 2, 70, 60, 80, 100);
+        assertStatistics(statistics.get("WA2"), 1, 85, 85, 85, 0);
+
+        assertTrue(index.getAssessmentStatistics("ART").isEmpty());
+    }
+
+    @Test
+    public void remove_updatesAggregates() {
+        index.remove(alice);
+        assertStatistics(index.getSubjectStatistics().get("MATH"), 1, 60, 60, 60, 0);
+        assertEquals(List.of("WA1"), List.copyOf(index.getAssessmentStatistics("MATH").keySet()));
+
+        index.remove(benson);
+        assertTrue(index.getSubjectStatistics().isEmpty());
+        assertTrue(index.getAssessmentStatistics("MATH").isEmpty());
+    }
+
+    @Test
+    public void remove_extremeScore_nextExtremeUsed() {
+        Person editedBenson = new PersonBuilder(benson).withGrades(new Grade("MATH", "WA1", "95")).build();
+        index.remove(benson);
+        index.add(editedBenson);
+        assertStatistics(index.getSubjectStatistics().get("MATH"), 3, 260.0 / 3, 80, 95, 350.0 / 9);
+
+        index.remove(editedBenson);
+        assertStatistics(index.getSubjectStatistics().get("MATH"), 2, 82.5, 80, 85, 6.25);
+    }
+
+    @Test
+    public void setPersons_replacesAggregates() {
+        index.setPersons(List.of(benson));
+        assertStatistics(index.getSubjectStatistics().get("MATH"), 1, 60, 60, 60, 0);
+    }
+
+    private static void assertStatistics(GradeStatistics statistics, int count, double mean, double min, double max,
+            double variance) {
+        assertEquals(count, statistics.getCount());
+        assertEquals(mean, statistics.getMean(), DELTA);
+        assertEquals(min, statistics.getMin(), DELTA);
+        assertEquals(max, statistics.getMax(), DELTA);
+        assertEquals(variance, statistics.getVariance(), DELTA);
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.OptionalDouble;
+
 import org.junit.jupiter.api.Test;
 
 public class GradeTest {
@@ -94,6 +96,35 @@ public class GradeTest {
         assertTrue(Grade.isValidScore("95.5"));
     }
 
+    @Test
+    public void parseNumericScore() {
+        // plain numbers
+        assertEquals(OptionalDouble.of(89), Grade.parseNumericScore("89"));
+        assertEquals(OptionalDouble.of(95.5), Grade.parseNumericScore(" 95.5 "));
+
+        // percentages
+        assertEquals(OptionalDouble.of(85), Grade.parseNumericScore("85%"));
+        assertEquals(OptionalDouble.of(72.5), Grade.parseNumericScore("72.5 %"));
+
+        // fractions are converted to percentages
+        assertEquals(OptionalDouble.of(85), Grade.parseNumericScore("17/20"));
+        assertEquals(OptionalDouble.of(50), Grade.parseNumericScore("1.5 / 3"));
+
+        // not numeric
+        assertEquals(OptionalDouble.empty(), Grade.parseNumericScore("A"));
+        assertEquals(OptionalDouble.empty(), Grade.parseNumericScore("B+"));
+        assertEquals(OptionalDouble.empty(), Grade.parseNumericScore("-5"));
+        assertEquals(OptionalDouble.empty(), Grade.parseNumericScore("17/0"));
+        assertEquals(OptionalDouble.empty(), Grade.parseNumericScore("17/20/5"));
+        assertEquals(OptionalDouble.empty(), Grade.parseNumericScore("%"));
+    }
+
+    @Test
+    public void getNumericScore() {
+        assertEquals(OptionalDouble.of(75), new Grade("MATH", "WA1", "15/20").getNumericScore());
+        assertEquals(OptionalDouble.empty(), new Grade("MATH", "WA1", "A-").getNumericScore());
+    }
+
     @Test
     public void equals() {
         Grade grade = new Grade("MATH", "WA1", "89");
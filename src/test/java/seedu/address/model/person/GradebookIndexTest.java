@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class GradebookIndexTest {
+
+    private final Person alice = new PersonBuilder(ALICE)
+            .withGrades(new Grade("MATH", "WA1", "80"), new Grade("SCIENCE", "Quiz1", "A")).build();
+    private final Person benson = new PersonBuilder(BENSON)
+            .withGrades(new Grade("MATH", "WA1", "19/20"), new Grade("SCIENCE", "Quiz1", "45")).build();
+    private final Person carl = new PersonBuilder(CARL).withGrades(new Grade("MATH", "WA1", "80%")).build();
+    private final Person daniel = new PersonBuilder(DANIEL).build();
+
+    private GradebookIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new GradebookIndex();
+        index.setPersons(List.of(alice, benson, carl, daniel));
+    }
+
+    @Test
+    public void getRanking_highestFirstThenByName() {
+        assertEquals(List.of(new GradebookEntry(benson, 95), new GradebookEntry(alice, 80),
+                new GradebookEntry(carl, 80)), index.getRanking("MATH", "WA1"));
+
+        // non-numeric grades are left out
+        assertEquals(List.of(new GradebookEntry(benson, 45)), index.getRanking("SCIENCE", "Quiz1"));
+        assertTrue(index.getRanking("MATH", "WA2").isEmpty());
+    }
+
+    @Test
+    public void getHistogram() {
+        int[] expected = new int[GradebookIndex.HISTOGRAM_BUCKET_COUNT];
+        expected[8] = 2;
+        expected[9] = 1;
+        assertArrayEquals(expected, index.getHistogram("MATH", "WA1"));
+
+        // scores above the last bucket are counted in it
+        index.add(new PersonBuilder().withName("Eve").withGrades(new Grade("MATH", "WA1", "120")).build());
+        expected[9] = 2;
+        assertArrayEquals(expected, index.getHistogram("MATH", "WA1"));
+
+        assertArrayEquals(new int[GradebookIndex.HISTOGRAM_BUCKET_COUNT], index.getHistogram("ART", "Final"));
+    }
+
+    @Test
+    public void getMissing_orderedByName() {
+        assertEquals(List.of(daniel), index.getMissing("MATH", "WA1"));
+        // non-numeric grades count as graded
+        assertEquals(List.of(carl, daniel), index.getMissing("SCIENCE", "Quiz1"));
+        assertEquals(List.of(alice, benson, carl, daniel), index.getMissing("ART", "Final"));
+    }
+
+    @Test
+    public void removeAndAdd_gradeUpdated() {
+        Person gradedDaniel = new PersonBuilder(daniel).withGrades(new Grade("MATH", "WA1", "100")).build();
+        index.remove(daniel);
+        index.add(gradedDaniel);
+        assertEquals(new GradebookEntry(gradedDaniel, 100), index.getRanking("MATH", "WA1").get(0));
+        assertTrue(index.getMissing("MATH", "WA1").isEmpty());
+
+        index.remove(benson);
+        index.add(new PersonBuilder(BENSON).build());
+        assertEquals(3, index.getRanking("MATH", "WA1").size());
+        assertTrue(index.getRanking("SCIENCE", "Quiz1").isEmpty());
+        assertEquals(1, index.getMissing("MATH", "WA1").size());
+    }
+
+    @Test
+    public void add_manyPersons_ordinalsReused() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i)
+                    .withGrades(new Grade("MATH", "WA1", String.valueOf(i))).build());
+        }
+        index.setPersons(persons);
+        assertEquals(100, index.getRanking("MATH", "WA1").size());
+
+        persons.subList(0, 50).forEach(index::remove);
+        persons.subList(0, 50).forEach(index::add);
+        assertEquals(100, index.getRanking("MATH", "WA1").size());
+        assertEquals(new GradebookEntry(persons.get(99), 99), index.getRanking("MATH", "WA1").get(0));
+        assertTrue(index.getMissing("MATH", "WA1").isEmpty());
+    }
+}
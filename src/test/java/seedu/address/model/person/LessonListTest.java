@@ -2,11 +2,16 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +43,15 @@ public class LessonListTest {
         assertFalse(lessonList.hasDuplicates(lesson3));
     }
 
+    @Test
+    public void checkForDuplicates_sameTimeDifferentLesson_returnsFalse() {
+        Lesson sameTimeAsLesson1 = new Lesson("10:00", "11:00", "2023-01-01", "Art", false);
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson2, sameTimeAsLesson1, lesson3)));
+
+        assertFalse(lessonList.hasDuplicates(lesson1));
+        assertTrue(lessonList.add(lesson1).hasDuplicates(lesson1));
+    }
+
     @Test
     public void hasOverlappingLesson_overlapOnSameDate_returnsTrue() {
         LessonList lessonList = new LessonList().add(lesson1);
@@ -56,6 +70,20 @@ public class LessonListTest {
         assertTrue(lessonList.hasOverlappingLesson(morningLesson));
     }
 
+    @Test
+    public void hasOverlappingLesson_longEarlierLessonStillRunning_returnsTrue() {
+        // The multi-day lesson starts before lesson2 but is the only one still running on the next morning
+        Lesson multiDayLesson = new Lesson("08:00", "08:30", "2023-01-01", "2023-01-02", "Camp", false);
+        LessonList lessonList = new LessonList().add(multiDayLesson).add(lesson2);
+        assertTrue(lessonList.hasOverlappingLesson(morningLesson));
+        assertFalse(lessonList.hasOverlappingLesson(lesson3));
+    }
+
+    @Test
+    public void hasOverlappingLesson_emptyList_returnsFalse() {
+        assertFalse(new LessonList().hasOverlappingLesson(lesson1));
+    }
+
     @Test
     public void constructor_fromArrayList_sortsLessons() {
         ArrayList<Lesson> unsortedList = new ArrayList<>(Arrays.asList(lesson2, lesson3, lesson1));
@@ -98,18 +126,160 @@ public class LessonListTest {
     }
 
     @Test
-    public void getLessons_returnsDefensiveCopy() {
+    public void getLessons_returnsUnmodifiableView() {
         LessonList lessonList = new LessonList().add(lesson1);
-        ArrayList<Lesson> lessonsCopy = lessonList.getLessons();
-
-        // Modify the copy
-        lessonsCopy.add(lesson2);
+        List<Lesson> lessons = lessonList.getLessons();
 
-        // Original lesson list should not be affected
-        assertNotEquals(lessonsCopy, lessonList.getLessons());
+        assertThrows(UnsupportedOperationException.class, () -> lessons.add(lesson2));
         assertEquals(1, lessonList.size());
     }
 
+    @Test
+    public void set_sameTime_replacedInPlace() {
+        Lesson attendedLesson1 = new Lesson("10:00", "11:00", "2023-01-01", "Math", true);
+        Lesson sameTimeAsLesson1 = new Lesson("10:00", "11:00", "2023-01-01", "Art", false);
+        LessonList lessonList = new LessonList().add(lesson1).add(sameTimeAsLesson1).add(lesson2);
+
+        LessonList updatedList = lessonList.set(0, attendedLesson1);
+
+        assertEquals(Arrays.asList(attendedLesson1, sameTimeAsLesson1, lesson2), updatedList.getLessons());
+        assertEquals(2, updatedList.getAttendedLessonCount());
+        assertEquals(Arrays.asList(lesson1, sameTimeAsLesson1, lesson2), lessonList.getLessons());
+    }
+
+    @Test
+    public void set_differentTime_movedInOrder() {
+        LessonList lessonList = new LessonList().add(lesson1).add(lesson2);
+        assertEquals(Arrays.asList(lesson2, lesson3), lessonList.set(0, lesson3).getLessons());
+    }
+
+    @Test
+    public void remove_lessonNotInList_returnsSameList() {
+        LessonList lessonList = new LessonList().add(lesson1);
+        assertEquals(lessonList, lessonList.remove(lesson2));
+    }
+
+    @Test
+    public void addAndRemove_manyLessons_matchesSortedList() {
+        Random random = new Random(42);
+        LocalDate firstDate = LocalDate.of(2023, 1, 1);
+        List<Lesson> expectedLessons = new ArrayList<>();
+        LessonList lessonList = new LessonList();
+        for (int i = 0; i < 500; i++) {
+            if (!expectedLessons.isEmpty() && random.nextInt(3) == 0) {
+                Lesson lessonToRemove = expectedLessons.get(random.nextInt(expectedLessons.size()));
+                expectedLessons.remove(lessonToRemove);
+                lessonList = lessonList.remove(lessonToRemove);
+            } else {
+                LocalTime start = LocalTime.of(random.nextInt(20), 0);
+                Lesson lesson = new Lesson(start, start.plusHours(1 + random.nextInt(3)),
+                        firstDate.plusDays(random.nextInt(30)), "Math", random.nextBoolean());
+                expectedLessons.add(lesson);
+                lessonList = lessonList.add(lesson);
+            }
+            Collections.sort(expectedLessons);
+
+            Lesson probe = new Lesson(LocalTime.of(random.nextInt(23), 0), LocalTime.of(23, 0),
+                    firstDate.plusDays(random.nextInt(30)), "Math");
+            boolean isOverlapExpected = expectedLessons.stream().anyMatch(probe::overlapsWith);
+            assertEquals(isOverlapExpected, lessonList.hasOverlappingLesson(probe));
+        }
+
+        assertEquals(expectedLessons, lessonList.getLessons());
+        assertEquals(expectedLessons.size(), lessonList.size());
+        assertEquals(expectedLessons.stream().filter(Lesson::isPresent).count(), lessonList.getAttendedLessonCount());
+        for (int i = 0; i < expectedLessons.size(); i++) {
+            assertEquals(expectedLessons.get(i), lessonList.get(i));
+        }
+    }
+
+    @Test
+    public void addSeries_mergedWithOneOffLessons() {
+        // Mondays 2 Jan to 23 Jan 2023, 09:00 to 10:00
+        LessonSeries series = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2023, 1, 2),
+                LocalDate.of(2023, 1, 23), 1, "Physics");
+        LessonList lessonList = new LessonList().add(lesson1).addSeries(series);
+
+        assertEquals(5, lessonList.size());
+        assertEquals(lesson1, lessonList.get(0));
+        assertEquals(new Lesson(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2023, 1, 2), "Physics"),
+                lessonList.get(1));
+        assertEquals(List.of(lesson1), lessonList.getOneOffLessons());
+        assertEquals(List.of(series), lessonList.getSeries());
+        assertTrue(lessonList.hasDuplicates(lessonList.get(2)));
+        assertTrue(lessonList.hasDuplicates(series));
+        assertTrue(lessonList.hasOverlappingLesson(
+                new Lesson("09:30", "10:30", "2023-01-09", "English", false)));
+        assertFalse(lessonList.hasOverlappingLesson(
+                new Lesson("09:30", "10:30", "2023-01-10", "English", false)));
+    }
+
+    @Test
+    public void get_withSeries_matchesExpandedLessons() {
+        LessonSeries weekly = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2023, 1, 2),
+                LocalDate.of(2023, 3, 27), 1, "Physics").withSkippedDate(LocalDate.of(2023, 1, 16));
+        LessonSeries biweekly = new LessonSeries(LocalTime.of(8, 0), LocalTime.of(9, 0), LocalDate.of(2023, 1, 2),
+                LocalDate.of(2023, 3, 27), 2, "Art");
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2, overnightLesson,
+                morningLesson))).addSeries(weekly).addSeries(biweekly);
+        // a new list with the same lessons, whose lessons are never expanded
+        LessonList expandedList = new LessonList(new ArrayList<>(lessonList.getOneOffLessons()),
+                lessonList.getSeries());
+
+        List<Lesson> expected = expandedList.getLessons();
+        assertEquals(expected.size(), lessonList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), lessonList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> lessonList.get(expected.size()));
+    }
+
+    @Test
+    public void hasOverlappingLesson_series() {
+        LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2, lesson3)));
+        LessonSeries overlapsLesson3 = new LessonSeries(LocalTime.of(9, 30), LocalTime.of(10, 30),
+                LocalDate.of(2022, 12, 26), LocalDate.of(2023, 3, 27), 1, "Art");
+        LessonSeries sameDayOtherTime = new LessonSeries(LocalTime.of(14, 0), LocalTime.of(15, 0),
+                LocalDate.of(2023, 1, 2), LocalDate.of(2023, 3, 27), 1, "Art");
+
+        assertTrue(lessonList.hasOverlappingLesson(overlapsLesson3));
+        assertFalse(lessonList.hasOverlappingLesson(sameDayOtherTime));
+        assertFalse(lessonList.hasOverlappingLesson(overlapsLesson3.withSkippedDate(LocalDate.of(2023, 1, 2))));
+
+        LessonList withSeries = new LessonList().addSeries(sameDayOtherTime);
+        assertTrue(withSeries.hasOverlappingLesson(new LessonSeries(LocalTime.of(14, 30), LocalTime.of(15, 30),
+                LocalDate.of(2023, 2, 6), LocalDate.of(2023, 6, 26), 2, "Math")));
+    }
+
+    @Test
+    public void setAndRemove_seriesLesson() {
+        LessonSeries series = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2023, 1, 2),
+                LocalDate.of(2023, 1, 23), 1, "Physics");
+        LessonList lessonList = new LessonList().addSeries(series);
+        Lesson second = lessonList.get(1);
+
+        // marking attendance is recorded in the series
+        LessonList marked = lessonList.set(1, new Lesson(second.getStart(), second.getEnd(), second.getDate(),
+                second.getSub(), true));
+        assertEquals(1, marked.getAttendedLessonCount());
+        assertTrue(marked.get(1).isPresent());
+        assertTrue(marked.getOneOffLessons().isEmpty());
+
+        // moving a lesson takes it out of the series
+        Lesson moved = new Lesson("11:00", "12:00", "2023-01-10", "Physics", false);
+        LessonList movedList = lessonList.set(1, moved);
+        assertEquals(4, movedList.size());
+        assertEquals(moved, movedList.get(1));
+        assertEquals(List.of(moved), movedList.getOneOffLessons());
+        assertEquals(List.of(series.withSkippedDate(LocalDate.of(2023, 1, 9))), movedList.getSeries());
+
+        // removing a lesson skips its date
+        LessonList removed = lessonList.remove(second);
+        assertEquals(3, removed.size());
+        assertFalse(removed.hasDuplicates(second));
+        assertEquals(4, lessonList.size());
+    }
+
     @Test
     public void equals() {
         LessonList lessonList = new LessonList(new ArrayList<>(Arrays.asList(lesson1, lesson2)));
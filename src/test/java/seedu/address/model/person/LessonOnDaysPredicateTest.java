@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class LessonOnDaysPredicateTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+
+    @Test
+    public void constructor_lastDayBeforeFirstDay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LessonOnDaysPredicate(MONDAY, MONDAY.minusDays(1)));
+    }
+
+    @Test
+    public void test_oneOffLessons() {
+        Person person = new PersonBuilder()
+                .withLesson(new Lesson("09:00", "10:00", "2025-09-22", "Math"))
+                .withLesson(new Lesson(LocalTime.of(23, 0), LocalTime.of(1, 0), MONDAY.plusDays(3),
+                        MONDAY.plusDays(4), "Camp", false)).build();
+
+        assertTrue(new LessonOnDaysPredicate(MONDAY, MONDAY).test(person));
+        assertFalse(new LessonOnDaysPredicate(MONDAY.plusDays(1), MONDAY.plusDays(2)).test(person));
+        // an overnight lesson takes place on both days
+        assertTrue(new LessonOnDaysPredicate(MONDAY.plusDays(4), MONDAY.plusDays(5)).test(person));
+        assertFalse(new LessonOnDaysPredicate(MONDAY.plusDays(5), MONDAY.plusDays(5)).test(person));
+        assertFalse(new LessonOnDaysPredicate(MONDAY, MONDAY).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void test_series() {
+        LessonSeries fortnightly = new LessonSeries(LocalTime.of(10, 0), LocalTime.of(11, 0), MONDAY,
+                MONDAY.plusWeeks(4), 2, "Math");
+        Person person = new PersonBuilder().withLessonList(new LessonList(new ArrayList<>(), List.of(fortnightly)))
+                .build();
+
+        assertTrue(new LessonOnDaysPredicate(MONDAY.plusDays(1), MONDAY.plusWeeks(2)).test(person));
+        assertFalse(new LessonOnDaysPredicate(MONDAY.plusDays(1), MONDAY.plusWeeks(2).minusDays(1)).test(person));
+        assertFalse(new LessonOnDaysPredicate(MONDAY.plusWeeks(4).plusDays(1), MONDAY.plusWeeks(6)).test(person));
+    }
+
+    @Test
+    public void equals() {
+        LessonOnDaysPredicate predicate = new LessonOnDaysPredicate(MONDAY, MONDAY.plusDays(6));
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new LessonOnDaysPredicate(MONDAY, MONDAY.plusDays(6))));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new LessonOnDaysPredicate(MONDAY, MONDAY)));
+        assertFalse(predicate.equals(new LessonOnDaysPredicate(MONDAY.minusDays(1), MONDAY.plusDays(6))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        LessonOnDaysPredicate predicate = new LessonOnDaysPredicate(MONDAY, MONDAY);
+        String expected = LessonOnDaysPredicate.class.getCanonicalName() + "{firstDay=" + MONDAY + ", lastDay="
+                + MONDAY + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
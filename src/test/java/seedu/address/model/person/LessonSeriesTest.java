@@ -0,0 +1,179 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LessonSeriesTest {
+
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+    private static final LocalTime ELEVEN = LocalTime.of(11, 0);
+    private static final LocalTime TWELVE = LocalTime.of(12, 0);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    // Every Monday from 6 Jan to 31 Mar 2025: 13 lessons
+    private final LessonSeries weekly = new LessonSeries(TEN, ELEVEN, MONDAY, LocalDate.of(2025, 3, 31), 1, "Math");
+
+    @Test
+    public void constructor_invalidSeries_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonSeries(ELEVEN, TEN, MONDAY, MONDAY.plusWeeks(1), 1, "Math"));
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonSeries(TEN, ELEVEN, MONDAY, MONDAY.minusDays(1), 1, "Math"));
+        assertThrows(IllegalArgumentException.class, () ->
+                new LessonSeries(TEN, ELEVEN, MONDAY, MONDAY.plusWeeks(1), 0, "Math"));
+        assertThrows(IllegalArgumentException.class, () -> new LessonSeries(TEN, ELEVEN, MONDAY,
+                MONDAY.plusWeeks(LessonSeries.MAX_DATE_COUNT), 1, "Math"));
+    }
+
+    @Test
+    public void constructor_skippedDateNotSeriesDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LessonSeries(TEN, ELEVEN, MONDAY,
+                MONDAY.plusWeeks(4), 1, "Math", List.of(MONDAY.plusDays(1)), List.of()));
+    }
+
+    @Test
+    public void getLastDate_untilDateBetweenLessons_lastLessonDate() {
+        LessonSeries series = new LessonSeries(TEN, ELEVEN, MONDAY, MONDAY.plusDays(20), 2, "Math");
+        assertEquals(MONDAY.plusWeeks(2), series.getLastDate());
+        assertEquals(2, series.size());
+    }
+
+    @Test
+    public void getLessons_withSkippedDate_skipsDate() {
+        LessonSeries series = weekly.withSkippedDate(MONDAY.plusWeeks(1));
+        List<Lesson> lessons = series.getLessons();
+
+        assertEquals(12, series.size());
+        assertEquals(12, lessons.size());
+        assertEquals(new Lesson(TEN, ELEVEN, MONDAY, "Math"), lessons.get(0));
+        assertEquals(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(2), "Math"), lessons.get(1));
+        assertFalse(series.hasLessonOn(MONDAY.plusWeeks(1)));
+        assertTrue(series.isSeriesDate(MONDAY.plusWeeks(1)));
+    }
+
+    @Test
+    public void getLessonsBetween_partialRange_lessonsInRange() {
+        List<Lesson> lessons = weekly.getLessonsBetween(MONDAY.plusDays(1), MONDAY.plusWeeks(2));
+        assertEquals(List.of(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(1), "Math"),
+                new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(2), "Math")), lessons);
+        assertTrue(weekly.getLessonsBetween(MONDAY.minusWeeks(3), MONDAY.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void hasLessonBetween() {
+        assertTrue(weekly.hasLessonBetween(MONDAY, MONDAY));
+        assertTrue(weekly.hasLessonBetween(LocalDate.MIN, MONDAY));
+        assertTrue(weekly.hasLessonBetween(MONDAY.plusDays(1), MONDAY.plusWeeks(1)));
+        assertFalse(weekly.hasLessonBetween(MONDAY.plusDays(1), MONDAY.plusDays(6)));
+        assertFalse(weekly.hasLessonBetween(MONDAY.plusWeeks(12).plusDays(1), LocalDate.MAX.minusDays(1)));
+
+        // only skipped dates in range
+        LessonSeries skipped = weekly.withSkippedDate(MONDAY.plusWeeks(1)).withSkippedDate(MONDAY.plusWeeks(2));
+        assertFalse(skipped.hasLessonBetween(MONDAY.plusDays(1), MONDAY.plusWeeks(2)));
+        assertTrue(skipped.hasLessonBetween(MONDAY.plusDays(1), MONDAY.plusWeeks(3)));
+    }
+
+    @Test
+    public void withAttendance_markAndUnmark_attendanceRecorded() {
+        LessonSeries marked = weekly.withAttendance(MONDAY.plusWeeks(3), true);
+        assertEquals(1, marked.getAttendedCount());
+        assertEquals(List.of(MONDAY.plusWeeks(3)), marked.getAttendedDates());
+        assertTrue(marked.contains(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(3), "Math", true)));
+        assertFalse(marked.contains(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(3), "Math", false)));
+        assertEquals(0, weekly.getAttendedCount());
+
+        assertEquals(weekly, marked.withAttendance(MONDAY.plusWeeks(3), false));
+    }
+
+    @Test
+    public void withSkippedDate_notLessonDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> weekly.withSkippedDate(MONDAY.plusDays(3)));
+        LessonSeries skipped = weekly.withSkippedDate(MONDAY);
+        assertThrows(IllegalArgumentException.class, () -> skipped.withSkippedDate(MONDAY));
+    }
+
+    @Test
+    public void findOverlap_lesson() {
+        Lesson overlapping = new Lesson(LocalTime.of(10, 30), TWELVE, MONDAY.plusWeeks(5), "Art");
+        assertEquals(Optional.of(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(5), "Math")),
+                weekly.findOverlap(overlapping));
+
+        // adjacent lesson
+        assertFalse(weekly.findOverlap(new Lesson(ELEVEN, TWELVE, MONDAY, "Art")).isPresent());
+        // different day
+        assertFalse(weekly.findOverlap(new Lesson(TEN, ELEVEN, MONDAY.plusDays(1), "Art")).isPresent());
+        // skipped date
+        assertFalse(weekly.withSkippedDate(MONDAY.plusWeeks(5)).findOverlap(overlapping).isPresent());
+        // overnight lesson into a series date
+        Lesson overnight = new Lesson(LocalTime.of(23, 0), LocalTime.of(10, 30), MONDAY.minusDays(1), MONDAY,
+                "Camp", false);
+        assertTrue(weekly.findOverlap(overnight).isPresent());
+    }
+
+    @Test
+    public void findOverlap_series() {
+        LessonSeries biweeklyFromSecondWeek = new LessonSeries(LocalTime.of(10, 30), TWELVE, MONDAY.plusWeeks(1),
+                MONDAY.plusWeeks(9), 2, "Art");
+        assertEquals(Optional.of(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(1), "Math")),
+                weekly.findOverlap(biweeklyFromSecondWeek));
+
+        // skipping the first common dates moves the overlap to the next common date
+        LessonSeries skipped = weekly.withSkippedDate(MONDAY.plusWeeks(1)).withSkippedDate(MONDAY.plusWeeks(3));
+        assertEquals(Optional.of(new Lesson(TEN, ELEVEN, MONDAY.plusWeeks(5), "Math")),
+                skipped.findOverlap(biweeklyFromSecondWeek));
+
+        // different times
+        LessonSeries afternoon = new LessonSeries(TWELVE, LocalTime.of(13, 0), MONDAY, MONDAY.plusWeeks(9), 1,
+                "Art");
+        assertFalse(weekly.findOverlap(afternoon).isPresent());
+
+        // biweekly series on alternate weeks never meet
+        LessonSeries evenWeeks = new LessonSeries(TEN, ELEVEN, MONDAY, MONDAY.plusWeeks(20), 2, "Math");
+        LessonSeries oddWeeks = new LessonSeries(TEN, ELEVEN, MONDAY.plusWeeks(1), MONDAY.plusWeeks(21), 2, "Art");
+        assertFalse(evenWeeks.findOverlap(oddWeeks).isPresent());
+        assertFalse(oddWeeks.findOverlap(evenWeeks).isPresent());
+
+        // no common dates in range
+        LessonSeries later = new LessonSeries(TEN, ELEVEN, MONDAY.plusWeeks(20), MONDAY.plusWeeks(30), 1, "Art");
+        assertFalse(weekly.findOverlap(later).isPresent());
+    }
+
+    @Test
+    public void countLessonsUntil() {
+        LessonSeries skipped = weekly.withSkippedDate(MONDAY.plusWeeks(1));
+        assertEquals(0, skipped.countLessonsUntil(MONDAY.minusDays(1)));
+        assertEquals(1, skipped.countLessonsUntil(MONDAY));
+        assertEquals(1, skipped.countLessonsUntil(MONDAY.plusWeeks(1)));
+        assertEquals(2, skipped.countLessonsUntil(MONDAY.plusWeeks(2)));
+        assertEquals(12, skipped.countLessonsUntil(LocalDate.MAX));
+    }
+
+    @Test
+    public void size_longestSeries_independentOfExpansion() {
+        LessonSeries longSeries = new LessonSeries(TEN, ELEVEN, MONDAY,
+                MONDAY.plusWeeks(LessonSeries.MAX_DATE_COUNT - 1), 1, "Math");
+        assertEquals(LessonSeries.MAX_DATE_COUNT, longSeries.size());
+        assertTrue(longSeries.hasLessonOn(MONDAY.plusWeeks(500)));
+        assertTrue(longSeries.findOverlap(weekly).isPresent());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(weekly.equals(new LessonSeries(TEN, ELEVEN, MONDAY, LocalDate.of(2025, 4, 1), 1, "Math")));
+        assertTrue(weekly.equals(weekly));
+        assertFalse(weekly.equals(null));
+        assertFalse(weekly.equals(weekly.withSkippedDate(MONDAY)));
+        assertFalse(weekly.equals(weekly.withAttendance(MONDAY, true)));
+        assertFalse(weekly.equals(new LessonSeries(TEN, ELEVEN, MONDAY, LocalDate.of(2025, 3, 31), 2, "Math")));
+        assertFalse(weekly.equals(new LessonSeries(TEN, ELEVEN, MONDAY, LocalDate.of(2025, 3, 31), 1, "Art")));
+    }
+}
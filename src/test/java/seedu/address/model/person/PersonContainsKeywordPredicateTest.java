@@ -180,4 +180,23 @@ public class PersonContainsKeywordPredicateTest {
                 new PersonContainsKeywordPredicate(Collections.emptyList());
         assertTrue(predicate.test(new PersonBuilder().withName("Alice").build()));
     }
+
+    // ===========================================================
+    // refines()
+    // ===========================================================
+    @Test
+    public void refines() {
+        PersonContainsKeywordPredicate al = new PersonContainsKeywordPredicate(List.of("al"));
+
+        // keyword typed further
+        assertTrue(new PersonContainsKeywordPredicate(List.of("ALex")).refines(al));
+        assertTrue(new PersonContainsKeywordPredicate(List.of("alex", "sal")).refines(al));
+        // every predicate refines one without keywords
+        assertTrue(al.refines(new PersonContainsKeywordPredicate(Collections.emptyList())));
+
+        // another keyword matches more persons
+        assertFalse(new PersonContainsKeywordPredicate(List.of("alex", "bo")).refines(al));
+        assertFalse(new PersonContainsKeywordPredicate(List.of("a")).refines(al));
+        assertFalse(new PersonContainsKeywordPredicate(Collections.emptyList()).refines(al));
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void findMatches_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findMatches(null));
+    }
+
+    @Test
+    public void findMatches_sameResultsAsPredicate() {
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("Meier"),
+                Collections.singletonList("mei"),
+                Collections.singletonList("9482"),
+                Collections.singletonList("@EXAMPLE.com"),
+                Collections.singletonList("e"),
+                Collections.singletonList("zz"),
+                Collections.singletonList("nonexistent"),
+                Arrays.asList("Kurz", "Meier", "Elle"),
+                Collections.emptyList());
+
+        for (List<String> keywords : keywordLists) {
+            PersonContainsKeywordPredicate predicate = new PersonContainsKeywordPredicate(keywords);
+            Set<Person> matches = index.findMatches(keywords);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(predicate.test(person), matches.contains(person), keywords + " " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void findMatches_keywordSpanningFields_noMatch() {
+        // "paul94" would only match if name and phone were concatenated
+        assertTrue(index.findMatches(Collections.singletonList("paul94")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerMatched() {
+        index.remove(CARL);
+        assertFalse(index.findMatches(Collections.singletonList("Kurz")).contains(CARL));
+
+        // removing a person that is not indexed is a no-op
+        index.remove(CARL);
+    }
+
+    @Test
+    public void add_person_matched() {
+        Person zelda = new PersonBuilder().withName("Zelda Hyrule").build();
+        index.add(zelda);
+        assertEquals(Set.of(zelda), index.findMatches(Collections.singletonList("hyrule")));
+    }
+
+    @Test
+    public void toIndexedPredicate_agreesWithPredicate() {
+        PersonContainsKeywordPredicate predicate = new PersonContainsKeywordPredicate(Arrays.asList("meier", "alice"));
+        Predicate<Person> indexedPredicate = index.toIndexedPredicate(predicate);
+        for (Person person : getTypicalPersons()) {
+            assertEquals(predicate.test(person), indexedPredicate.test(person));
+        }
+    }
+
+    @Test
+    public void toIndexedPredicate_personIndexedAfterSnapshot_testedDirectly() {
+        Predicate<Person> indexedPredicate =
+                index.toIndexedPredicate(new PersonContainsKeywordPredicate(Collections.singletonList("meier")));
+
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("somewhere else").build();
+        index.remove(BENSON);
+        index.add(editedBenson);
+
+        assertTrue(indexedPredicate.test(editedBenson));
+        assertTrue(indexedPredicate.test(DANIEL));
+        assertFalse(indexedPredicate.test(ALICE));
+        assertFalse(indexedPredicate.test(ELLE));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TimetableIndexTest {
+
+    private static final Lesson MONDAY_MATH = new Lesson("10:00", "11:00", "2025-09-22", "Math");
+    private static final Lesson TUESDAY_SCIENCE = new Lesson("14:00", "15:00", "2025-09-23", "Science");
+    private static final Lesson OVERNIGHT_CAMP =
+            new Lesson("22:00", "02:00", "2025-09-22", "2025-09-23", "Camp", false);
+    private static final Lesson TUESDAY_ENGLISH = new Lesson("14:30", "15:30", "2025-09-23", "English");
+
+    private final Person alice = new PersonBuilder(ALICE).withLesson(MONDAY_MATH).withLesson(TUESDAY_SCIENCE).build();
+    private final Person benson = new PersonBuilder(BENSON).withLesson(OVERNIGHT_CAMP).build();
+    private final TimetableIndex index = new TimetableIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(Arrays.asList(alice, benson, CARL));
+    }
+
+    @Test
+    public void getEntriesOnDays_singleDay_includesLessonsStillRunning() {
+        List<TimetableEntry> tuesday = index.getEntriesOnDays(LocalDate.of(2025, 9, 23), LocalDate.of(2025, 9, 23));
+        assertEquals(Arrays.asList(new TimetableEntry(benson, OVERNIGHT_CAMP),
+                new TimetableEntry(alice, TUESDAY_SCIENCE)), tuesday);
+    }
+
+    @Test
+    public void getEntriesOnDays_week_chronologicalOrder() {
+        List<TimetableEntry> week = index.getEntriesOnDays(LocalDate.of(2025, 9, 22), LocalDate.of(2025, 9, 28));
+        assertEquals(Arrays.asList(new TimetableEntry(alice, MONDAY_MATH), new TimetableEntry(benson, OVERNIGHT_CAMP),
+                new TimetableEntry(alice, TUESDAY_SCIENCE)), week);
+        assertEquals(3, index.getLessonCount());
+    }
+
+    @Test
+    public void getClashes_otherStudentsLesson_returnsClash() {
+        assertEquals(Arrays.asList(new TimetableEntry(alice, TUESDAY_SCIENCE)),
+                index.getClashes(CARL, TUESDAY_ENGLISH));
+    }
+
+    @Test
+    public void getClashes_ownLesson_ignored() {
+        assertTrue(index.getClashes(alice, TUESDAY_ENGLISH).isEmpty());
+    }
+
+    @Test
+    public void getEntriesOnDays_lessonSeries_includesSeriesLessons() {
+        // Thursdays from 4 Sep 2025, every two weeks, for a year
+        LessonSeries series = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2025, 9, 4),
+                LocalDate.of(2026, 9, 3), 2, "Art");
+        Person carl = new PersonBuilder(CARL).withLessonList(new LessonList().addSeries(series)).build();
+        index.setPersons(Arrays.asList(alice, benson, carl));
+
+        List<TimetableEntry> fortnight = index.getEntriesOnDays(LocalDate.of(2025, 9, 15),
+                LocalDate.of(2025, 9, 28));
+        assertEquals(Arrays.asList(new TimetableEntry(carl, new Lesson("09:00", "10:00", "2025-09-18", "Art")),
+                new TimetableEntry(alice, MONDAY_MATH), new TimetableEntry(benson, OVERNIGHT_CAMP),
+                new TimetableEntry(alice, TUESDAY_SCIENCE)), fortnight);
+        assertEquals(3 + series.size(), index.getLessonCount());
+    }
+
+    @Test
+    public void getClashes_lessonSeries_returnsClashes() {
+        // Mondays from 1 Sep 2025 at 10:30, clashing with alice's Monday lesson
+        LessonSeries mondays = new LessonSeries(LocalTime.of(10, 30), LocalTime.of(11, 30), LocalDate.of(2025, 9, 1),
+                LocalDate.of(2025, 12, 29), 1, "Art");
+        assertEquals(Arrays.asList(new TimetableEntry(alice, MONDAY_MATH)), index.getClashes(CARL, mondays));
+        assertTrue(index.getClashes(alice, mondays).isEmpty());
+
+        Person carl = new PersonBuilder(CARL).withLessonList(new LessonList().addSeries(mondays)).build();
+        index.setPersons(Arrays.asList(alice, benson, carl));
+        LessonSeries otherMondays = new LessonSeries(LocalTime.of(11, 0), LocalTime.of(12, 0),
+                LocalDate.of(2025, 10, 6), LocalDate.of(2025, 10, 27), 1, "Music");
+        assertEquals(Arrays.asList(new TimetableEntry(carl, new Lesson("10:30", "11:30", "2025-10-06", "Art"))),
+                index.getClashes(benson, otherMondays));
+    }
+
+    @Test
+    public void remove_personWithSeries_seriesLessonsRemoved() {
+        // Mondays and Thursdays from 1 Sep 2025
+        LessonSeries mondays = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2025, 9, 1),
+                LocalDate.of(2025, 12, 29), 1, "Art");
+        LessonSeries thursdays = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2025, 9, 4),
+                LocalDate.of(2025, 12, 25), 1, "Music");
+        Person carl = new PersonBuilder(CARL).withLessonList(new LessonList().addSeries(mondays).addSeries(thursdays))
+                .build();
+        index.add(carl);
+        assertEquals(Arrays.asList(new TimetableEntry(carl, new Lesson("09:00", "10:00", "2025-09-25", "Music"))),
+                index.getEntriesOnDays(LocalDate.of(2025, 9, 25), LocalDate.of(2025, 9, 25)));
+
+        index.remove(carl);
+        assertTrue(index.getEntriesOnDays(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 12, 31)).stream()
+                .noneMatch(entry -> entry.getPerson() == carl));
+        assertEquals(3, index.getLessonCount());
+    }
+
+    @Test
+    public void remove_person_lessonsRemoved() {
+        index.remove(alice);
+        assertTrue(index.getClashes(CARL, TUESDAY_ENGLISH).isEmpty());
+        assertEquals(1, index.getLessonCount());
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonList;
+import seedu.address.model.person.LessonSeries;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryCondition.Field;
+import seedu.address.model.query.QueryCondition.Operator;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryCompilerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 9, 22);
+
+    private static final QueryCondition FRIENDS = new QueryCondition(Field.TAG, Operator.EQUALS, "FRIENDS");
+    private static final QueryCondition MEIER = new QueryCondition(Field.NAME, Operator.CONTAINS, "meier");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        // Alice has a lesson on Wednesday; Benson has a lesson every Monday from 22 September to 6 October
+        LessonSeries mondays = new LessonSeries(LocalTime.of(10, 0), LocalTime.of(11, 0), MONDAY,
+                MONDAY.plusWeeks(2), 1, "Math");
+        model.setPerson(ALICE, new PersonBuilder(ALICE)
+                .withAttributes(new Attribute("level", "Sec4"))
+                .withGrades(new Grade("MATH", "WA1", "45"), new Grade("SCIENCE", "WA1", "95"))
+                .withLesson(new Lesson("14:00", "15:00", "2025-09-24", "Science")).build());
+        model.setPerson(BENSON, new PersonBuilder(BENSON)
+                .withGrades(new Grade("MATH", "WA1", "18/20"), new Grade("MATH", "WA2", "A"))
+                .withLessonList(new LessonList(new ArrayList<>(), List.of(mondays))).build());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new QueryCompiler(null));
+        assertThrows(NullPointerException.class, () -> new QueryCompiler(model).compile(null));
+    }
+
+    @Test
+    public void compile_textConditions() {
+        assertEquals(List.of("Benson Meier", "Daniel Meier"), query(MEIER));
+        assertEquals(List.of("Carl Kurz"), query(new QueryCondition(Field.NAME, Operator.EQUALS, "carl KURZ")));
+        assertEquals(List.of("Alice Paul", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer",
+                "George Best"), query(new QueryCondition(Field.ADDRESS, Operator.NOT_EQUALS, "little tokyo")));
+        assertEquals(List.of("Benson Meier"), query(new QueryCondition(Field.REMARK, Operator.CONTAINS, "BEER")));
+    }
+
+    @Test
+    public void compile_tagConditions() {
+        assertEquals(List.of("Alice Paul", "Benson Meier", "Daniel Meier"), query(FRIENDS));
+        assertEquals(List.of("Benson Meier"), query(new QueryCondition(Field.TAG, Operator.CONTAINS, "owe")));
+        assertEquals(List.of("Carl Kurz", "Elle Meyer", "Fiona Kunz", "George Best"),
+                query(new QueryCondition(Field.TAG, Operator.NOT_EQUALS, "friends")));
+    }
+
+    @Test
+    public void compile_indexedConditions() {
+        assertEquals(List.of("Carl Kurz"), query(new QueryCondition(Field.SEARCH, Operator.CONTAINS, "heinz")));
+        assertEquals(List.of("Alice Paul"),
+                query(new QueryCondition(Field.ATTRIBUTE, "Level", Operator.EQUALS, "math, SEC4")));
+        assertEquals(6, query(new QueryCondition(Field.ATTRIBUTE, "level", Operator.NOT_EQUALS, "sec4")).size());
+    }
+
+    @Test
+    public void compile_gradeConditions() {
+        assertEquals(List.of("Alice Paul"), query(new QueryCondition(Field.GRADE, "math", Operator.LESS_THAN, "50")));
+        assertEquals(List.of("Benson Meier"),
+                query(new QueryCondition(Field.GRADE, "Math/wa1", Operator.AT_LEAST, "90%")));
+        assertEquals(List.of("Benson Meier"), query(new QueryCondition(Field.GRADE, "math", Operator.EQUALS, "90")));
+        // Alice scored more than 80 in Science, but not in Math
+        assertEquals(List.of("Benson Meier"),
+                query(new QueryCondition(Field.GRADE, "math", Operator.GREATER_THAN, "80")));
+        // Benson's letter grade is not compared
+        assertEquals(List.of(), query(new QueryCondition(Field.GRADE, "math/wa2", Operator.GREATER_THAN, "0")));
+        // Persons without any Math grade are not equal to 45 either
+        assertEquals(6, query(new QueryCondition(Field.GRADE, "math", Operator.NOT_EQUALS, "45")).size());
+    }
+
+    @Test
+    public void compile_lessonConditions() {
+        assertEquals(List.of("Alice Paul"), query(new QueryCondition(Field.LESSON, Operator.EQUALS, "2025-09-24")));
+        assertEquals(List.of("Alice Paul", "Benson Meier"),
+                query(new QueryCondition(Field.LESSON, Operator.EQUALS, "2025-09-23..2025-09-29")));
+        assertEquals(List.of(), query(new QueryCondition(Field.LESSON, Operator.EQUALS, "2025-09-25..2025-09-28")));
+        assertEquals(List.of("Benson Meier"), query(new QueryCondition(Field.LESSON, Operator.LESS_THAN,
+                "2025-09-24")));
+        assertEquals(List.of("Alice Paul", "Benson Meier"),
+                query(new QueryCondition(Field.LESSON, Operator.AT_MOST, "2025-09-24")));
+        assertEquals(List.of("Benson Meier"), query(new QueryCondition(Field.LESSON, Operator.GREATER_THAN,
+                "2025-09-24")));
+        assertEquals(List.of(), query(new QueryCondition(Field.LESSON, Operator.AT_LEAST, "2025-10-07")));
+    }
+
+    @Test
+    public void compile_junctions() {
+        assertEquals(List.of("Alice Paul"), query(QueryExpression.and(List.of(FRIENDS, QueryExpression.not(MEIER)))));
+        assertEquals(List.of("Alice Paul", "Benson Meier", "Daniel Meier", "Elle Meyer"),
+                query(QueryExpression.or(List.of(FRIENDS, new QueryCondition(Field.NAME, Operator.CONTAINS, "elle")))));
+        assertEquals(query(MEIER), query(QueryExpression.not(QueryExpression.not(MEIER))));
+
+        // Nested junctions and repeated operands
+        QueryExpression nested = QueryExpression.and(List.of(FRIENDS,
+                QueryExpression.and(List.of(MEIER, FRIENDS)),
+                QueryExpression.or(List.of(new QueryCondition(Field.SEARCH, Operator.CONTAINS, "daniel"),
+                        new QueryCondition(Field.GRADE, "math", Operator.AT_LEAST, "50")))));
+        assertEquals(List.of("Benson Meier", "Daniel Meier"), query(nested));
+    }
+
+    @Test
+    public void compile_operandOrder_sameResult() {
+        List<QueryExpression> operands = List.of(
+                new QueryCondition(Field.LESSON, Operator.GREATER_THAN, "2025-01-01"),
+                new QueryCondition(Field.GRADE, "math", Operator.GREATER_THAN, "10"),
+                MEIER,
+                new QueryCondition(Field.SEARCH, Operator.CONTAINS, "benson"));
+        List<QueryExpression> reversed = new ArrayList<>(operands);
+        Collections.reverse(reversed);
+
+        assertEquals(List.of("Benson Meier"), query(QueryExpression.and(operands)));
+        assertEquals(List.of("Benson Meier"), query(QueryExpression.and(reversed)));
+        assertEquals(query(QueryExpression.or(operands)), query(QueryExpression.or(reversed)));
+        assertEquals(List.of("Alice Paul", "Benson Meier", "Daniel Meier"), query(QueryExpression.or(operands)));
+    }
+
+    @Test
+    public void compile_personEditedAfterCompiling_matchesEditedPerson() {
+        QueryCondition onWednesday = new QueryCondition(Field.LESSON, Operator.EQUALS, "2025-09-24");
+        Predicate<Person> predicate = new QueryCompiler(model).compile(onWednesday);
+
+        Person carl = model.getFilteredPersonList().get(2);
+        Person editedCarl = new PersonBuilder(carl).withLesson(new Lesson("09:00", "10:00", "2025-09-24", "Art"))
+                .build();
+        model.setPerson(carl, editedCarl);
+        model.updateFilteredPersonList(predicate);
+
+        assertEquals(List.of(ALICE.getName(), editedCarl.getName()), model.getFilteredPersonList().stream()
+                .map(Person::getName).collect(Collectors.toList()));
+    }
+
+    private List<String> query(QueryExpression expression) {
+        Predicate<Person> predicate = new QueryCompiler(model).compile(expression);
+        return model.getAddressBook().getPersonList().stream()
+                .filter(predicate)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.toList());
+    }
+}
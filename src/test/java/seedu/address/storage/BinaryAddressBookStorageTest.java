@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Attribute;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.Lesson;
+import seedu.address.model.person.LessonSeries;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withRemark("Prefers mornings")
+                .withAttributes(new Attribute("subject", Arrays.asList("math", "physics")), new Attribute("age", "15"))
+                .withLesson(new Lesson("09:00", "11:30", "2025-01-06", "math", true))
+                .withGrades(new Grade("math", "WA1", "85"), new Grade("physics", "WA1", "A"))
+                .build());
+        Person first = original.getPersonList().get(0);
+        LessonSeries series = new LessonSeries(LocalTime.of(16, 0), LocalTime.of(17, 0), LocalDate.of(2025, 1, 7),
+                LocalDate.of(2025, 4, 1), 1, "chemistry", List.of(LocalDate.of(2025, 2, 11)),
+                List.of(LocalDate.of(2025, 1, 7)));
+        original.setPerson(first, new PersonBuilder(first)
+                .withLessonList(first.getLessonList().addSeries(series)).build());
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertJsonToBinaryAndBack_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        binaryStorage.saveAddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(convertedFilePath).saveAddressBook(binaryStorage.readAddressBook().get());
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.write(filePath, ByteBuffer.allocate(12).putInt(BinaryAddressBookFormat.MAGIC)
+                .putInt(BinaryAddressBookFormat.VERSION + 1).putInt(0).array());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutLessonSeries_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.write(filePath, ByteBuffer.allocate(16).putInt(BinaryAddressBookFormat.MAGIC)
+                .putInt(1).putInt(0).putInt(0).array());
+        assertEquals(new AddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalFilePath = JournalingAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_invalidCompactionInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournalingAddressBookStorage(filePath, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalingAddressBookStorage(filePath, 10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_singleChanges_appendedToJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original); // no changes, nothing appended
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compacted() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void compactAddressBook_journaledChanges_foldedIntoDataFile() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compactAddressBook();
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_continuesJournalAfterRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournalingAddressBookStorage(filePath, 10).saveAddressBook(original);
+
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_skipped() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(journalFilePath, "{\"index\":0,\"removed\":1,\"pers");
+
+        JournalingAddressBookStorage readStorage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook readBack = new AddressBook(readStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // the next save rewrites the data file instead of appending after the incomplete entry
+        readBack.addPerson(IDA);
+        readStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.appendToFile(journalFilePath, "{\"index\":100,\"removed\":1,\"persons\":[]}\n");
+
+        assertThrows(DataLoadingException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recovered() throws Exception {
+        AddressBook compacted = getTypicalAddressBook();
+        compacted.addPerson(HOON);
+        Path compactionFilePath = testFolder.resolve("addressbook.json" + JournalingAddressBookStorage
+                .COMPACTION_FILE_SUFFIX);
+
+        // journal already removed: the new snapshot is complete
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(compactionFilePath).saveAddressBook(compacted);
+        assertEquals(compacted, readWithNewStorage());
+        assertFalse(Files.exists(compactionFilePath));
+
+        // journal still present: the old snapshot and journal are complete
+        new JsonAddressBookStorage(compactionFilePath).saveAddressBook(new AddressBook());
+        Files.write(journalFilePath, List.of());
+        assertEquals(compacted, readWithNewStorage());
+        assertFalse(Files.exists(compactionFilePath));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompactionWithoutJournal_oldSnapshotKept() throws Exception {
+        Path compactionFilePath = testFolder.resolve("addressbook.json" + JournalingAddressBookStorage
+                .COMPACTION_FILE_SUFFIX);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(compactionFilePath).saveAddressBook(getTypicalAddressBook());
+        String compaction = FileUtil.readFromFile(compactionFilePath);
+        FileUtil.writeToFile(compactionFilePath, compaction.substring(0, compaction.length() / 2));
+
+        assertEquals(getTypicalAddressBook(), readWithNewStorage());
+        assertFalse(Files.exists(compactionFilePath));
+    }
+
+    /**
+     * Reads the address book at {@code filePath} with a new {@code JournalingAddressBookStorage}.
+     */
+    private AddressBook readWithNewStorage() throws DataLoadingException {
+        return new AddressBook(new JournalingAddressBookStorage(filePath, 10).readAddressBook().get());
+    }
+}
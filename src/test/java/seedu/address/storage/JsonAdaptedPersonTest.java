@@ -5,6 +5,8 @@ import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORM
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.LessonSeries;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -48,6 +53,25 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_withLessonSeries_returnsPerson() throws Exception {
+        LessonSeries series = new LessonSeries(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2025, 1, 6),
+                LocalDate.of(2025, 6, 30), 2, "Math", List.of(LocalDate.of(2025, 2, 3)),
+                List.of(LocalDate.of(2025, 1, 6)));
+        Person person = new PersonBuilder(BENSON)
+                .withLessonList(BENSON.getLessonList().addSeries(series)).build();
+        assertEquals(person, new JsonAdaptedPerson(person).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidLessonSeries_throwsIllegalValueException() {
+        JsonAdaptedLessonSeries invalidSeries = new JsonAdaptedLessonSeries("09:00", "10:00", "2025-01-06",
+                "2025-06-30", 1, "Math", List.of("2025-01-07"), List.of());
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_REMARK, VALID_TAGS, VALID_ATTRIBUTES, VALID_LESSON_LIST, List.of(invalidSeries), VALID_GRADES);
+        assertThrows(IllegalValueException.class, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
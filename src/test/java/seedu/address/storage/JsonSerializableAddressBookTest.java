@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -8,9 +9,12 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.testutil.TestUtil;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +48,43 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = new AddressBook(
+                JsonSerializableAddressBook.readModelType(TYPICAL_PERSONS_FILE).get());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readModelType_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonSerializableAddressBook.readModelType(TEST_DATA_FOLDER.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readModelType_otherFields_skipped() throws Exception {
+        Path filePath = TestUtil.getFilePathInSandboxFolder("otherFieldsAddressBook.json");
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"persons\" : [ 1 ] }, \"persons\" : [ ], \"tags\" : [ ] }");
+        assertEquals(new AddressBook(), new AddressBook(JsonSerializableAddressBook.readModelType(filePath).get()));
+    }
+
+    @Test
+    public void readModelType_personsNotArray_throwsDataLoadingException() throws Exception {
+        Path filePath = TestUtil.getFilePathInSandboxFolder("personsNotArrayAddressBook.json");
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, "{ \"persons\" : \"Alice\" }");
+        assertThrows(DataLoadingException.class, () -> JsonSerializableAddressBook.readModelType(filePath));
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonSerializableAddressBook.readModelType(DUPLICATE_PERSON_FILE));
+    }
+
 }
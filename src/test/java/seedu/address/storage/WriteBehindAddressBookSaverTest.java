@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookSaver(null));
+    }
+
+    @Test
+    public void requestSave_thenFlush_savesSnapshot() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON); // changes after the request are not part of the snapshot
+        saver.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_thenFlush_writeTimed() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        List<Long> writeTimes = new ArrayList<>();
+        saver.setWriteTimeHandler(writeTimes::add);
+
+        saver.requestSave(getTypicalAddressBook());
+        saver.flush();
+        saver.flush(); // nothing pending, so nothing written
+
+        assertEquals(1, writeTimes.size());
+        assertTrue(writeTimes.get(0) > 0);
+    }
+
+    @Test
+    public void requestSave_whileSaving_coalescesPendingSnapshots() throws Exception {
+        BlockingStorageStub storage = new BlockingStorageStub(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+
+        saver.requestSave(new AddressBook());
+        assertTrue(storage.saveStarted.await(5, TimeUnit.SECONDS));
+
+        AddressBook addressBook = new AddressBook();
+        for (Person person : List.of(ALICE, BENSON, HOON)) {
+            addressBook.addPerson(person);
+            saver.requestSave(addressBook);
+        }
+        storage.releaseSave.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void requestSave_storageThrows_reportsFailure() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(exception, failures.get(0));
+    }
+
+    /**
+     * A storage that records the address books it saves, and blocks its first save until released.
+     */
+    private static class BlockingStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseSave = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+        BlockingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                releaseSave.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            savedAddressBooks.add(addressBook);
+        }
+    }
+}